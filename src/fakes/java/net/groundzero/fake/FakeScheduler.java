@@ -0,0 +1,112 @@
+package net.groundzero.fake;
+
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Single-threaded tick scheduler behind the fake BukkitScheduler.
+ *
+ * - Nothing runs until tick() is called; tick() advances the clock by one and runs every
+ *   task that is due, in (due tick, schedule order). Tasks scheduled while ticking run
+ *   no earlier than the next tick, like on a server.
+ * - Async tasks run on the same thread on the next tick: runs stay deterministic.
+ * - Scheduling is thread-safe like Bukkit's: real background threads (profile I/O lanes)
+ *   hand results back with runTask, which then runs on the next tick().
+ */
+public final class FakeScheduler {
+
+    private static final Logger LOG = Logger.getLogger("GroundZero-fake");
+
+    private static final class Task {
+        final int id;
+        final Runnable r;
+        final long period;   // <= 0: one-shot
+        long due;
+        boolean cancelled;
+
+        Task(int id, Runnable r, long due, long period) {
+            this.id = id;
+            this.r = r;
+            this.due = due;
+            this.period = period;
+        }
+    }
+
+    private final PriorityQueue<Task> queue = new PriorityQueue<>((a, b) ->
+            a.due != b.due ? Long.compare(a.due, b.due) : Integer.compare(a.id, b.id));
+    private final Map<Integer, Task> byId = new HashMap<>();
+    private long now = 0;
+    private int nextId = 1;
+
+    public long now() { return now; }
+
+    public synchronized int pending() { return byId.size(); }
+
+    public synchronized BukkitTask schedule(Runnable r, long delay, long period) {
+        Task t = new Task(nextId++, r, now + Math.max(1L, delay), period);
+        queue.add(t);
+        byId.put(t.id, t);
+        return handle(t);
+    }
+
+    public synchronized void cancel(int id) {
+        Task t = byId.remove(id);
+        if (t != null) t.cancelled = true;
+    }
+
+    public synchronized void cancelAll() {
+        for (Task t : byId.values()) t.cancelled = true;
+        byId.clear();
+        queue.clear();
+    }
+
+    /** Advance one tick and run what is due. */
+    public synchronized void tick() {
+        now++;
+        while (!queue.isEmpty() && queue.peek().due <= now) {
+            Task t = queue.poll();
+            if (t.cancelled) continue;
+            try {
+                t.r.run();
+            } catch (Throwable ex) {
+                LOG.log(Level.WARNING, "[FakeScheduler] task " + t.id + " failed", ex);
+            }
+            if (t.period > 0 && !t.cancelled) {
+                t.due = now + t.period;
+                queue.add(t);
+            } else {
+                byId.remove(t.id);
+            }
+        }
+    }
+
+    /* ===================== Bukkit view ===================== */
+
+    public BukkitScheduler asBukkit() {
+        return Fakes.stub(BukkitScheduler.class, Map.<String, Function<Object[], Object>>of(
+                "runTask", args -> schedule((Runnable) args[1], 1L, 0L),
+                "runTaskLater", args -> schedule((Runnable) args[1], (long) args[2], 0L),
+                "runTaskTimer", args -> schedule((Runnable) args[1], (long) args[2], (long) args[3]),
+                "runTaskAsynchronously", args -> schedule((Runnable) args[1], 1L, 0L),
+                "runTaskLaterAsynchronously", args -> schedule((Runnable) args[1], (long) args[2], 0L),
+                "cancelTask", args -> { cancel((int) args[0]); return null; },
+                "isQueued", args -> byId.containsKey((int) args[0])
+        ));
+    }
+
+    private BukkitTask handle(Task t) {
+        return Fakes.stub(BukkitTask.class, Map.<String, Function<Object[], Object>>of(
+                "getTaskId", args -> t.id,
+                "isCancelled", args -> t.cancelled,
+                "isSync", args -> true,
+                "cancel", args -> { cancel(t.id); return null; }
+        ));
+    }
+}
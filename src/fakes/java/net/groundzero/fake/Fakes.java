@@ -0,0 +1,272 @@
+package net.groundzero.fake;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.GameMode;
+import org.bukkit.Location;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.WorldBorder;
+import org.bukkit.entity.Arrow;
+import org.bukkit.entity.Player;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.projectiles.ProjectileSource;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scoreboard.Scoreboard;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * Thin server fakes for benchmarks and headless runs (no MockBukkit, no running server).
+ *
+ * Every Bukkit type on our paths is an interface, so a fake is a dynamic proxy:
+ * - methods listed in overrides answer from the fake's own state (players, tick, border, PDC map);
+ * - any other method returning an interface answers a cached deep stub of that interface,
+ *   primitives answer 0/false, strings "", collections empty, everything else null.
+ * Side effects (packets, sounds, scoreboards) therefore cost one proxy dispatch, which keeps
+ * the measurement on our code.
+ *
+ * One flat world ("sim", surface at y 64) with a stateful border; players are positions
+ * the caller moves (state(id)).
+ */
+public final class Fakes {
+
+    private static final Logger LOG = Logger.getLogger("GroundZero-fake");
+
+    /** Mutable state behind a fake player. */
+    public static final class PlayerState {
+        public final UUID id;
+        public final String name;
+        public double x, z;
+        public GameMode mode = GameMode.SURVIVAL;
+        public double health = 20.0;
+        Scoreboard board;
+
+        PlayerState(UUID id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    /** Mutable state behind the world border (resizes apply at once). */
+    private static final class BorderState {
+        double cx, cz;
+        double size = 60_000_000;
+    }
+
+    public static final FakeScheduler SCHEDULER = new FakeScheduler();
+
+    private static final Map<UUID, Player> PLAYERS = new LinkedHashMap<>();
+    private static final Map<UUID, PlayerState> STATES = new HashMap<>();
+    private static final BorderState BORDER = new BorderState();
+    private static World world;
+    private static BukkitScheduler schedulerView;
+    private static boolean installed = false;
+
+    private Fakes() {}
+
+    /* ===================== server ===================== */
+
+    /** Install the fake server once per JVM (Bukkit.setServer refuses a second call). */
+    public static synchronized void installServer() {
+        if (installed) return;
+        installed = true;
+        world = newWorld();
+        schedulerView = SCHEDULER.asBukkit();
+        Bukkit.setServer(stub(Server.class, Map.<String, Function<Object[], Object>>of(
+                "getPlayer", args -> args[0] instanceof UUID id ? PLAYERS.get(id) : null,
+                "getOnlinePlayers", args -> PLAYERS.values(),
+                "getCurrentTick", args -> (int) SCHEDULER.now(),
+                "getScheduler", args -> schedulerView,
+                "getWorlds", args -> List.of(world),
+                "getLogger", args -> LOG,
+                "getName", args -> "fake",
+                "getVersion", args -> "fake",
+                "getBukkitVersion", args -> "fake",
+                "isPrimaryThread", args -> true
+        )));
+    }
+
+    /** Advance the fake clock one tick (runs due scheduler tasks). */
+    public static void advanceTick() { SCHEDULER.tick(); }
+
+    /**
+     * Fake plugin. enabled=false keeps services from scheduling deferred flushes (benchmarks);
+     * dataFolder receives bundled resources on saveResource (headless runs).
+     */
+    public static Plugin plugin(boolean enabled, File dataFolder) {
+        return stub(Plugin.class, Map.<String, Function<Object[], Object>>of(
+                "getName", args -> "GroundZero",
+                "isEnabled", args -> enabled,
+                "getLogger", args -> LOG,
+                "getDataFolder", args -> dataFolder,
+                "saveResource", args -> { copyResource(dataFolder, (String) args[0]); return null; }
+        ));
+    }
+
+    private static void copyResource(File dataFolder, String name) {
+        try (InputStream in = Fakes.class.getClassLoader().getResourceAsStream(name)) {
+            if (in == null || dataFolder == null) return;
+            File out = new File(dataFolder, name);
+            Files.createDirectories(out.getParentFile().toPath());
+            Files.copy(in, out.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException ex) {
+            LOG.warning("[Fakes] cannot copy resource " + name + ": " + ex.getMessage());
+        }
+    }
+
+    /* ===================== world ===================== */
+
+    public static World world() { return world; }
+
+    private static World newWorld() {
+        UUID uid = UUID.nameUUIDFromBytes("sim".getBytes());
+        Object[] self = new Object[1];
+        WorldBorder border = stub(WorldBorder.class, Map.<String, Function<Object[], Object>>of(
+                "getSize", args -> BORDER.size,
+                "setSize", args -> { BORDER.size = (double) args[0]; return null; },
+                "getCenter", args -> new Location((World) self[0], BORDER.cx, 64, BORDER.cz),
+                "setCenter", args -> {
+                    if (args[0] instanceof Location l) { BORDER.cx = l.getX(); BORDER.cz = l.getZ(); }
+                    else { BORDER.cx = (double) args[0]; BORDER.cz = (double) args[1]; }
+                    return null;
+                },
+                "isInside", args -> {
+                    Location l = (Location) args[0];
+                    double h = BORDER.size / 2.0;
+                    return Math.abs(l.getX() - BORDER.cx) <= h && Math.abs(l.getZ() - BORDER.cz) <= h;
+                }
+        ));
+        Chunk chunk = stub(Chunk.class, Map.of());
+        World w = stub(World.class, Map.<String, Function<Object[], Object>>of(
+                "getName", args -> "sim",
+                "getUID", args -> uid,
+                "getWorldBorder", args -> border,
+                "getHighestBlockYAt", args -> 64,
+                "getMinHeight", args -> -64,
+                "getMaxHeight", args -> 320,
+                "isChunkLoaded", args -> true,
+                "getChunkAt", args -> chunk,
+                "getChunkAtAsync", args -> CompletableFuture.completedFuture(chunk)
+        ));
+        self[0] = w;
+        return w;
+    }
+
+    /* ===================== players ===================== */
+
+    public static Player addPlayer(String name) {
+        UUID id = UUID.nameUUIDFromBytes(name.getBytes());
+        PlayerState st = new PlayerState(id, name);
+        Map<String, Function<Object[], Object>> o = new HashMap<>();
+        o.put("getUniqueId", args -> id);
+        o.put("getName", args -> name);
+        o.put("isOnline", args -> true);
+        o.put("isDead", args -> false);
+        o.put("getWorld", args -> world);
+        o.put("getLocation", args -> new Location(world, st.x, 64, st.z));
+        o.put("teleport", args -> {
+            Location l = (Location) args[0];
+            st.x = l.getX();
+            st.z = l.getZ();
+            return true;
+        });
+        o.put("getGameMode", args -> st.mode);
+        o.put("setGameMode", args -> { st.mode = (GameMode) args[0]; return null; });
+        o.put("getHealth", args -> st.health);
+        o.put("setHealth", args -> { st.health = (double) args[0]; return null; });
+        o.put("getScoreboard", args -> st.board);
+        o.put("setScoreboard", args -> { st.board = (Scoreboard) args[0]; return null; });
+        o.put("getSpectatorTarget", args -> null);
+
+        Player p = stub(Player.class, o);
+        PLAYERS.put(id, p);
+        STATES.put(id, st);
+        return p;
+    }
+
+    public static PlayerState state(UUID id) { return STATES.get(id); }
+
+    public static void clearPlayers() {
+        PLAYERS.clear();
+        STATES.clear();
+    }
+
+    /* ===================== entities ===================== */
+
+    /** Arrow whose PDC is a plain map (has/get/set by key, type ignored). */
+    public static Arrow arrow(Map<Object, Object> pdcValues) {
+        return arrow(pdcValues, null);
+    }
+
+    public static Arrow arrow(Map<Object, Object> pdcValues, ProjectileSource shooter) {
+        PersistentDataContainer pdc = stub(PersistentDataContainer.class, Map.<String, Function<Object[], Object>>of(
+                "has", args -> pdcValues.containsKey(args[0]),
+                "get", args -> pdcValues.get(args[0]),
+                "set", args -> pdcValues.put(args[0], args[2])
+        ));
+        return stub(Arrow.class, Map.<String, Function<Object[], Object>>of(
+                "getPersistentDataContainer", args -> pdc,
+                "getShooter", args -> shooter,
+                "getWorld", args -> world
+        ));
+    }
+
+    /* ===================== deep stub ===================== */
+
+    @SuppressWarnings("unchecked")
+    public static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> overrides) {
+        Map<Method, Object> cache = new HashMap<>();
+        return (T) Proxy.newProxyInstance(Fakes.class.getClassLoader(), new Class<?>[]{ type }, (proxy, m, args) -> {
+            Function<Object[], Object> o = overrides.get(m.getName());
+            if (o != null) return o.apply(args == null ? new Object[0] : args);
+
+            switch (m.getName()) {
+                case "equals": return proxy == args[0];
+                case "hashCode": return System.identityHashCode(proxy);
+                case "toString": return "Fake" + type.getSimpleName();
+                default: break;
+            }
+            return cache.computeIfAbsent(m, Fakes::defaultFor);
+        });
+    }
+
+    private static Object defaultFor(Method m) {
+        Class<?> r = m.getReturnType();
+        if (r == void.class) return null;
+        if (r == boolean.class) return false;
+        if (r == int.class) return 0;
+        if (r == long.class) return 0L;
+        if (r == double.class) return 0.0;
+        if (r == float.class) return 0f;
+        if (r == short.class) return (short) 0;
+        if (r == byte.class) return (byte) 0;
+        if (r == char.class) return '\0';
+        if (r == String.class) return "";
+        if (r == Logger.class) return LOG;
+        if (r == Optional.class) return Optional.empty();
+        if (r == List.class || r == Collection.class || r == Iterable.class) return List.of();
+        if (r == Set.class) return Set.of();
+        if (r == Map.class) return Map.of();
+        if (r.isInterface() && !r.getName().startsWith("java.")) return stub(r, Map.of());
+        return null;
+    }
+}
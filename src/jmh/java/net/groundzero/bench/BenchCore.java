@@ -0,0 +1,99 @@
+package net.groundzero.bench;
+
+import net.groundzero.app.Core;
+import net.groundzero.fake.Fakes;
+import net.groundzero.game.GameConfig;
+import net.groundzero.game.GameManager;
+import net.groundzero.game.GameState;
+import net.groundzero.item.ItemRegistry;
+import net.groundzero.metrics.Metrics;
+import net.groundzero.service.CombatIdleService;
+import net.groundzero.service.CooldownService;
+import net.groundzero.service.DamageService;
+import net.groundzero.service.GameRuntimeService;
+import net.groundzero.service.HudService;
+import net.groundzero.service.LoadoutService;
+import net.groundzero.service.RespawnService;
+import net.groundzero.service.ScoreboardService;
+import net.groundzero.service.ShopService;
+import net.groundzero.service.SpectatorViewService;
+import net.groundzero.service.StatusEffectService;
+import net.groundzero.service.ZoneService;
+import net.groundzero.service.tick.TickBus;
+import net.groundzero.util.GameClock;
+import net.groundzero.util.NotificationChannel;
+import net.groundzero.util.Notifier;
+import net.groundzero.util.Randoms;
+import net.groundzero.util.Schedulers;
+import org.bukkit.WorldBorder;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Wires the Core services the benchmarks touch, against Fakes, without Core.init
+ * (which needs a real plugin folder for the item registry).
+ * Leaves a RUNNING session with n participants spread on a 20-block grid around (0, 0),
+ * in the fake world, with a 400-block border centered on the origin.
+ */
+public final class BenchCore {
+
+    private BenchCore() {}
+
+    public static List<Player> boot(int participants) {
+        Fakes.installServer();
+        Fakes.clearPlayers();
+
+        Core.plugin = Fakes.plugin(false, null);
+        Core.gameConfig = GameConfig.defaults();
+        Core.itemRegistry = new ItemRegistry(); // empty table: payload weapon keys resolve to null
+        Core.clock = new GameClock(() -> (int) Fakes.SCHEDULER.now());
+        Core.randoms = new Randoms(1L);
+        Core.game = new GameManager();
+        Core.session = Core.game.session();
+        Core.schedulers = new Schedulers(Core.plugin);
+        Core.metrics = new Metrics();
+        Core.notifier = new Notifier();
+        Core.notifications = new NotificationChannel();
+        Core.tickBus = new TickBus();
+
+        Core.damageService = new DamageService();
+        Core.combatIdleService = new CombatIdleService();
+        Core.hudService = new HudService();
+        Core.scoreboardService = new ScoreboardService();
+        Core.statusEffectService = new StatusEffectService();
+        Core.zoneService = new ZoneService();
+        Core.cooldownService = new CooldownService();
+        Core.spectatorViewService = new SpectatorViewService();
+        Core.respawnService = new RespawnService();
+        Core.gameRuntimeService = new GameRuntimeService();
+        Core.loadoutService = new LoadoutService();
+        Core.shopService = new ShopService();
+
+        // the border is shared fake state: undo what an earlier trial's zone did to it
+        WorldBorder wb = Fakes.world().getWorldBorder();
+        wb.setCenter(0.0, 0.0);
+        wb.setSize(400.0);
+        Core.session.setWorld(Fakes.world());
+
+        List<Player> players = new ArrayList<>(participants);
+        for (int i = 0; i < participants; i++) {
+            Player p = Fakes.addPlayer("bench" + i);
+            Fakes.PlayerState st = Fakes.state(p.getUniqueId());
+            st.x = (i % 20) * 20 - 190;
+            st.z = (i / 20 % 20) * 20 - 190;
+            players.add(p);
+            Core.session.addSpectator(p.getUniqueId());
+        }
+        Core.session.snapshotParticipantsFromSpectators();
+        for (Player p : players) {
+            Core.session.getScoreMap().put(p.getUniqueId(), Core.gameConfig.baseScore);
+            Core.session.getPlasmaMap().put(p.getUniqueId(), Core.gameConfig.basePlasma);
+        }
+        Core.session.setMatchTotalTicks(Core.gameConfig.matchDurationTicks);
+        Core.session.setRemainingTicks(Core.gameConfig.matchDurationTicks);
+        Core.session.setState(GameState.RUNNING);
+        return players;
+    }
+}
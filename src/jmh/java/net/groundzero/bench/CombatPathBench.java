@@ -0,0 +1,77 @@
+package net.groundzero.bench;
+
+import net.groundzero.app.Core;
+import net.groundzero.fake.Fakes;
+import net.groundzero.service.ProjectileService;
+import net.groundzero.service.model.DamageKind;
+import org.bukkit.entity.Arrow;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Combat event path: payload read of our arrow, then the last-hit record
+ * (which also resets both idle clocks), as CombatListener runs them per hit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CombatPathBench {
+
+    private Arrow ours;
+    private Arrow vanilla;
+    private UUID[] ids;
+    private int i;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Player> ps = BenchCore.boot(64);
+        ids = new UUID[ps.size()];
+        for (int k = 0; k < ids.length; k++) ids[k] = ps.get(k).getUniqueId();
+
+        Map<Object, Object> pdc = new HashMap<>();
+        pdc.put(ProjectileService.KEY_IS_GZ, (byte) 1);
+        pdc.put(ProjectileService.KEY_WEAPON_ID, 0);
+        pdc.put(ProjectileService.KEY_OWNER_MSB, ids[0].getMostSignificantBits());
+        pdc.put(ProjectileService.KEY_OWNER_LSB, ids[0].getLeastSignificantBits());
+        pdc.put(ProjectileService.KEY_BASE_DMG, 4.0);
+        pdc.put(ProjectileService.KEY_FLAGS, 0);
+        ours = Fakes.arrow(pdc);
+        vanilla = Fakes.arrow(new HashMap<>());
+    }
+
+    @Benchmark
+    public ProjectileService.Payload readArrowPayload() {
+        return ProjectileService.readArrowPayload(ours);
+    }
+
+    @Benchmark
+    public ProjectileService.Payload readVanillaArrow() {
+        return ProjectileService.readArrowPayload(vanilla);
+    }
+
+    @Benchmark
+    public void recordHit() {
+        int k = (i++ & 63);
+        Core.damageService.recordHit(ids[k], ids[(k + 1) & 63], DamageKind.PROJECTILE, "rifle", 4.0);
+    }
+
+    @Benchmark
+    public void hitEndToEnd() {
+        ProjectileService.Payload pl = ProjectileService.readArrowPayload(ours);
+        int k = (i++ & 63);
+        Core.damageService.recordHit(ids[k], pl.owner(), DamageKind.PROJECTILE, pl.weaponKey(), pl.baseDamage());
+    }
+}
@@ -0,0 +1,58 @@
+package net.groundzero.bench;
+
+import net.groundzero.app.Core;
+import net.groundzero.util.NotificationChannel.MessageClass;
+import net.kyori.adventure.text.Component;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Notifier rendering (template cache hit vs. always-new text) and
+ * NotificationChannel enqueue/merge for a burst of same-key penalties.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NotifierBench {
+
+    private List<Player> players;
+    private UUID id;
+    private int n;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        players = BenchCore.boot(32);
+        id = players.get(0).getUniqueId();
+    }
+
+    @Benchmark
+    public Component lineCached() {
+        return Core.notifier.line(false, "Camping penalty : &c-5.00 &fscore");
+    }
+
+    @Benchmark
+    public Component lineUncached() {
+        return Core.notifier.line(false, "Kill : &a" + (n++));
+    }
+
+    @Benchmark
+    public void broadcastToAll() {
+        Core.notifier.broadcast(players, null, null, false, "Zone shrinks in &c30s");
+    }
+
+    @Benchmark
+    public void channelMerge() {
+        Core.notifications.send(id, MessageClass.PENALTY, "camp.penalty", "Camping penalty : &c-%s &fscore", 1.0);
+    }
+}
@@ -0,0 +1,207 @@
+package net.groundzero.bench;
+
+import net.groundzero.app.Core;
+import net.groundzero.fake.Fakes;
+import net.groundzero.item.WeaponDef;
+import net.groundzero.service.HudService;
+import net.groundzero.service.model.StatusEffectType;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One onTick of each per-tick subscriber, per match size.
+ * The tick counter advances every invocation, so time-based branches (seconds, keep-alives,
+ * idle thresholds) are hit at their real rates.
+ *
+ * Steady state per subscriber, so long runs measure the same work throughout:
+ * - the match timer wraps before zero (no end-of-match paths);
+ * - every player carries all DoT effects, refreshed before they expire;
+ * - the zone starts halfway through its schedule, so shrinks are done and damage is on;
+ * - one weapon shot and one death per tick, round-robin over the players;
+ * - one spectator per four players watches the spectator board.
+ * On fakes the spawn pool never accepts a point (ground blocks have no type),
+ * so revives take the sky-drop fallback.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TickSubscriberBench {
+
+    private static final int ALL_EFFECTS = StatusEffectType.POISON.flag
+            | StatusEffectType.WITHER.flag | StatusEffectType.BURN.flag;
+    private static final int REFRESH_TICKS = 50; // below the shortest effect duration
+
+    @Param({"16", "100", "500"})
+    public int players;
+
+    private int tick;
+    private UUID[] ids;
+    private Player[] victims;
+    private WeaponDef rifle;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Player> ps = BenchCore.boot(players);
+        ids = new UUID[ps.size()];
+        for (int i = 0; i < ids.length; i++) ids[i] = ps.get(i).getUniqueId();
+        victims = ps.toArray(new Player[0]);
+
+        for (int i = 0; i < Math.max(1, players / 4); i++) {
+            Core.session.addSpectator(Fakes.addPlayer("spectator" + i).getUniqueId());
+        }
+        rifle = new WeaponDef(0, "rifle", "&fRifle", null, null, 40, 1, 0, 0.0, true, null);
+
+        Core.combatIdleService.start();
+        Core.hudService.start(Core.session);
+        Core.scoreboardService.start(Core.session);
+        Core.statusEffectService.start(Core.session);
+        Core.zoneService.start(Core.session);
+        Core.cooldownService.start(Core.session);
+        Core.spectatorViewService.start(Core.session);
+        Core.respawnService.start(Core.session);
+        Core.gameRuntimeService.start(Core.session);
+
+        // a third of the players in combat, so HUD segments change
+        for (int i = 0; i < ps.size(); i += 3) {
+            Core.combatIdleService.onCombatEvent(ps.get(i).getUniqueId(), null);
+        }
+        for (int i = 0; i < ids.length; i++) {
+            Core.statusEffectService.applyFlags(ids[i], ids[(i + 1) % ids.length], "rifle", ALL_EFFECTS);
+        }
+        for (int i = 0; i < 3; i++) {
+            Core.spectatorViewService.pushFeed("§cbench" + i + " §7→ §abench" + (i + 1));
+        }
+        Core.zoneService.onTick(Core.gameConfig.matchDurationTicks / 2);
+        tick = 0;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Core.gameRuntimeService.stop();
+        Core.respawnService.stop();
+        Core.spectatorViewService.stop();
+        Core.cooldownService.stop();
+        Core.zoneService.stop();
+        Core.statusEffectService.stop();
+        Core.scoreboardService.stop();
+        Core.hudService.stop();
+        Core.combatIdleService.stop();
+    }
+
+    /** Restart the match timer before it runs out, so no benchmark ever reaches endGame. */
+    private static void wrapTimer() {
+        if (Core.session.remainingTicks() <= 1) Core.session.setRemainingTicks(Core.session.matchTotalTicks());
+    }
+
+    private static void countDown() {
+        wrapTimer();
+        Core.session.setRemainingTicks(Core.session.remainingTicks() - 1);
+    }
+
+    /** Re-apply every effect on a slice of the players, so each victim is refreshed once per REFRESH_TICKS. */
+    private void refreshEffects(int now) {
+        int batch = (ids.length + REFRESH_TICKS - 1) / REFRESH_TICKS;
+        for (int k = 0; k < batch; k++) {
+            int v = (now * batch + k) % ids.length;
+            Core.statusEffectService.applyFlags(ids[v], ids[(v + 1) % ids.length], "rifle", ALL_EFFECTS);
+        }
+    }
+
+    private void fire(int now) {
+        Core.cooldownService.tryFire(now % ids.length, rifle, now);
+    }
+
+    private void kill(int now) {
+        Core.respawnService.queue(victims[now % victims.length]);
+    }
+
+    @Benchmark
+    public void combatIdle() {
+        Fakes.advanceTick();
+        Core.combatIdleService.onTick(++tick);
+    }
+
+    @Benchmark
+    public void hud() {
+        countDown();
+        Core.hudService.onTick(++tick);
+    }
+
+    @Benchmark
+    public void scoreboard() {
+        countDown();
+        Core.scoreboardService.onTick(++tick);
+    }
+
+    @Benchmark
+    public void statusEffects() {
+        Fakes.advanceTick();
+        int now = Core.clock.advanceMatch();
+        refreshEffects(now);
+        Core.statusEffectService.onTick(now);
+    }
+
+    @Benchmark
+    public void zone() {
+        Fakes.advanceTick();
+        Core.zoneService.onTick(Core.gameConfig.matchDurationTicks / 2 + (++tick));
+    }
+
+    @Benchmark
+    public void cooldowns() {
+        int now = Core.clock.advanceMatch();
+        fire(now);
+        Core.cooldownService.onTick(now);
+    }
+
+    @Benchmark
+    public void spectatorView() {
+        countDown();
+        Core.spectatorViewService.onTick(++tick);
+    }
+
+    @Benchmark
+    public void respawn() {
+        Fakes.advanceTick();
+        int now = Core.clock.advanceMatch();
+        kill(now);
+        Core.respawnService.onTick(now);
+    }
+
+    @Benchmark
+    public void gameRuntime() {
+        wrapTimer();
+        Core.gameRuntimeService.onTick(Core.clock.advanceMatch());
+    }
+
+    /** Whole bus: every subscriber above with the same inputs, SIMULATION then RENDER. */
+    @Benchmark
+    public void tickBus() {
+        Fakes.advanceTick();
+        wrapTimer(); // GameRuntimeService counts the timer down
+        int now = Core.clock.matchTick();
+        refreshEffects(now);
+        fire(now);
+        kill(now);
+        Core.tickBus.runTick();
+    }
+
+    @Benchmark
+    public void hudSetSegment() {
+        int slot = (++tick) % players;
+        Core.hudService.setSegment(slot, HudService.Segment.COOLDOWN, null);
+    }
+}
@@ -1,11 +1,21 @@
 package net.groundzero.app;
 
 import net.groundzero.game.*;
+import net.groundzero.item.ItemRegistry;
+import net.groundzero.metrics.Metrics;
+import net.groundzero.metrics.PrometheusExporter;
+import net.groundzero.profiling.JfrRecorder;
+import net.groundzero.profiling.StackSampler;
 import net.groundzero.service.*;
 import net.groundzero.service.tick.TickBus;
+import net.groundzero.storage.ProfileCache;
+import net.groundzero.storage.StatsRepository;
 import net.groundzero.util.*;
+import org.bukkit.Bukkit;
 import org.bukkit.plugin.Plugin;
 
+import java.io.File;
+
 public final class Core {
 
     public static Plugin plugin;
@@ -13,18 +23,36 @@ public final class Core {
     public static GameSession session;
 
     public static Schedulers schedulers;
+    public static Metrics metrics;
+    public static PrometheusExporter metricsExporter;
+    public static JfrRecorder jfr;
+    public static StackSampler profiler;
     public static Notifier notifier;
-    public static GameConfig gameConfig;
+    public static NotificationChannel notifications;
+    public static volatile GameConfig gameConfig; // immutable snapshot, swapped by /gz reload
+    public static GameClock clock;
+    public static Randoms randoms;
+    public static ItemRegistry itemRegistry;
+    public static ProfileCache profileCache;
 
     public static GuiService guiService;
     public static PlayerService playerService;
     public static LoadoutService loadoutService;
     public static DamageService damageService;
+    public static ProjectileService projectileService;
     public static ScoreboardService scoreboardService;
     public static VoteService voteService;
     public static GameRuntimeService gameRuntimeService;
     public static CombatOutcomeService combatOutcomeService;;
     public static CombatIdleService combatIdleService;
+    public static RespawnService respawnService;
+    public static CooldownService cooldownService;
+    public static StatusEffectService statusEffectService;
+    public static ShopService shopService;
+    public static HudService hudService;
+    public static SpectatorViewService spectatorViewService;
+    public static ZoneService zoneService;
+    public static ArenaService arenaService;
 
     public static TickBus tickBus;
 
@@ -39,8 +67,20 @@ public final class Core {
 
         // util
         schedulers = new Schedulers(p);
+        metrics = new Metrics(); // before anything that registers series
         notifier = new Notifier();
-        gameConfig = new GameConfig();
+        notifications = new NotificationChannel();
+        gameConfig = GameConfigLoader.loadOrDefaults(p);
+        clock = new GameClock();
+        randoms = new Randoms(System.nanoTime());
+
+        // items
+        itemRegistry = new ItemRegistry();
+        itemRegistry.load(p);
+
+        // player stats (loads start on pre-login, see PlayerLifecycleListener)
+        profileCache = new ProfileCache(new StatsRepository(new File(p.getDataFolder(), "players")),
+                gameConfig.statsCacheSize, gameConfig.statsIoThreads);
 
         // services
         voteService = new VoteService();
@@ -48,11 +88,30 @@ public final class Core {
         playerService = new PlayerService();
         loadoutService = new LoadoutService();
         damageService = new DamageService();
+        projectileService = new ProjectileService();
         scoreboardService = new ScoreboardService();
         gameRuntimeService = new GameRuntimeService();
         combatOutcomeService = new CombatOutcomeService();
         combatIdleService = new CombatIdleService();
+        respawnService = new RespawnService();
+        cooldownService = new CooldownService();
+        statusEffectService = new StatusEffectService();
+        shopService = new ShopService();
+        hudService = new HudService();
+        spectatorViewService = new SpectatorViewService();
+        zoneService = new ZoneService();
+        arenaService = new ArenaService();
 
         tickBus = new TickBus();
+
+        // telemetry (gauges are sampled on the main thread, see Metrics)
+        metrics.gauge("groundzero_players_online", "Players online", () -> Bukkit.getOnlinePlayers().size());
+        metrics.gauge("groundzero_participants", "Participants of the current match", () -> session.getParticipantsView().size());
+        metrics.gauge("groundzero_match_remaining_seconds", "Time left in the running match", () -> session.remainingTicks() / 20.0);
+        metrics.gauge("groundzero_game_state", "GameState ordinal (0 = IDLE)", () -> session.state().ordinal());
+        metrics.gauge("groundzero_profile_cache_entries", "Player profiles held in memory", () -> profileCache.size());
+        metricsExporter = new PrometheusExporter();
+        jfr = new JfrRecorder();
+        profiler = new StackSampler();
     }
 }
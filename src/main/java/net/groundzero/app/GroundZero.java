@@ -8,6 +8,8 @@ import net.groundzero.listener.ui.GuiClickListener;
 import net.groundzero.listener.world.WorldProtectionListener;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.io.IOException;
+
 public final class GroundZero extends JavaPlugin {
 
     @Override
@@ -31,6 +33,13 @@ public final class GroundZero extends JavaPlugin {
         pm.registerEvents(new CombatListener(), this);
         pm.registerEvents(new WorldProtectionListener(), this);
 
+        // 4) Local metrics endpoint (off when metricsPort = 0)
+        Core.metricsExporter.start();
+
+        // 5) Periodic write-back of player stats; preload whoever is already online (plugin reload)
+        Core.profileCache.start();
+        getServer().getOnlinePlayers().forEach(p -> Core.profileCache.preload(p.getUniqueId()));
+
         getLogger().info("GroundZero enabled");
     }
 
@@ -38,6 +47,14 @@ public final class GroundZero extends JavaPlugin {
     public void onDisable() {
         // Ensure every scheduled task is cancelled and state cleaned
         Core.game.forceCancel(null);
+        Core.metricsExporter.stop();
+        Core.profiler.stop();
+        Core.profileCache.shutdown(); // blocks until dirty profiles are on disk
+        try {
+            if (Core.jfr.isRecording()) getLogger().info("JFR recording written to " + Core.jfr.stop());
+        } catch (IOException ex) {
+            getLogger().warning("JFR recording lost: " + ex.getMessage());
+        }
         getLogger().info("GroundZero disabled");
     }
 }
@@ -1,18 +1,174 @@
 package net.groundzero.command;
 
 import net.groundzero.app.Core;
+import net.groundzero.game.GameConfig;
+import net.groundzero.game.GameConfigLoader;
 import net.groundzero.util.Notifier;
 import org.bukkit.Bukkit;
 import org.bukkit.Sound;
 import org.bukkit.command.CommandSender;
 
-/** Dev-only helpers. No permission gate for now (add if you want). */
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/** Dev-only helpers. Profiling and reload need groundzero.admin; test is not gated yet. */
 public final class AdminCommands {
 
+    public static final String PERMISSION = "groundzero.admin";
+
     public boolean handleTest(CommandSender sender) {
         // Force reset from ANY state (even RUNNING/ENDED)
         Core.notifier.broadcast(Bukkit.getOnlinePlayers(), Sound.BLOCK_ANVIL_LAND, Notifier.PitchLevel.LOW,false,"Admin command handled : Terminating");
         Core.game.forceCancel(null);
         return true;
     }
+
+    /** /gz jfr start [minutes] | dump | stop */
+    public boolean handleJfr(CommandSender sender, String[] args) {
+        if (!sender.hasPermission(PERMISSION)) {
+            Core.notifier.message(sender, true, "You don't have permission to do that");
+            return true;
+        }
+        String sub = (args.length >= 2) ? args[1].toLowerCase() : "";
+        switch (sub) {
+            case "start" -> {
+                int minutes = 10;
+                if (args.length >= 3) {
+                    try { minutes = Math.max(1, Integer.parseInt(args[2])); }
+                    catch (NumberFormatException ex) {
+                        Core.notifier.message(sender, true, "Usage: /gz jfr start [minutes]");
+                        return true;
+                    }
+                }
+                try {
+                    if (!Core.jfr.start(Duration.ofMinutes(minutes))) {
+                        Core.notifier.message(sender, true, "A JFR recording is already running");
+                    } else {
+                        Core.notifier.message(sender, false, "JFR recording started (keeps the last " + minutes + " min)");
+                    }
+                } catch (Exception ex) {
+                    Core.notifier.message(sender, true, "Cannot start JFR: " + ex.getMessage());
+                }
+                return true;
+            }
+            case "dump" -> {
+                if (!Core.jfr.isRecording()) {
+                    Core.notifier.message(sender, true, "No JFR recording running (/gz jfr start)");
+                    return true;
+                }
+                writeAsync(sender, Core.jfr::dump, "JFR dump written: ");
+                return true;
+            }
+            case "stop" -> {
+                if (!Core.jfr.isRecording()) {
+                    Core.notifier.message(sender, true, "No JFR recording running");
+                    return true;
+                }
+                writeAsync(sender, Core.jfr::stop, "JFR recording stopped: ");
+                return true;
+            }
+            default -> {
+                Core.notifier.message(sender, true, "Usage: /gz jfr <start [minutes]|dump|stop>");
+                return true;
+            }
+        }
+    }
+
+    /** /gz profile <seconds> [intervalMs] | stop */
+    public boolean handleProfile(CommandSender sender, String[] args) {
+        if (!sender.hasPermission(PERMISSION)) {
+            Core.notifier.message(sender, true, "You don't have permission to do that");
+            return true;
+        }
+        if (args.length >= 2 && args[1].equalsIgnoreCase("stop")) {
+            if (!Core.profiler.isRunning()) {
+                Core.notifier.message(sender, true, "No profile running");
+            } else {
+                Core.profiler.stop();
+            }
+            return true;
+        }
+
+        int seconds, interval = Core.gameConfig.profileIntervalMs;
+        try {
+            seconds = Integer.parseInt(args[1]);
+            if (args.length >= 3) interval = Integer.parseInt(args[2]);
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException ex) {
+            Core.notifier.message(sender, true, "Usage: /gz profile <seconds> [intervalMs] | stop");
+            return true;
+        }
+        seconds = Math.max(1, Math.min(seconds, Core.gameConfig.profileMaxSeconds));
+        interval = Math.max(1, interval);
+
+        boolean started = Core.profiler.start(seconds, interval, Core.gameConfig.profileTopMethods, r -> {
+            String[] lines = new String[r.top().size() + 2];
+            lines[0] = "Profile: " + r.samples() + " samples, &a"
+                    + String.format("%.1f%%", 100.0 * r.ours() / Math.max(1, r.samples())) + "&f in GroundZero";
+            for (int i = 0; i < r.top().size(); i++) lines[i + 1] = "&7" + r.top().get(i);
+            lines[lines.length - 1] = (r.file() != null) ? "Collapsed stacks: " + r.file().getFileName() : "Collapsed stacks not written";
+            Core.notifier.message(sender, false, lines);
+        });
+        if (!started) {
+            Core.notifier.message(sender, true, "A profile is already running");
+        } else {
+            Core.notifier.message(sender, false, "Profiling the main thread for " + seconds + "s every " + interval + "ms");
+        }
+        return true;
+    }
+
+    /**
+     * /gz reload: parse and validate config.yml off the main thread, then swap the snapshot
+     * on it (between ticks). A broken file keeps the current config and reports why.
+     */
+    public boolean handleReload(CommandSender sender) {
+        if (!sender.hasPermission(PERMISSION)) {
+            Core.notifier.message(sender, true, "You don't have permission to do that");
+            return true;
+        }
+        Bukkit.getScheduler().runTaskAsynchronously(Core.plugin, () -> {
+            GameConfig cfg;
+            String error;
+            try {
+                cfg = GameConfigLoader.load(Core.plugin);
+                error = null;
+            } catch (Exception ex) {
+                cfg = null;
+                error = ex.getMessage();
+            }
+            final GameConfig c = cfg;
+            final String e = error;
+            Bukkit.getScheduler().runTask(Core.plugin, () -> {
+                if (c == null) {
+                    Core.plugin.getLogger().warning("[GameConfig] reload rejected: " + e);
+                    Core.notifier.message(sender, true, "Config not reloaded: " + e);
+                    return;
+                }
+                Core.gameConfig = c;
+                Core.plugin.getLogger().info("[GameConfig] reloaded " + GameConfigLoader.FILE_NAME);
+                Core.notifier.message(sender, false,
+                        "Config reloaded (match length and seed apply from the next match)");
+            });
+        });
+        return true;
+    }
+
+    /** File I/O off the main thread, reply on it. */
+    private void writeAsync(CommandSender sender, Callable<Path> write, String okPrefix) {
+        Bukkit.getScheduler().runTaskAsynchronously(Core.plugin, () -> {
+            String msg;
+            boolean error;
+            try {
+                Path out = write.call();
+                msg = (out != null) ? okPrefix + out : "No JFR recording running";
+                error = (out == null);
+            } catch (Exception ex) {
+                msg = "JFR write failed: " + ex.getMessage();
+                error = true;
+            }
+            final String m = msg;
+            final boolean e = error;
+            Bukkit.getScheduler().runTask(Core.plugin, () -> Core.notifier.message(sender, e, m));
+        });
+    }
 }
@@ -10,7 +10,8 @@ import java.util.List;
 /** Thin router that delegates to PlayerCommands (and AdminCommands later). */
 public final class CommandRouter implements CommandExecutor, TabCompleter {
 
-    private static final List<String> SUBS = Arrays.asList("start", "cancel", "test");
+    private static final List<String> SUBS = Arrays.asList("start", "cancel", "shop", "test", "jfr", "profile", "reload");
+    private static final List<String> JFR_SUBS = Arrays.asList("start", "dump", "stop");
     private final PlayerCommands playerCmds = new PlayerCommands();
     private final AdminCommands adminCmds = new AdminCommands();
 
@@ -21,7 +22,11 @@ public final class CommandRouter implements CommandExecutor, TabCompleter {
         switch (args[0].toLowerCase()) {
             case "start":  return playerCmds.handleStart(sender);
             case "cancel": return playerCmds.handleCancel(sender);
+            case "shop":   return playerCmds.handleShop(sender);
             case "test":  return adminCmds.handleTest(sender);
+            case "jfr":    return adminCmds.handleJfr(sender, args);
+            case "profile": return adminCmds.handleProfile(sender, args);
+            case "reload":  return adminCmds.handleReload(sender);
             default:       return false;
         }
     }
@@ -29,6 +34,9 @@ public final class CommandRouter implements CommandExecutor, TabCompleter {
     @Override
     public List<String> onTabComplete(CommandSender sender, Command command, String alias, String[] args) {
         if (args.length == 1) return StringUtil.copyPartialMatches(args[0], SUBS, new ArrayList<>());
+        if (args.length == 2 && args[0].equalsIgnoreCase("jfr") && sender.hasPermission(AdminCommands.PERMISSION)) {
+            return StringUtil.copyPartialMatches(args[1], JFR_SUBS, new ArrayList<>());
+        }
         return List.of();
     }
 }
@@ -24,4 +24,17 @@ public final class PlayerCommands {
         Core.game.tryCancel(p); // GameManager decides and notifies
         return true;
     }
+
+    public boolean handleShop(CommandSender sender) {
+        if (!(sender instanceof Player p)) {
+            sender.sendMessage("§r§cGroundZero §f| §cThis command is only available to players§r");
+            return true;
+        }
+        if (!Core.session.state().isIngame() || Core.session.slotOf(p.getUniqueId()) < 0) {
+            Core.notifier.message(p, true, "The shop is only open to participants during a match");
+            return true;
+        }
+        Core.guiService.openShop(p);
+        return true;
+    }
 }
@@ -1,31 +1,274 @@
 package net.groundzero.game;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
- * Central place for tunable game parameters.
- * You asked to keep combat-related timings and steal percentages here.
+ * Central place for tunable game parameters, as an immutable snapshot.
+ *
+ * - Built from config.yml by GameConfigLoader (or from defaults), validated in build().
+ * - Core.gameConfig is a volatile reference swapped only on the main thread between ticks,
+ *   so a tick never sees two configs. Hot loops read it once into a local.
+ * - Derived values (negative camp grace, ...) are computed once per snapshot, not per tick.
+ * - Values baked in at match start (duration, zone schedule, spawn pool, ...) apply from the
+ *   next match; metrics* and stats* apply on restart.
  */
-public class GameConfig {
+public final class GameConfig {
 
     // match length: 20 ticks * 60 sec * 20 min = 20 minutes
-    public int matchDurationTicks = 20 * 60 * 20;
+    public final int matchDurationTicks;
+
+    // 0 = fresh seed per match; anything else replays the same spawns, votes, spread and zone
+    public final long randomSeed;
 
     // base resources
-    public double basePlasma = 0.0;
-    public double baseIncomePerSecond = 10.0;
-    public double baseScore = 100.0;
+    public final double basePlasma;
+    public final double baseIncomePerSecond;
+    public final double baseScore;
 
     /* ===== combat-related config ===== */
-    public double killStealPercent = 0.10;
-    public double deathPenaltyPercent = 0.10;
-    public double nonPlayerDeathPenaltyPercent = 0.05;
-    public int combatWindowTicks = 200; // used as: combat window, logout grace, idle reset window
+    public final double killStealPercent;
+    public final double deathPenaltyPercent;
+    public final double nonPlayerDeathPenaltyPercent;
+    public final int combatWindowTicks; // used as: combat window, logout grace, idle reset window
 
     /* ===== camping / idle-timer config ===== */
-    public int campWarnTicks = 90 * 20;
-    public int campFirstPenaltyTicks = 120 * 20;
-    public int campPenaltyIntervalTicks = 60 * 20;
-    public double campPenaltyPercent = 0.05;
-    public int campMaxStacks = 3;
+    public final int campWarnTicks;
+    public final int campFirstPenaltyTicks;
+    public final int campPenaltyIntervalTicks;
+    public final double campPenaltyPercent;
+    public final int campMaxStacks;
+
+    /* ===== respawn config ===== */
+    public final int respawnDelayTicks;
+    public final int spawnPoolSize;           // safe spawn points kept ready (chunks pinned)
+    public final int spawnPoolMaxInFlight;    // concurrent async chunk loads while refilling
+
+    /* ===== shrinking zone config ===== */
+    public final int zonePhases;
+    public final double zoneScheduleShare;    // phases are spread over this share of the match
+    public final double zoneShrinkShare;      // share of each phase spent shrinking (rest is waiting)
+    public final double zoneShrinkFactor;     // next size = size * factor
+    public final double zoneMinSize;
+    public final double zoneCenterDrift;      // 0 = concentric, 1 = center may reach the old edge
+    public final int zoneAnnounceTicks;       // warning before each shrink
+    public final int zoneDamagePeriodTicks;
+    public final double zoneDamagePerSecond;  // phase k deals k * this (phase 0 = before first shrink)
+
+    /* ===== arena reset config ===== */
+    public final long arenaRollbackBudgetMs;     // main-thread time per tick spent restoring blocks
+    public final boolean arenaSnapshotMode;      // reset from a saved region snapshot instead of the journal
+    public final int arenaCaptureMaxInFlight;    // concurrent async chunk loads while capturing a snapshot / ahead of a rollback
+
+    /* ===== UI config ===== */
+    public final boolean leanSidebar;            // team-less diffing sidebar instead of team rows (next match)
+
+    /* ===== telemetry config ===== */
+    public final int metricsPort;                // Prometheus scrape port, 0 = exporter off
+    public final String metricsBindAddress;      // local only by default
+    public final int profileIntervalMs;          // /gz profile main-thread sample interval
+    public final int profileMaxSeconds;
+    public final int profileTopMethods;          // self-time lines reported in chat
+
+    /* ===== player stats storage config ===== */
+    public final int statsCacheSize;             // profiles kept in memory (LRU), keep above the player cap
+    public final int statsIoThreads;             // file I/O lanes for loads and write-backs
+    public final int statsFlushSeconds;          // periodic write-back of dirty profiles
+
+    /* ===== derived (once per snapshot) ===== */
+    public final int campGraceTicks;             // idle value after a combat event: -combatWindowTicks
+
+    private GameConfig(Builder b) {
+        matchDurationTicks = b.matchDurationTicks;
+        randomSeed = b.randomSeed;
+        basePlasma = b.basePlasma;
+        baseIncomePerSecond = b.baseIncomePerSecond;
+        baseScore = b.baseScore;
+        killStealPercent = b.killStealPercent;
+        deathPenaltyPercent = b.deathPenaltyPercent;
+        nonPlayerDeathPenaltyPercent = b.nonPlayerDeathPenaltyPercent;
+        combatWindowTicks = b.combatWindowTicks;
+        campWarnTicks = b.campWarnTicks;
+        campFirstPenaltyTicks = b.campFirstPenaltyTicks;
+        campPenaltyIntervalTicks = b.campPenaltyIntervalTicks;
+        campPenaltyPercent = b.campPenaltyPercent;
+        campMaxStacks = b.campMaxStacks;
+        respawnDelayTicks = b.respawnDelayTicks;
+        spawnPoolSize = b.spawnPoolSize;
+        spawnPoolMaxInFlight = b.spawnPoolMaxInFlight;
+        zonePhases = b.zonePhases;
+        zoneScheduleShare = b.zoneScheduleShare;
+        zoneShrinkShare = b.zoneShrinkShare;
+        zoneShrinkFactor = b.zoneShrinkFactor;
+        zoneMinSize = b.zoneMinSize;
+        zoneCenterDrift = b.zoneCenterDrift;
+        zoneAnnounceTicks = b.zoneAnnounceTicks;
+        zoneDamagePeriodTicks = b.zoneDamagePeriodTicks;
+        zoneDamagePerSecond = b.zoneDamagePerSecond;
+        arenaRollbackBudgetMs = b.arenaRollbackBudgetMs;
+        arenaSnapshotMode = b.arenaSnapshotMode;
+        arenaCaptureMaxInFlight = b.arenaCaptureMaxInFlight;
+        leanSidebar = b.leanSidebar;
+        metricsPort = b.metricsPort;
+        metricsBindAddress = b.metricsBindAddress;
+        profileIntervalMs = b.profileIntervalMs;
+        profileMaxSeconds = b.profileMaxSeconds;
+        profileTopMethods = b.profileTopMethods;
+        statsCacheSize = b.statsCacheSize;
+        statsIoThreads = b.statsIoThreads;
+        statsFlushSeconds = b.statsFlushSeconds;
+
+        campGraceTicks = -combatWindowTicks;
+    }
+
+    public static GameConfig defaults() { return new Builder().build(); }
+
+    public static Builder builder() { return new Builder(); }
+
+    /** Mutable copy of this snapshot (sims and tuners derive variants from it). */
+    public Builder toBuilder() {
+        Builder b = new Builder();
+        b.matchDurationTicks = matchDurationTicks;
+        b.randomSeed = randomSeed;
+        b.basePlasma = basePlasma;
+        b.baseIncomePerSecond = baseIncomePerSecond;
+        b.baseScore = baseScore;
+        b.killStealPercent = killStealPercent;
+        b.deathPenaltyPercent = deathPenaltyPercent;
+        b.nonPlayerDeathPenaltyPercent = nonPlayerDeathPenaltyPercent;
+        b.combatWindowTicks = combatWindowTicks;
+        b.campWarnTicks = campWarnTicks;
+        b.campFirstPenaltyTicks = campFirstPenaltyTicks;
+        b.campPenaltyIntervalTicks = campPenaltyIntervalTicks;
+        b.campPenaltyPercent = campPenaltyPercent;
+        b.campMaxStacks = campMaxStacks;
+        b.respawnDelayTicks = respawnDelayTicks;
+        b.spawnPoolSize = spawnPoolSize;
+        b.spawnPoolMaxInFlight = spawnPoolMaxInFlight;
+        b.zonePhases = zonePhases;
+        b.zoneScheduleShare = zoneScheduleShare;
+        b.zoneShrinkShare = zoneShrinkShare;
+        b.zoneShrinkFactor = zoneShrinkFactor;
+        b.zoneMinSize = zoneMinSize;
+        b.zoneCenterDrift = zoneCenterDrift;
+        b.zoneAnnounceTicks = zoneAnnounceTicks;
+        b.zoneDamagePeriodTicks = zoneDamagePeriodTicks;
+        b.zoneDamagePerSecond = zoneDamagePerSecond;
+        b.arenaRollbackBudgetMs = arenaRollbackBudgetMs;
+        b.arenaSnapshotMode = arenaSnapshotMode;
+        b.arenaCaptureMaxInFlight = arenaCaptureMaxInFlight;
+        b.leanSidebar = leanSidebar;
+        b.metricsPort = metricsPort;
+        b.metricsBindAddress = metricsBindAddress;
+        b.profileIntervalMs = profileIntervalMs;
+        b.profileMaxSeconds = profileMaxSeconds;
+        b.profileTopMethods = profileTopMethods;
+        b.statsCacheSize = statsCacheSize;
+        b.statsIoThreads = statsIoThreads;
+        b.statsFlushSeconds = statsFlushSeconds;
+        return b;
+    }
+
+    /** Mutable twin with the defaults; build() validates and freezes it. */
+    public static final class Builder {
+        public int matchDurationTicks = 20 * 60 * 20;
+        public long randomSeed = 0L;
+
+        public double basePlasma = 0.0;
+        public double baseIncomePerSecond = 10.0;
+        public double baseScore = 100.0;
+
+        public double killStealPercent = 0.10;
+        public double deathPenaltyPercent = 0.10;
+        public double nonPlayerDeathPenaltyPercent = 0.05;
+        public int combatWindowTicks = 200;
+
+        public int campWarnTicks = 90 * 20;
+        public int campFirstPenaltyTicks = 120 * 20;
+        public int campPenaltyIntervalTicks = 60 * 20;
+        public double campPenaltyPercent = 0.05;
+        public int campMaxStacks = 3;
+
+        public int respawnDelayTicks = 3 * 20;
+        public int spawnPoolSize = 12;
+        public int spawnPoolMaxInFlight = 2;
+
+        public int zonePhases = 4;
+        public double zoneScheduleShare = 0.85;
+        public double zoneShrinkShare = 0.4;
+        public double zoneShrinkFactor = 0.55;
+        public double zoneMinSize = 24.0;
+        public double zoneCenterDrift = 1.0;
+        public int zoneAnnounceTicks = 30 * 20;
+        public int zoneDamagePeriodTicks = 10;
+        public double zoneDamagePerSecond = 1.0;
+
+        public long arenaRollbackBudgetMs = 8;
+        public boolean arenaSnapshotMode = false;
+        public int arenaCaptureMaxInFlight = 4;
+
+        public boolean leanSidebar = false;
+
+        public int metricsPort = 9464;
+        public String metricsBindAddress = "127.0.0.1";
+        public int profileIntervalMs = 10;
+        public int profileMaxSeconds = 300;
+        public int profileTopMethods = 10;
+
+        public int statsCacheSize = 500;
+        public int statsIoThreads = 4;
+        public int statsFlushSeconds = 60;
+
+        private Builder() {}
+
+        /** @throws IllegalArgumentException listing every invalid value */
+        public GameConfig build() {
+            List<String> bad = new ArrayList<>();
+            min(bad, "matchDurationTicks", matchDurationTicks, 20);
+            min(bad, "basePlasma", basePlasma, 0.0);
+            min(bad, "baseIncomePerSecond", baseIncomePerSecond, 0.0);
+            min(bad, "baseScore", baseScore, 0.0);
+            unit(bad, "killStealPercent", killStealPercent);
+            unit(bad, "deathPenaltyPercent", deathPenaltyPercent);
+            unit(bad, "nonPlayerDeathPenaltyPercent", nonPlayerDeathPenaltyPercent);
+            min(bad, "combatWindowTicks", combatWindowTicks, 1);
+            min(bad, "campWarnTicks", campWarnTicks, 0);
+            min(bad, "campFirstPenaltyTicks", campFirstPenaltyTicks, 1);
+            min(bad, "campPenaltyIntervalTicks", campPenaltyIntervalTicks, 1);
+            unit(bad, "campPenaltyPercent", campPenaltyPercent);
+            min(bad, "campMaxStacks", campMaxStacks, 1);
+            min(bad, "respawnDelayTicks", respawnDelayTicks, 0);
+            min(bad, "spawnPoolSize", spawnPoolSize, 1);
+            min(bad, "spawnPoolMaxInFlight", spawnPoolMaxInFlight, 1);
+            min(bad, "zonePhases", zonePhases, 0);
+            unit(bad, "zoneScheduleShare", zoneScheduleShare);
+            unit(bad, "zoneShrinkShare", zoneShrinkShare);
+            unit(bad, "zoneShrinkFactor", zoneShrinkFactor);
+            min(bad, "zoneMinSize", zoneMinSize, 1.0);
+            unit(bad, "zoneCenterDrift", zoneCenterDrift);
+            min(bad, "zoneAnnounceTicks", zoneAnnounceTicks, 0);
+            min(bad, "zoneDamagePeriodTicks", zoneDamagePeriodTicks, 1);
+            min(bad, "zoneDamagePerSecond", zoneDamagePerSecond, 0.0);
+            min(bad, "arenaRollbackBudgetMs", arenaRollbackBudgetMs, 1);
+            min(bad, "arenaCaptureMaxInFlight", arenaCaptureMaxInFlight, 1);
+            if (metricsPort < 0 || metricsPort > 65535) bad.add("metricsPort must be 0..65535 (was " + metricsPort + ")");
+            if (metricsBindAddress == null || metricsBindAddress.isBlank()) bad.add("metricsBindAddress is empty");
+            min(bad, "profileIntervalMs", profileIntervalMs, 1);
+            min(bad, "profileMaxSeconds", profileMaxSeconds, 1);
+            min(bad, "profileTopMethods", profileTopMethods, 1);
+            min(bad, "statsCacheSize", statsCacheSize, 1);
+            min(bad, "statsIoThreads", statsIoThreads, 1);
+            min(bad, "statsFlushSeconds", statsFlushSeconds, 1);
+            if (!bad.isEmpty()) throw new IllegalArgumentException(String.join("; ", bad));
+            return new GameConfig(this);
+        }
+
+        private static void min(List<String> bad, String name, double v, double min) {
+            if (!(v >= min)) bad.add(name + " must be >= " + min + " (was " + v + ")");
+        }
 
-    public GameConfig() {}
+        private static void unit(List<String> bad, String name, double v) {
+            if (!(v >= 0.0 && v <= 1.0)) bad.add(name + " must be within 0..1 (was " + v + ")");
+        }
+    }
 }
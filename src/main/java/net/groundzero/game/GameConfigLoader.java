@@ -0,0 +1,96 @@
+package net.groundzero.game;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.plugin.Plugin;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Reads config.yml into a GameConfig snapshot.
+ * - Missing keys keep their defaults; unknown keys are ignored.
+ * - Throws on a broken file or invalid values, so a bad reload never replaces a good config.
+ * - Pure file work: safe to call off the main thread (see /gz reload).
+ */
+public final class GameConfigLoader {
+
+    public static final String FILE_NAME = "config.yml";
+
+    private GameConfigLoader() {}
+
+    /** Load, writing the default file first if missing. */
+    public static GameConfig load(Plugin plugin) throws IOException, InvalidConfigurationException {
+        File file = new File(plugin.getDataFolder(), FILE_NAME);
+        if (!file.exists()) plugin.saveResource(FILE_NAME, false);
+
+        YamlConfiguration yml = new YamlConfiguration();
+        yml.load(file);
+        return parse(yml);
+    }
+
+    /** First-load variant: fall back to defaults (logged) instead of failing plugin start. */
+    public static GameConfig loadOrDefaults(Plugin plugin) {
+        try {
+            return load(plugin);
+        } catch (IOException | InvalidConfigurationException | IllegalArgumentException ex) {
+            plugin.getLogger().warning("[GameConfig] " + FILE_NAME + " not usable, using defaults: " + ex.getMessage());
+            return GameConfig.defaults();
+        }
+    }
+
+    static GameConfig parse(ConfigurationSection y) {
+        GameConfig.Builder b = GameConfig.builder();
+
+        b.matchDurationTicks = y.getInt("match.duration-ticks", b.matchDurationTicks);
+        b.randomSeed = y.getLong("match.random-seed", b.randomSeed);
+
+        b.basePlasma = y.getDouble("economy.base-plasma", b.basePlasma);
+        b.baseIncomePerSecond = y.getDouble("economy.base-income-per-second", b.baseIncomePerSecond);
+        b.baseScore = y.getDouble("economy.base-score", b.baseScore);
+
+        b.killStealPercent = y.getDouble("combat.kill-steal-percent", b.killStealPercent);
+        b.deathPenaltyPercent = y.getDouble("combat.death-penalty-percent", b.deathPenaltyPercent);
+        b.nonPlayerDeathPenaltyPercent = y.getDouble("combat.non-player-death-penalty-percent", b.nonPlayerDeathPenaltyPercent);
+        b.combatWindowTicks = y.getInt("combat.window-ticks", b.combatWindowTicks);
+
+        b.campWarnTicks = y.getInt("camping.warn-ticks", b.campWarnTicks);
+        b.campFirstPenaltyTicks = y.getInt("camping.first-penalty-ticks", b.campFirstPenaltyTicks);
+        b.campPenaltyIntervalTicks = y.getInt("camping.penalty-interval-ticks", b.campPenaltyIntervalTicks);
+        b.campPenaltyPercent = y.getDouble("camping.penalty-percent", b.campPenaltyPercent);
+        b.campMaxStacks = y.getInt("camping.max-stacks", b.campMaxStacks);
+
+        b.respawnDelayTicks = y.getInt("respawn.delay-ticks", b.respawnDelayTicks);
+        b.spawnPoolSize = y.getInt("respawn.spawn-pool-size", b.spawnPoolSize);
+        b.spawnPoolMaxInFlight = y.getInt("respawn.spawn-pool-max-in-flight", b.spawnPoolMaxInFlight);
+
+        b.zonePhases = y.getInt("zone.phases", b.zonePhases);
+        b.zoneScheduleShare = y.getDouble("zone.schedule-share", b.zoneScheduleShare);
+        b.zoneShrinkShare = y.getDouble("zone.shrink-share", b.zoneShrinkShare);
+        b.zoneShrinkFactor = y.getDouble("zone.shrink-factor", b.zoneShrinkFactor);
+        b.zoneMinSize = y.getDouble("zone.min-size", b.zoneMinSize);
+        b.zoneCenterDrift = y.getDouble("zone.center-drift", b.zoneCenterDrift);
+        b.zoneAnnounceTicks = y.getInt("zone.announce-ticks", b.zoneAnnounceTicks);
+        b.zoneDamagePeriodTicks = y.getInt("zone.damage-period-ticks", b.zoneDamagePeriodTicks);
+        b.zoneDamagePerSecond = y.getDouble("zone.damage-per-second", b.zoneDamagePerSecond);
+
+        b.arenaRollbackBudgetMs = y.getLong("arena.rollback-budget-ms", b.arenaRollbackBudgetMs);
+        b.arenaSnapshotMode = y.getBoolean("arena.snapshot-mode", b.arenaSnapshotMode);
+        b.arenaCaptureMaxInFlight = y.getInt("arena.capture-max-in-flight", b.arenaCaptureMaxInFlight);
+
+        b.leanSidebar = y.getBoolean("ui.lean-sidebar", b.leanSidebar);
+
+        b.metricsPort = y.getInt("telemetry.metrics-port", b.metricsPort);
+        b.metricsBindAddress = y.getString("telemetry.metrics-bind-address", b.metricsBindAddress);
+        b.profileIntervalMs = y.getInt("telemetry.profile-interval-ms", b.profileIntervalMs);
+        b.profileMaxSeconds = y.getInt("telemetry.profile-max-seconds", b.profileMaxSeconds);
+        b.profileTopMethods = y.getInt("telemetry.profile-top-methods", b.profileTopMethods);
+
+        b.statsCacheSize = y.getInt("stats.cache-size", b.statsCacheSize);
+        b.statsIoThreads = y.getInt("stats.io-threads", b.statsIoThreads);
+        b.statsFlushSeconds = y.getInt("stats.flush-seconds", b.statsFlushSeconds);
+
+        return b.build();
+    }
+}
@@ -1,9 +1,11 @@
 package net.groundzero.game;
 
 import net.groundzero.app.Core;
+import net.groundzero.profiling.TeleportEvent;
 import net.groundzero.ui.options.IncomeOption;
 import net.groundzero.ui.options.MapSizeOption;
 import net.groundzero.util.Notifier;
+import net.groundzero.util.Randoms;
 import org.bukkit.*;
 import org.bukkit.attribute.Attribute;
 import org.bukkit.entity.Player;
@@ -22,7 +24,6 @@ import java.util.UUID;
 public class GameManager {
 
     private final GameSession session = new GameSession();
-    private static final Random RNG = new Random();
 
     // getter will be one-liner on your side
     public GameSession session() { return session; }
@@ -40,6 +41,11 @@ public class GameManager {
         GameState st = session.state();
 
         if (st == GameState.IDLE) {
+            if (Core.arenaService.isRollingBack()) {
+                if (p != null)
+                    Core.notifier.message(p, true, "The arena is still being reset");
+                return;
+            }
             if (p != null) startFromIdle(p); // actually performs start
             return;
         } else if (st.isPregame()) {
@@ -101,6 +107,13 @@ public class GameManager {
         if (Core.gameRuntimeService != null) Core.gameRuntimeService.stop();
         if (Core.scoreboardService != null) Core.scoreboardService.stop();
         if (Core.combatIdleService != null) Core.combatIdleService.stop();
+        if (Core.respawnService != null) Core.respawnService.stop();
+        if (Core.cooldownService != null) Core.cooldownService.stop();
+        if (Core.statusEffectService != null) Core.statusEffectService.stop();
+        if (Core.shopService != null) Core.shopService.stop();
+        if (Core.hudService != null) Core.hudService.stop();
+        if (Core.spectatorViewService != null) Core.spectatorViewService.stop();
+        if (Core.zoneService != null) Core.zoneService.stop();
         if (Core.tickBus != null) Core.tickBus.stop();
 
         Core.schedulers.cancelAll();
@@ -133,10 +146,18 @@ public class GameManager {
                     p.getName() + " : " + String.format("%.1f", score)
             );
         }  // testing, without sorting
+        recordMatchStats();
 
         if (Core.gameRuntimeService != null) Core.gameRuntimeService.stop();
         if (Core.scoreboardService != null) Core.scoreboardService.stop();
         if (Core.combatIdleService != null) Core.combatIdleService.stop();
+        if (Core.respawnService != null) Core.respawnService.stop();
+        if (Core.cooldownService != null) Core.cooldownService.stop();
+        if (Core.statusEffectService != null) Core.statusEffectService.stop();
+        if (Core.shopService != null) Core.shopService.stop();
+        if (Core.hudService != null) Core.hudService.stop();
+        if (Core.spectatorViewService != null) Core.spectatorViewService.stop();
+        if (Core.zoneService != null) Core.zoneService.stop();
         if (Core.tickBus != null) Core.tickBus.stop();
 
         if (Core.plugin != null && Core.plugin.isEnabled())
@@ -145,11 +166,35 @@ public class GameManager {
             forceCancel(null);
     }
 
+    /** Matches played / won / best score into each participant's profile (top score wins). */
+    private void recordMatchStats() {
+        if (Core.profileCache == null) return;
+        double best = Double.NEGATIVE_INFINITY;
+        UUID winner = null;
+        for (UUID id : session.getParticipantsView()) {
+            double score = session.getScoreMap().getOrDefault(id, 0.0);
+            if (score > best) {
+                best = score;
+                winner = id;
+            }
+        }
+        for (UUID id : session.getParticipantsView()) {
+            final double score = session.getScoreMap().getOrDefault(id, 0.0);
+            final boolean won = id.equals(winner);
+            Core.profileCache.whenLoaded(id, prof -> prof.recordMatch(score, won));
+        }
+    }
+
     /* =========================================================
        INTERNAL FLOWS
        ========================================================= */
 
     private void startFromIdle(Player sender) {
+        // 0) one seed for every random stream of this match (logged so it can be replayed)
+        long seed = Core.gameConfig.randomSeed != 0L ? Core.gameConfig.randomSeed : System.nanoTime();
+        Core.randoms.reseed(seed);
+        Core.plugin.getLogger().info("[GroundZero] match seed " + seed);
+
         // 1) collect participants
         session.snapshotParticipantsFromSpectators();
 
@@ -190,8 +235,9 @@ public class GameManager {
      */
 
     private void restoreEnvironmentToDefault() {
-        // a) world border back
+        // a) world border back, terrain rolled back from the journal (tick-budgeted)
         Core.game.session().restoreOriginalBorder();
+        Core.arenaService.rollback();
 
         // b) players to spectator (your session already knows how)
         Core.game.session().resetToAllSpectators();
@@ -203,6 +249,7 @@ public class GameManager {
         w.setGameRule(GameRule.BLOCK_EXPLOSION_DROP_DECAY, true);
         w.setGameRule(GameRule.DISABLE_ELYTRA_MOVEMENT_CHECK, false);
         w.setGameRule(GameRule.DO_FIRE_TICK, true);
+        w.setGameRule(GameRule.DO_IMMEDIATE_RESPAWN, false);
         w.setGameRule(GameRule.DO_WEATHER_CYCLE, true);
         w.setGameRule(GameRule.FALL_DAMAGE, true);
         w.setGameRule(GameRule.KEEP_INVENTORY, false);
@@ -239,22 +286,13 @@ public class GameManager {
 
     private void gotoCountdownBeforeVoting() {
         session.setState(GameState.COUNTDOWN_BEFORE_VOTING);
-        Core.voteService.startPreVoteCountdown(this::gotoVotingMapSize);
+        Core.voteService.startPreVoteCountdown(this::gotoVoting);
     }
 
-    public void gotoVotingMapSize() {
-        session.setState(GameState.VOTING_MAP_SIZE);
-        Core.voteService.startMapSizeVote();
-    }
-
-    public void gotoVotingIncome() {
-        session.setState(GameState.VOTING_INCOME_MULTIPLIER);
-        Core.voteService.startIncomeVote();
-    }
-
-    public void gotoVotingGameMode() {
-        session.setState(GameState.VOTING_GAME_MODE);
-        Core.voteService.startGameModeVote();
+    /** All settings are voted at once (VoteService runs the phases concurrently). */
+    public void gotoVoting() {
+        session.setState(GameState.VOTING);
+        Core.voteService.startVoting();
     }
 
     public void gotoCountdownBeforeStart() {
@@ -283,16 +321,27 @@ public class GameManager {
         // setup world / players
         setUpGame();
 
+        // journal block changes from here on (rolled back at cleanup)
+        Core.arenaService.start(session);
+
         // give loadouts
         Core.loadoutService.giveInitialLoadouts(session.getParticipantsView());
 
-        // set match time
-        session.setRemainingTicks(Core.gameConfig.matchDurationTicks);
+        // set match time (total kept on the session: a later /gz reload must not change this match)
+        session.setMatchTotalTicks(Core.gameConfig.matchDurationTicks);
+        session.setRemainingTicks(session.matchTotalTicks());
 
         // start services bound to TickBus
         Core.gameRuntimeService.start(session);  // time, income
         Core.scoreboardService.start(session);   // UI-only
         Core.combatIdleService.start(); // subscriber persists
+        Core.respawnService.start(session); // death → delayed revive at pooled spawn
+        Core.cooldownService.start(session); // weapon fire-rate matrix + action bar
+        Core.statusEffectService.start(session); // DoT wheel
+        Core.shopService.start(session); // shop base contents from ItemRegistry
+        Core.hudService.start(session); // action bar segments + shared timer boss bar
+        Core.spectatorViewService.start(session); // one shared board for all spectators
+        Core.zoneService.start(session); // precomputed shrink schedule on the world border
         Core.tickBus.start();
 
         // random spawn inside border
@@ -324,7 +373,7 @@ public class GameManager {
         if (chosen == null) return;
         double mul = chosen.multiplier;
         for (UUID id : session.getParticipantsView()) {
-            double perPlayerIncome = Core.gameConfig.baseIncomePerSecond * mul;
+            double perPlayerIncome = ScoringRules.incomePerSecond(mul, Core.gameConfig);
             session.getIncomeMap().put(id, perPlayerIncome);
         }
     }
@@ -341,6 +390,7 @@ public class GameManager {
         w.setGameRule(GameRule.BLOCK_EXPLOSION_DROP_DECAY, false);
         w.setGameRule(GameRule.DISABLE_ELYTRA_MOVEMENT_CHECK, true);
         w.setGameRule(GameRule.DO_FIRE_TICK, false);
+        w.setGameRule(GameRule.DO_IMMEDIATE_RESPAWN, true);
         w.setGameRule(GameRule.DO_WEATHER_CYCLE, false);
         w.setGameRule(GameRule.FALL_DAMAGE, false);
         w.setGameRule(GameRule.KEEP_INVENTORY, true);
@@ -377,9 +427,9 @@ public class GameManager {
             sessionMul = session.income().multiplier;
         }
 
+        double perPlayerIncome = ScoringRules.incomePerSecond(sessionMul, Core.gameConfig);
         for (UUID id : session.getParticipantsView()) {
             session.getPlasmaMap().put(id, Core.gameConfig.basePlasma);
-            double perPlayerIncome = Core.gameConfig.baseIncomePerSecond * sessionMul;
             session.getIncomeMap().put(id, perPlayerIncome);
             session.getScoreMap().put(id, Core.gameConfig.baseScore);
         }
@@ -397,12 +447,17 @@ public class GameManager {
         double half = sizeOpt.size / 2.0;
         double usable = half * 0.95;
 
-        double dx = (RNG.nextDouble() * 2.0 - 1.0) * usable;
-        double dz = (RNG.nextDouble() * 2.0 - 1.0) * usable;
+        Random rng = Core.randoms.get(Randoms.Stream.SPAWN);
+        double dx = (rng.nextDouble() * 2.0 - 1.0) * usable;
+        double dz = (rng.nextDouble() * 2.0 - 1.0) * usable;
 
         double targetX = center.getX() + dx;
         double targetZ = center.getZ() + dz;
 
+        TeleportEvent ev = new TeleportEvent();
+        ev.begin();
+        boolean loaded = world.isChunkLoaded((int) Math.floor(targetX) >> 4, (int) Math.floor(targetZ) >> 4);
+
         int highest = world.getHighestBlockYAt((int) Math.floor(targetX), (int) Math.floor(targetZ));
         double targetY = highest + 100.0;
 
@@ -414,6 +469,7 @@ public class GameManager {
         );
 
         p.teleport(dest);
+        commit(ev, p, "spawn", dest, loaded);
         p.addPotionEffect(new PotionEffect(
                 PotionEffectType.SLOW_FALLING,
                 10 * 20,
@@ -436,6 +492,10 @@ public class GameManager {
         double targetX = center.getX();
         double targetZ = center.getZ();
 
+        TeleportEvent ev = new TeleportEvent();
+        ev.begin();
+        boolean loaded = world.isChunkLoaded((int) Math.floor(targetX) >> 4, (int) Math.floor(targetZ) >> 4);
+
         int highest = world.getHighestBlockYAt((int) Math.floor(targetX), (int) Math.floor(targetZ));
         double targetY = highest + 100.0;
 
@@ -448,5 +508,19 @@ public class GameManager {
 
         p.setGameMode(GameMode.SPECTATOR);
         p.teleport(dest);
+        commit(ev, p, "spectator", dest, loaded);
+    }
+
+    /** JFR: height probe + teleport (either may load the target chunk on the main thread). */
+    private void commit(TeleportEvent ev, Player p, String reason, Location dest, boolean chunkLoaded) {
+        ev.end();
+        if (!ev.shouldCommit()) return;
+        ev.player = p.getName();
+        ev.reason = reason;
+        ev.chunkX = dest.getBlockX() >> 4;
+        ev.chunkZ = dest.getBlockZ() >> 4;
+        ev.chunkLoaded = chunkLoaded;
+        ev.participants = session.getParticipantsView().size();
+        ev.commit();
     }
 }
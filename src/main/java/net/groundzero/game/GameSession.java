@@ -23,6 +23,10 @@ public class GameSession {
     private final Set<UUID> participants = new HashSet<>();
     private final Set<UUID> spectators   = new HashSet<>();
 
+    // dense participant index (0..n-1) for array-backed per-player state; fixed for the match
+    private final Map<UUID, Integer> slotOf = new HashMap<>();
+    private UUID[] slotIds = new UUID[0];
+
     // ---- world / area ----
     private World world;
     private Location center;
@@ -30,6 +34,8 @@ public class GameSession {
     // saved border
     private double originalBorderSize = -1;
     private Location originalBorderCenter = null;
+    private double originalBorderDamageAmount = 0.2;
+    private double originalBorderDamageBuffer = 5.0;
 
     // ---- options voted ----
     private MapSizeOption mapSize;
@@ -42,6 +48,7 @@ public class GameSession {
     private final Map<UUID, Double> scoreMap  = new HashMap<>();
 
     private int remainingTicks = 0;
+    private int matchTotalTicks = 0; // match length captured at start (config may reload mid-match)
 
     /* =========================================================
        getters / setters (1-liner style)
@@ -53,6 +60,10 @@ public class GameSession {
     public Set<UUID> getParticipantsView(){ return Collections.unmodifiableSet(participants); }
     public Set<UUID> getSpectatorsView()  { return Collections.unmodifiableSet(spectators); }
 
+    public int slotOf(UUID id)            { Integer s = (id == null ? null : slotOf.get(id)); return s == null ? -1 : s; }
+    public UUID idAtSlot(int slot)        { return (slot >= 0 && slot < slotIds.length) ? slotIds[slot] : null; }
+    public int slotCount()                { return slotIds.length; }
+
     public World world()                  { return world; }
     public void setWorld(World w)         { this.world = w; }
 
@@ -72,8 +83,28 @@ public class GameSession {
     public Map<UUID, Double> getIncomeMap(){ return incomeMap; }
     public Map<UUID, Double> getScoreMap() { return scoreMap; }
 
+    /**
+     * Check-and-deduct in one step (main thread, like every other plasma write).
+     * Returns false and leaves the balance untouched if it is short.
+     */
+    public boolean trySpendPlasma(UUID id, double cost) {
+        if (id == null || cost < 0) return false;
+        Double cur = plasmaMap.get(id);
+        if (cur == null || cur < cost) return false;
+        plasmaMap.put(id, cur - cost);
+        return true;
+    }
+
+    /** Credit plasma (refunds, rewards). */
+    public void addPlasma(UUID id, double amount) {
+        if (id == null) return;
+        plasmaMap.merge(id, amount, Double::sum);
+    }
+
     public int remainingTicks()               { return remainingTicks; }
     public void setRemainingTicks(int t)      { this.remainingTicks = t; }
+    public int matchTotalTicks()              { return matchTotalTicks; }
+    public void setMatchTotalTicks(int t)     { this.matchTotalTicks = t; }
 
     /* =========================================================
        participants management
@@ -86,16 +117,26 @@ public class GameSession {
         participants.clear();
         participants.addAll(spectators);
         spectators.clear();
+        assignSlots();
     }
 
     public void resetToAllSpectators() {
         participants.clear();
         spectators.clear();
+        assignSlots();
         for (Player p : Bukkit.getOnlinePlayers()) {
             spectators.add(p.getUniqueId());
         }
     }
 
+    private void assignSlots() {
+        slotOf.clear();
+        slotIds = participants.toArray(new UUID[0]);
+        for (int i = 0; i < slotIds.length; i++) {
+            slotOf.put(slotIds[i], i);
+        }
+    }
+
     public void removeSpectator(UUID online) {
         spectators.remove(online);
     }
@@ -164,6 +205,8 @@ public class GameSession {
         WorldBorder wb = w.getWorldBorder();
         this.originalBorderSize = wb.getSize();
         this.originalBorderCenter = wb.getCenter();
+        this.originalBorderDamageAmount = wb.getDamageAmount();
+        this.originalBorderDamageBuffer = wb.getDamageBuffer();
     }
 
     public void restoreOriginalBorder() {
@@ -173,6 +216,8 @@ public class GameSession {
         WorldBorder wb = world.getWorldBorder();
         wb.setCenter(originalBorderCenter);
         wb.setSize(originalBorderSize);
+        wb.setDamageAmount(originalBorderDamageAmount);
+        wb.setDamageBuffer(originalBorderDamageBuffer);
 
         // reset so we don't accidentally restore twice
         originalBorderSize = -1;
@@ -184,6 +229,7 @@ public class GameSession {
         incomeMap.clear();
         scoreMap.clear();
         remainingTicks = 0;
+        matchTotalTicks = 0;
 
         mapSize = null;
         income  = null;
@@ -4,9 +4,7 @@ package net.groundzero.game;
 public enum GameState {
     IDLE,
     COUNTDOWN_BEFORE_VOTING,
-    VOTING_MAP_SIZE,
-    VOTING_INCOME_MULTIPLIER,
-    VOTING_GAME_MODE,
+    VOTING,
     COUNTDOWN_BEFORE_START,
     RUNNING,
     ENDED;
@@ -19,9 +17,7 @@ public enum GameState {
     /** @return true when we are before the actual match start (all voting/countdown). */
     public boolean isPregame() {
         return this == COUNTDOWN_BEFORE_VOTING
-                || this == VOTING_MAP_SIZE
-                || this == VOTING_INCOME_MULTIPLIER
-                || this == VOTING_GAME_MODE
+                || this == VOTING
                 || this == COUNTDOWN_BEFORE_START;
     }
 
@@ -0,0 +1,87 @@
+package net.groundzero.game;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * The score math of a match as pure functions over GameConfig (no session, no server).
+ * Inputs are validated GameConfig snapshots (percentages in 0..1, intervals >= 1), so no
+ * clamping happens here; scores stay >= 0 as long as callers pass scores >= 0.
+ *
+ * CombatOutcomeService, CombatIdleService, GameManager (income) and VotePhase (tie-breaks)
+ * apply these to the live session; the offline tuner (src/sim) runs the same rules on
+ * thousands of synthetic matches, so tuned values mean the same thing in game.
+ */
+public final class ScoringRules {
+
+    private ScoringRules() {}
+
+    /* ===================== kills ===================== */
+
+    /** A death credits the last attacker if the hit landed inside combatWindowTicks. */
+    public static boolean creditsKill(int ticksSinceHit, GameConfig cfg) {
+        return ticksSinceHit >= 0 && ticksSinceHit < cfg.combatWindowTicks;
+    }
+
+    /** Score the victim of a credited kill loses (on top of what is stolen). */
+    public static double killLoss(double victimScore, GameConfig cfg) {
+        return victimScore * cfg.deathPenaltyPercent;
+    }
+
+    /** Score the attacker steals from the victim. */
+    public static double killGain(double victimScore, GameConfig cfg) {
+        return victimScore * cfg.killStealPercent;
+    }
+
+    /** Score lost on a death nobody gets credit for (environment, zone, stale hit). */
+    public static double uncreditedLoss(double victimScore, GameConfig cfg) {
+        return victimScore * cfg.nonPlayerDeathPenaltyPercent;
+    }
+
+    /* ===================== camping ===================== */
+
+    /** Idle value after a combat event: negative grace, never zero (precomputed per snapshot). */
+    public static int campGraceTicks(GameConfig cfg) {
+        return cfg.campGraceTicks;
+    }
+
+    /** Penalty step reached at idleTicks: 0 before campFirstPenaltyTicks, then 1, 2, ... per interval. */
+    public static int campStep(int idleTicks, GameConfig cfg) {
+        if (idleTicks < cfg.campFirstPenaltyTicks) return 0;
+        return 1 + (idleTicks - cfg.campFirstPenaltyTicks) / cfg.campPenaltyIntervalTicks;
+    }
+
+    /** Score burned when step is applied: score * percent * min(step, maxStacks). */
+    public static double campBurn(double score, int step, GameConfig cfg) {
+        return score * (cfg.campPenaltyPercent * Math.min(step, cfg.campMaxStacks));
+    }
+
+    /* ===================== income ===================== */
+
+    /** Plasma per second for the voted income multiplier. */
+    public static double incomePerSecond(double multiplier, GameConfig cfg) {
+        return cfg.baseIncomePerSecond * multiplier;
+    }
+
+    /* ===================== votes ===================== */
+
+    /** Fill rank with a random permutation of 0..n-1 (lower rank wins a tie). */
+    public static void shuffleTieRank(int[] rank, RandomGenerator rng) {
+        for (int i = 0; i < rank.length; i++) rank[i] = i;
+        for (int i = rank.length - 1; i > 0; i--) {
+            int j = rng.nextInt(i + 1);
+            int t = rank[i];
+            rank[i] = rank[j];
+            rank[j] = t;
+        }
+    }
+
+    /** Index with the most votes, ties by rank. */
+    public static int pickWinner(int[] counts, int[] rank) {
+        int best = -1;
+        for (int i = 0; i < counts.length; i++) {
+            if (best < 0 || counts[i] > counts[best]
+                    || (counts[i] == counts[best] && rank[i] < rank[best])) best = i;
+        }
+        return best;
+    }
+}
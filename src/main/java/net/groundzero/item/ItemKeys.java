@@ -1,4 +1,16 @@
 package net.groundzero.item;
 
-public class ItemKeys {
+import net.groundzero.app.Core;
+import org.bukkit.NamespacedKey;
+
+/**
+ * Interned PDC keys for GroundZero items.
+ * Built once at class load; hot paths must reuse these instead of creating keys.
+ */
+public final class ItemKeys {
+
+    /** Dense weapon id (INTEGER) → index into ItemRegistry's table. */
+    public static final NamespacedKey WEAPON_ID = new NamespacedKey(Core.plugin, "gz_weapon");
+
+    private ItemKeys() {}
 }
@@ -1,4 +1,141 @@
 package net.groundzero.item;
 
-public class ItemRegistry {
+import net.groundzero.item.util.ItemFactory;
+import net.groundzero.service.ProjectileService.ArrowOptions;
+import net.groundzero.service.model.StatusEffectType;
+import org.bukkit.Material;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.plugin.Plugin;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Weapon registry loaded from weapons.yml.
+ * - Every entry gets a dense id; byId[id] is the lookup table.
+ * - Item templates are built once at load; callers hand out copies (inventories copy on set).
+ * - identify(item): material pre-check, then ONE read of ItemKeys.WEAPON_ID from the stack's
+ *   PDC view → byId[id]. No string parsing, no ItemMeta clone on the shooting path.
+ */
+public final class ItemRegistry {
+
+    public static final String FILE_NAME = "weapons.yml";
+
+    private WeaponDef[] byId = new WeaponDef[0];
+    private final Map<String, WeaponDef> byKey = new HashMap<>();
+    private boolean[] weaponMaterial = new boolean[Material.values().length];
+    private List<WeaponDef> starters = List.of();
+
+    /** (Re)load weapons.yml from the plugin data folder, writing the default file if missing. */
+    public void load(Plugin plugin) {
+        File file = new File(plugin.getDataFolder(), FILE_NAME);
+        if (!file.exists()) plugin.saveResource(FILE_NAME, false);
+
+        YamlConfiguration yml = YamlConfiguration.loadConfiguration(file);
+        ConfigurationSection root = yml.getConfigurationSection("weapons");
+
+        List<WeaponDef> defs = new ArrayList<>();
+        Map<String, WeaponDef> keys = new HashMap<>();
+        boolean[] mats = new boolean[Material.values().length];
+
+        if (root != null) {
+            for (String key : root.getKeys(false)) {
+                ConfigurationSection sec = root.getConfigurationSection(key);
+                if (sec == null) continue;
+
+                Material m = Material.matchMaterial(sec.getString("material", "STICK"));
+                if (m == null || !m.isItem()) {
+                    plugin.getLogger().warning("[ItemRegistry] " + key + ": unknown material, skipped");
+                    continue;
+                }
+
+                WeaponDef def = parse(defs.size(), key, m, sec);
+                defs.add(def);
+                keys.put(key, def);
+                mats[m.ordinal()] = true;
+            }
+        }
+
+        this.byId = defs.toArray(new WeaponDef[0]);
+        this.byKey.clear();
+        this.byKey.putAll(keys);
+        this.weaponMaterial = mats;
+        this.starters = defs.stream().filter(WeaponDef::starter).toList();
+
+        plugin.getLogger().info("[ItemRegistry] loaded " + byId.length + " weapons");
+    }
+
+    private WeaponDef parse(int id, String key, Material m, ConfigurationSection sec) {
+        ArrowOptions opt = new ArrowOptions();
+        opt.weaponId = id;
+        ConfigurationSection a = sec.getConfigurationSection("arrow");
+        if (a != null) {
+            opt.speed             = a.getDouble("speed", opt.speed);
+            opt.spread            = a.getDouble("spread", opt.spread);
+            opt.gravity           = a.getBoolean("gravity", opt.gravity);
+            opt.critical          = a.getBoolean("critical", opt.critical);
+            opt.knockbackStrength = a.getInt("knockback", opt.knockbackStrength);
+            opt.pierceLevel       = a.getInt("pierce", opt.pierceLevel);
+            opt.baseDamage        = a.getDouble("damage", opt.baseDamage);
+            opt.lifetimeTicks     = a.getInt("lifetime-ticks", opt.lifetimeTicks);
+            opt.flags             = a.getInt("flags", opt.flags);
+            for (String eff : a.getStringList("effects")) {
+                StatusEffectType st = StatusEffectType.byName(eff);
+                if (st != null) opt.flags |= st.flag;
+            }
+        }
+
+        String name = sec.getString("name", key);
+        int cooldown = Math.max(0, sec.getInt("cooldown-ticks", 10));
+        int burst = Math.max(1, sec.getInt("burst", 1));
+        int burstInterval = Math.max(1, sec.getInt("burst-interval-ticks", 2));
+        double cost = Math.max(0.0, sec.getDouble("cost", 0.0));
+        boolean starter = sec.getBoolean("starter", false);
+
+        List<String> lore = List.of(
+                "",
+                "&fDamage &7: &c" + opt.baseDamage,
+                "&fCooldown &7: &e" + String.format("%.2f", cooldown / 20.0) + "s"
+        );
+        ItemStack template = ItemFactory.weapon(m, name, lore, id);
+
+        return new WeaponDef(id, key, name, m, opt, cooldown, burst, burstInterval, cost, starter, template);
+    }
+
+    /* ===================== lookup ===================== */
+
+    /** Resolve the weapon an item stack represents; null if it is not one of ours. */
+    public WeaponDef identify(ItemStack item) {
+        if (item == null) return null;
+        Material m = item.getType();
+        if (!weaponMaterial[m.ordinal()]) return null;
+
+        // read-only PDC view of the stack: no ItemMeta clone per interact
+        Integer id = item.getPersistentDataContainer().get(ItemKeys.WEAPON_ID, PersistentDataType.INTEGER);
+        if (id == null || id < 0 || id >= byId.length) return null;
+        return byId[id];
+    }
+
+    public WeaponDef get(int id) {
+        return (id >= 0 && id < byId.length) ? byId[id] : null;
+    }
+
+    public WeaponDef get(String key) {
+        return key == null ? null : byKey.get(key);
+    }
+
+    public int size() { return byId.length; }
+
+    /** Weapons that go into the initial / respawn loadout, in file order. */
+    public List<WeaponDef> starters() { return Collections.unmodifiableList(starters); }
+
+    /** All weapons in id order (shared defs; do not mutate). */
+    public List<WeaponDef> all() { return List.of(byId); }
 }
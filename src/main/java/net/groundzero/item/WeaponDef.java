@@ -0,0 +1,24 @@
+package net.groundzero.item;
+
+import net.groundzero.service.ProjectileService.ArrowOptions;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * One weapon entry from weapons.yml.
+ * - id is dense (0..n-1) and is what the item PDC carries.
+ * - arrow and template are shared: read them, never mutate them.
+ */
+public record WeaponDef(
+        int id,
+        String key,              // weaponId from config (arrow payloads carry the dense id instead)
+        String displayName,
+        Material material,
+        ArrowOptions arrow,
+        int cooldownTicks,       // full cooldown (fire rate) after a burst completes
+        int burstSize,           // shots per burst (1 = no burst)
+        int burstIntervalTicks,  // spacing between shots inside a burst
+        double cost,             // plasma price in the shop (0 = not sold)
+        boolean starter,
+        ItemStack template
+) {}
@@ -1,4 +1,44 @@
 package net.groundzero.item.util;
 
-public class ItemFactory {
+import net.groundzero.item.ItemKeys;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemFlag;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.util.List;
+
+/**
+ * ItemStack construction helpers.
+ * Meant for load-time template building; hot paths should hand out templates, not call these.
+ */
+public final class ItemFactory {
+
+    private ItemFactory() {}
+
+    /** Plain named item with lore ('&' color codes allowed). */
+    public static ItemStack named(Material m, String name, List<String> lore) {
+        ItemStack it = new ItemStack(m);
+        ItemMeta meta = it.getItemMeta();
+        meta.setDisplayName(c(name));
+        if (lore != null) meta.setLore(lore.stream().map(ItemFactory::c).toList());
+        it.setItemMeta(meta);
+        return it;
+    }
+
+    /** Weapon item tagged with its dense registry id. */
+    public static ItemStack weapon(Material m, String name, List<String> lore, int weaponId) {
+        ItemStack it = named(m, name, lore);
+        ItemMeta meta = it.getItemMeta();
+        meta.setUnbreakable(true);
+        meta.addItemFlags(ItemFlag.HIDE_ATTRIBUTES, ItemFlag.HIDE_UNBREAKABLE);
+        meta.getPersistentDataContainer().set(ItemKeys.WEAPON_ID, PersistentDataType.INTEGER, weaponId);
+        it.setItemMeta(meta);
+        return it;
+    }
+
+    private static String c(String s) {
+        return s == null ? "" : s.replace('&', '§');
+    }
 }
@@ -2,6 +2,7 @@ package net.groundzero.listener.combat;
 
 import net.groundzero.app.Core;
 import net.groundzero.listener.BaseListener;
+import net.groundzero.profiling.CombatResolutionEvent;
 import net.groundzero.service.ProjectileService;
 import net.groundzero.service.ProjectileService.Payload;
 import net.groundzero.service.model.DamageKind;
@@ -44,6 +45,9 @@ public final class CombatListener extends BaseListener implements Listener {
         if (!(victimEnt instanceof LivingEntity victim)) return;
         if (victim instanceof LivingEntity le && Core.damageService.isCustomHit(le)) return;
 
+        CombatResolutionEvent ev = new CombatResolutionEvent();
+        ev.begin();
+
         // 1) Projectile path
         if (e.getDamager() instanceof Arrow arrow) {
             if (ProjectileService.isOurArrow(arrow)) {
@@ -59,6 +63,7 @@ public final class CombatListener extends BaseListener implements Listener {
                 e.setCancelled(true);
 
                 final UUID attackerId = payload.owner();
+                final String weaponKey = payload.weaponKey(); // dense id → shared registry key
                 // Optional: attacker Player, may be null if offline
 
                 // Victim is player → record for kill credit
@@ -67,7 +72,7 @@ public final class CombatListener extends BaseListener implements Listener {
                             victim.getUniqueId(),
                             attackerId,                 // keep UUID even if attacker is offline
                             DamageKind.PROJECTILE,      // or ARROW if you split kinds
-                            payload.weaponId(),
+                            weaponKey,
                             payload.baseDamage()
                     );
                 }
@@ -76,7 +81,13 @@ public final class CombatListener extends BaseListener implements Listener {
                 // Recommend: applyProjectileDamage(UUID attackerId, LivingEntity victim, Payload payload)
                 Core.damageService.applyProjectileDamage(attackerId, victim, payload);
 
+                // Status effects from payload flags (DoT engine owns pulses and kill credit)
+                if (payload.flags() != 0 && victim instanceof Player) {
+                    Core.statusEffectService.applyFlags(victim.getUniqueId(), attackerId, weaponKey, payload.flags());
+                }
+
                 Core.schedulers.runLater(arrow::remove, 1L);
+                commit(ev, "gz_arrow", Bukkit.getPlayer(attackerId), victim, weaponKey, payload.baseDamage());
                 return;
             } else {
                 // VANILLA arrow: only P2P should count for kill credit
@@ -90,6 +101,7 @@ public final class CombatListener extends BaseListener implements Listener {
                             e.getFinalDamage()
                     );
                 }
+                commit(ev, "vanilla_arrow", src instanceof Player sp ? sp : null, victim, null, e.getFinalDamage());
                 return; // let vanilla damage proceed
             }
         }
@@ -104,6 +116,20 @@ public final class CombatListener extends BaseListener implements Listener {
                     null,
                     e.getFinalDamage()
             );
+            commit(ev, "melee", attackerP, victim, null, e.getFinalDamage());
         }
     }
+
+    private static void commit(CombatResolutionEvent ev, String path, Player attacker, LivingEntity victim,
+                               String weaponId, double damage) {
+        ev.end();
+        if (!ev.shouldCommit()) return;
+        ev.path = path;
+        ev.attacker = (attacker != null) ? attacker.getName() : null;
+        ev.victim = victim.getName();
+        ev.weaponId = weaponId;
+        ev.damage = damage;
+        ev.participants = Core.session.getParticipantsView().size();
+        ev.commit();
+    }
 }
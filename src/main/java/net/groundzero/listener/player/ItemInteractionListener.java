@@ -1,23 +1,21 @@
 package net.groundzero.listener.player;
 
+import net.groundzero.app.Core;
+import net.groundzero.item.WeaponDef;
 import net.groundzero.listener.BaseListener;
+import org.bukkit.Location;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerDropItemEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.event.block.Action;
-
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import org.bukkit.inventory.EquipmentSlot;
 
 public final class ItemInteractionListener extends BaseListener implements Listener {
 
-    // For future double-click (not used yet)
-    private final ConcurrentHashMap<UUID, Long> lastClickAt = new ConcurrentHashMap<>();
-    private static final long DOUBLE_CLICK_MS = 300L; // placeholder
-
     @EventHandler
     public void onInteract(PlayerInteractEvent e) {
+        if (e.getHand() != EquipmentSlot.HAND) return; // fired once per hand; main hand only
         var p = e.getPlayer();
         var item = e.getItem();
         Action a = e.getAction();
@@ -26,21 +24,35 @@ public final class ItemInteractionListener extends BaseListener implements Liste
         boolean right = (a == Action.RIGHT_CLICK_AIR || a == Action.RIGHT_CLICK_BLOCK);
         if (!left && !right) return;
 
-        // TODO: Identify held item (by localizedName or PDC), then delegate:
-        // if (isWeaponX(item)) Core.items.get("weaponX").use(...);
+        // material pre-check + one PDC read → dense id table
+        WeaponDef weapon = Core.itemRegistry.identify(item);
+        if (weapon == null) return; // not ours; GUI clicks are handled in GuiClickListener
+
+        // our weapons never interact with blocks (no chest opening, no block breaking)
+        e.setCancelled(true);
+
+        if (!Core.session.state().isIngame()) return;
+        final int slot = Core.session.slotOf(p.getUniqueId());
+        if (slot < 0) return; // not a participant
 
-        // For now we do not cancel; GUI clicks are handled in GuiClickListener.
-        // e.setCancelled(true/false) depending on weapon semantics later.
+        final int now = Core.clock.matchTick();
+        if (Core.cooldownService.registerClick(slot, now) && left) {
+            return; // left double-click: reserved for alt-fire later
+        }
+        if (!right) return;
+
+        if (!Core.cooldownService.tryFire(slot, weapon, now)) return;
+
+        Location eye = p.getEyeLocation();
+        Core.projectileService.spawnArrow(p.getUniqueId(), eye, eye.getDirection(), weapon.arrow());
     }
 
     @EventHandler
     public void onDrop(PlayerDropItemEvent e) {
-        var p = e.getPlayer();
         var stack = e.getItemDrop().getItemStack();
-        // TODO: If this item should not be droppable during certain phases, cancel here.
-        // if (Core.game.state() != GameState.RUNNING) e.setCancelled(true);
-        // TODO: Or if stack is a bound weapon: e.setCancelled(true);
+        // weapons are bound to the player while a match is running
+        if (Core.session.state().isIngame() && Core.itemRegistry.identify(stack) != null) {
+            e.setCancelled(true);
+        }
     }
-
-    // private boolean isDoubleClick(UUID id) { ... } // implement later when needed
 }
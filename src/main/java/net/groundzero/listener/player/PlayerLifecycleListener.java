@@ -4,8 +4,10 @@ import net.groundzero.app.Core;
 import net.groundzero.listener.BaseListener;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 
@@ -15,12 +17,21 @@ import org.bukkit.event.player.PlayerQuitEvent;
  *  - pregame (vote/countdown)
  *  - ingame (running; 'ended' kept for future split)
  * All logic lives in PlayerService.
+ * Player profiles load on pre-login (async thread) and are written back on quit,
+ * so join never waits on storage.
  */
 public final class PlayerLifecycleListener extends BaseListener implements Listener {
 
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) return;
+        Core.profileCache.preload(event.getUniqueId());
+    }
+
     @EventHandler
     public void onJoin(PlayerJoinEvent event) {
         Player p = event.getPlayer();
+        Core.profileCache.preload(p.getUniqueId()); // no-op unless pre-login was missed
 
         if (Core.session.state().isPregame()) {
             Core.playerService.onJoinPregame(p);
@@ -47,6 +58,7 @@ public final class PlayerLifecycleListener extends BaseListener implements Liste
     @EventHandler
     public void onQuit(PlayerQuitEvent event) {
         Player p = event.getPlayer();
+        Core.profileCache.flush(p.getUniqueId());
 
         if (Core.session.state().isPregame()) {
             Core.playerService.onQuitPregame(p);
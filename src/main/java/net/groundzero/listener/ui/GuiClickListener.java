@@ -2,11 +2,8 @@ package net.groundzero.listener.ui;
 
 import net.groundzero.app.Core;
 import net.groundzero.listener.BaseListener;
-import net.groundzero.ui.MenuType;
+import net.groundzero.ui.MenuAction;
 import net.groundzero.ui.holder.GroundZeroMenuHolder;
-import net.groundzero.ui.options.GameModeOption;
-import net.groundzero.ui.options.IncomeOption;
-import net.groundzero.ui.options.MapSizeOption;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
@@ -35,7 +32,6 @@ public final class GuiClickListener extends BaseListener implements Listener {
         final boolean inTop = raw >= 0 && raw < topSize;
         final ClickType click = e.getClick();
         final InventoryAction action = e.getAction();
-        final MenuType mt = holder.type();
 
         // ==== RULES OVERVIEW ====
         // - Top (GUI): allow only LEFT/RIGHT clicks; always cancel default movement.
@@ -53,55 +49,9 @@ public final class GuiClickListener extends BaseListener implements Listener {
             // Prevent vanilla item transfer on GUI slots; we only interpret the click.
             e.setCancelled(true);
 
-            // Route by menu type
-            switch (mt) {
-                case MAP_SIZE -> {
-                    // Cancel button is only active in voting menus
-                    for (MapSizeOption opt : MapSizeOption.values()) {
-                        if (opt.slot == raw) {
-                            Core.voteService.voteMapSize(p.getUniqueId(), opt);
-                            break;
-                        }
-                    }
-                    if (raw == 26) {
-                        Core.game.tryCancel(p);
-                        p.closeInventory();
-                        return;
-                    }
-                }
-                case INCOME_MULTIPLIER -> {
-                    for (IncomeOption opt : IncomeOption.values()) {
-                        if (opt.slot == raw) {
-                            Core.voteService.voteIncome(p.getUniqueId(), opt);
-                            break;
-                        }
-                    }
-                    if (raw == 26) {
-                        Core.game.tryCancel(p);
-                        p.closeInventory();
-                        return;
-                    }
-                }
-                case GAME_MODE -> {
-                    for (GameModeOption opt : GameModeOption.values()) {
-                        if (opt.slot == raw) {
-                            Core.voteService.voteGameMode(p.getUniqueId(), opt);
-                            break;
-                        }
-                    }
-                    if (raw == 26) {
-                        Core.game.tryCancel(p);
-                        p.closeInventory();
-                        return;
-                    }
-                }
-                case SHOP -> {
-                    // TODO: shop action routing by slot
-                }
-                default -> {
-                    // For any future GUI types, keep the same default behavior (no movement).
-                }
-            }
+            // Route by the holder's precomputed slot → action table
+            MenuAction act = holder.action(raw);
+            if (act != null) act.onClick(p);
             return;
         }
 
@@ -149,16 +99,10 @@ public final class GuiClickListener extends BaseListener implements Listener {
 
         if (e.getReason() != InventoryCloseEvent.Reason.PLAYER) return;
 
-        // Auto-reopen only when voting is active for that specific GUI.
+        // Auto-reopen only while voting is active.
         switch (holder.type()) {
-            case MAP_SIZE -> Core.schedulers.runLater(() -> {
-                if (Core.voteService.isVotingMapSize()) Core.guiService.openMapSize(p);
-            }, 1L);
-            case INCOME_MULTIPLIER -> Core.schedulers.runLater(() -> {
-                if (Core.voteService.isVotingIncome()) Core.guiService.openIncome(p);
-            }, 1L);
-            case GAME_MODE -> Core.schedulers.runLater(() -> {
-                if (Core.voteService.isVotingGameMode()) Core.guiService.openGameMode(p);
+            case VOTE -> Core.schedulers.runLater(() -> {
+                if (Core.voteService.isVoting()) Core.guiService.openVote(p);
             }, 1L);
             default -> { /* No auto-reopen for other GUI types */ }
         }
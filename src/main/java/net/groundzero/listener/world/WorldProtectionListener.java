@@ -1,11 +1,201 @@
 package net.groundzero.listener.world;
 
+import net.groundzero.app.Core;
 import net.groundzero.listener.BaseListener;
+import org.bukkit.Material;
+import org.bukkit.Tag;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.data.Bisected;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.block.data.type.Bed;
+import org.bukkit.block.data.type.Stairs;
+import org.bukkit.block.data.type.TrapDoor;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
-import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockBurnEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.block.BlockFadeEvent;
+import org.bukkit.event.block.BlockFormEvent;
+import org.bukkit.event.block.BlockFromToEvent;
+import org.bukkit.event.block.BlockIgniteEvent;
+import org.bukkit.event.block.BlockMultiPlaceEvent;
+import org.bukkit.event.block.BlockPistonExtendEvent;
+import org.bukkit.event.block.BlockPistonRetractEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.block.LeavesDecayEvent;
+import org.bukkit.event.entity.EntityChangeBlockEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.event.player.PlayerBucketEmptyEvent;
+import org.bukkit.event.player.PlayerBucketFillEvent;
+import org.bukkit.event.world.StructureGrowEvent;
 
-/** Stub for future: block break/place rules during phases. */
+import java.util.List;
+
+/**
+ * Arena journal feed: every block change during a match is reported to ArenaService
+ * before it happens (or with the replaced state), so the arena can be rolled back.
+ * MONITOR + ignoreCancelled: only changes that actually go through are recorded.
+ *
+ * Removals (break, burn, explosion) also record what goes with the block: the other half of
+ * doors, tall plants and beds, and neighbours attached to or standing on it (torches, signs,
+ * plants, whole stalks). Those drop without an event of their own.
+ */
 public final class WorldProtectionListener extends BaseListener implements Listener {
 
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBreak(BlockBreakEvent e) {
+        recordWithDependents(e.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlace(BlockPlaceEvent e) {
+        if (e instanceof BlockMultiPlaceEvent multi) {
+            for (BlockState st : multi.getReplacedBlockStates()) {
+                Core.arenaService.record(st.getBlock(), st.getBlockData());
+            }
+            return;
+        }
+        Core.arenaService.record(e.getBlock(), e.getBlockReplacedState().getBlockData());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockExplode(BlockExplodeEvent e) {
+        recordAll(e.blockList());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityExplode(EntityExplodeEvent e) {
+        recordAll(e.blockList());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBurn(BlockBurnEvent e) {
+        recordWithDependents(e.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onIgnite(BlockIgniteEvent e) {
+        Core.arenaService.record(e.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onFade(BlockFadeEvent e) {
+        Core.arenaService.record(e.getBlock());
+    }
+
+    /** Also covers BlockSpreadEvent / EntityBlockFormEvent. */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onForm(BlockFormEvent e) {
+        Core.arenaService.record(e.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onFlow(BlockFromToEvent e) {
+        Core.arenaService.record(e.getToBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDecay(LeavesDecayEvent e) {
+        Core.arenaService.record(e.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityChangeBlock(EntityChangeBlockEvent e) {
+        Core.arenaService.record(e.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBucketEmpty(PlayerBucketEmptyEvent e) {
+        Core.arenaService.record(e.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBucketFill(PlayerBucketFillEvent e) {
+        Core.arenaService.record(e.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onGrow(StructureGrowEvent e) {
+        for (BlockState st : e.getBlocks()) Core.arenaService.record(st.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonExtend(BlockPistonExtendEvent e) {
+        BlockFace dir = e.getDirection();
+        Core.arenaService.record(e.getBlock().getRelative(dir)); // piston head
+        for (Block b : e.getBlocks()) {
+            Core.arenaService.record(b);
+            Core.arenaService.record(b.getRelative(dir));
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonRetract(BlockPistonRetractEvent e) {
+        BlockFace dir = e.getDirection();
+        Core.arenaService.record(e.getBlock().getRelative(dir.getOppositeFace())); // piston head
+        for (Block b : e.getBlocks()) {
+            Core.arenaService.record(b);
+            Core.arenaService.record(b.getRelative(dir));
+        }
+    }
+
+    private static void recordAll(List<Block> blocks) {
+        for (Block b : blocks) recordWithDependents(b);
+    }
+
+    /* ===================== Dependent blocks ===================== */
+
+    private static final BlockFace[] AROUND = {
+            BlockFace.UP, BlockFace.DOWN, BlockFace.NORTH, BlockFace.EAST, BlockFace.SOUTH, BlockFace.WEST };
+
+    private static void recordWithDependents(Block b) {
+        if (!Core.arenaService.isRecording()) return;
+        recordPart(b);
+        for (BlockFace f : AROUND) {
+            Block n = b.getRelative(f);
+            if (!isDependent(n)) continue;
+            if (f != BlockFace.UP && f != BlockFace.DOWN) {
+                recordPart(n);
+                continue;
+            }
+            // stalks (sugar cane, cactus, kelp, vines, dripstone) break along their whole length
+            Material stalk = n.getType();
+            while (n.getType() == stalk) {
+                recordPart(n);
+                n = n.getRelative(f);
+            }
+        }
+    }
+
+    /** Records the block and, for doors, tall plants and beds, the other half that breaks with it. */
+    private static void recordPart(Block b) {
+        Core.arenaService.record(b);
+        BlockData d = b.getBlockData();
+        if (d instanceof Bed bed) {
+            BlockFace toOther = (bed.getPart() == Bed.Part.HEAD) ? bed.getFacing().getOppositeFace() : bed.getFacing();
+            Core.arenaService.record(b.getRelative(toOther));
+        } else if (isTwoBlock(d)) {
+            Core.arenaService.record(b.getRelative(((Bisected) d).getHalf() == Bisected.Half.TOP ? BlockFace.DOWN : BlockFace.UP));
+        }
+    }
+
+    /** Stairs and trapdoors are Bisected too, but their half is a placement, not a second block. */
+    private static boolean isTwoBlock(BlockData d) {
+        return d instanceof Bisected && !(d instanceof Stairs) && !(d instanceof TrapDoor);
+    }
+
+    /**
+     * Could pop when a neighbour goes. Deliberately broad: recording a block that stays
+     * only costs a journal entry, missing one leaves it broken after the rollback.
+     */
+    private static boolean isDependent(Block n) {
+        Material m = n.getType();
+        if (m.isAir() || n.isLiquid()) return false; // flowing liquids are journaled by onFlow
+        return !m.isSolid() || m == Material.CACTUS || m == Material.BAMBOO
+                || Tag.ALL_SIGNS.isTagged(m) || Tag.BANNERS.isTagged(m) || isTwoBlock(n.getBlockData());
+    }
 }
@@ -0,0 +1,17 @@
+package net.groundzero.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/** Monotonic counter (lock-free; increments from any thread). */
+public final class Counter {
+
+    private final LongAdder value = new LongAdder();
+
+    Counter() {}
+
+    public void inc() { value.increment(); }
+
+    public void add(long n) { if (n > 0) value.add(n); }
+
+    public long get() { return value.sum(); }
+}
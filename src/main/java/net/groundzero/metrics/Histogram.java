@@ -0,0 +1,90 @@
+package net.groundzero.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Log-linear histogram over non-negative longs (HDR-style, lock-free).
+ *
+ * - Each power of two is split into 2^SUB_BITS linear sub-buckets (~12% relative error),
+ *   so one fixed 496-slot array covers 0..Long.MAX_VALUE with no resizing and no locks.
+ * - record() is two atomic adds and an array increment; safe from any thread.
+ * - Values are in integer units (e.g. nanoseconds); unitScale converts them on export
+ *   (1e-9 → seconds), and Prometheus buckets are the powers of two in [minExp, maxExp].
+ * - A value v is counted in bucket index(v - 1), so bucket edges are inclusive at the top
+ *   like Prometheus le: "le=2^e" is exactly the buckets below 2^e (0 shares bucket 0 with 1).
+ */
+public final class Histogram {
+
+    private static final int SUB_BITS = 3;
+    private static final int SUB = 1 << SUB_BITS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray((64 - SUB_BITS + 1) * SUB);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+
+    final double unitScale;
+    final int minExp, maxExp;
+
+    Histogram(double unitScale, int minExp, int maxExp) {
+        this.unitScale = unitScale;
+        this.minExp = minExp;
+        this.maxExp = maxExp;
+    }
+
+    public void record(long v) {
+        if (v < 0) v = 0;
+        buckets.incrementAndGet(index(v > 0 ? v - 1 : 0));
+        count.increment();
+        sum.add(v);
+    }
+
+    static int index(long v) {
+        if (v < SUB) return (int) v;
+        int e = 63 - Long.numberOfLeadingZeros(v);          // v in [2^e, 2^(e+1))
+        int sub = (int) (v >>> (e - SUB_BITS)) & (SUB - 1);  // top bits below the leading one
+        return (e - SUB_BITS + 1) * SUB + sub;
+    }
+
+    /** Smallest value of bucket i (inverse of index). */
+    static long lowerBound(int i) {
+        if (i < SUB) return i;
+        int e = i / SUB + SUB_BITS - 1;
+        int sub = i % SUB;
+        return (1L << e) | ((long) sub << (e - SUB_BITS));
+    }
+
+    /** Consistent-enough copy for export: buckets first, then count and sum. */
+    Snapshot snapshot() {
+        long[] b = new long[buckets.length()];
+        for (int i = 0; i < b.length; i++) b[i] = buckets.get(i);
+        return new Snapshot(b, count.sum(), sum.sum());
+    }
+
+    record Snapshot(long[] buckets, long count, long sum) {
+
+        /** Observations ≤ 2^exp (whole buckets only: power-of-two edges align with buckets). */
+        long countAtMostPow2(int exp) {
+            long limit = 1L << exp;
+            long c = 0;
+            for (int i = 0; i < buckets.length && lowerBound(i) < limit; i++) c += buckets[i];
+            return c;
+        }
+
+        /** Approximate quantile in raw units (smallest value of the bucket holding rank q). */
+        long quantile(double q) {
+            if (count == 0) return 0;
+            long rank = (long) Math.ceil(q * count);
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank) return smallest(i);
+            }
+            return smallest(buckets.length - 1);
+        }
+
+        private static long smallest(int i) {
+            return (i == 0) ? 0 : lowerBound(i) + 1;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package net.groundzero.metrics;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Plugin metrics registry (Core.metrics), rendered in Prometheus text format.
+ *
+ * - Series are registered once (fields in the feeding service) and updated lock-free:
+ *   counters and histograms are atomics, so hot paths never take a lock.
+ * - Gauges read game state, which is main-thread only: sampleGauges() runs on the main
+ *   thread (once a second, see PrometheusExporter) and stores plain values; render() only
+ *   reads those, the counters and histogram snapshots, so scrapes run off the main thread.
+ * - Labels are fixed at registration ("key", "value" pairs); same name + labels = same series.
+ */
+public final class Metrics {
+
+    private enum Type { COUNTER, GAUGE, HISTOGRAM }
+
+    private static final class Family {
+        final String name, help;
+        final Type type;
+        final Map<String, Object> series = new LinkedHashMap<>(); // rendered labels → metric
+
+        Family(String name, String help, Type type) {
+            this.name = name;
+            this.help = help;
+            this.type = type;
+        }
+    }
+
+    private static final class Gauge {
+        final DoubleSupplier sampler;
+        volatile double value;
+
+        Gauge(DoubleSupplier sampler) { this.sampler = sampler; }
+    }
+
+    private final Map<String, Family> families = new LinkedHashMap<>();
+
+    /* ===================== registration ===================== */
+
+    public synchronized Counter counter(String name, String help, String... labels) {
+        return (Counter) series(name, help, Type.COUNTER, labels, Counter::new);
+    }
+
+    /** Histogram of values in raw units; exported as powers of two 2^minExp..2^maxExp times unitScale. */
+    public synchronized Histogram histogram(String name, String help, double unitScale, int minExp, int maxExp,
+                                            String... labels) {
+        return (Histogram) series(name, help, Type.HISTOGRAM, labels, () -> new Histogram(unitScale, minExp, maxExp));
+    }
+
+    /** Gauge sampled on the main thread by sampleGauges(). */
+    public synchronized void gauge(String name, String help, DoubleSupplier sampler, String... labels) {
+        series(name, help, Type.GAUGE, labels, () -> new Gauge(sampler));
+    }
+
+    private Object series(String name, String help, Type type, String[] labels, Supplier<Object> make) {
+        Family f = families.computeIfAbsent(name, n -> new Family(n, help, type));
+        if (f.type != type) throw new IllegalArgumentException(name + " is already a " + f.type);
+        return f.series.computeIfAbsent(labels(labels), k -> make.get());
+    }
+
+    private static String labels(String[] kv) {
+        if (kv.length == 0) return "";
+        if (kv.length % 2 != 0) throw new IllegalArgumentException("labels must be key/value pairs");
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < kv.length; i += 2) {
+            if (i > 0) sb.append(',');
+            sb.append(kv[i]).append("=\"").append(escape(kv[i + 1])).append('"');
+        }
+        return sb.append('}').toString();
+    }
+
+    private static String escape(String v) {
+        return v.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    /* ===================== sampling / export ===================== */
+
+    /** Main thread only: read every gauge once. */
+    public void sampleGauges() {
+        List<Gauge> gauges = new ArrayList<>();
+        synchronized (this) {
+            for (Family f : families.values()) {
+                if (f.type != Type.GAUGE) continue;
+                for (Object o : f.series.values()) gauges.add((Gauge) o);
+            }
+        }
+        for (Gauge g : gauges) {
+            try { g.value = g.sampler.getAsDouble(); } catch (RuntimeException ignored) {}
+        }
+    }
+
+    /** Prometheus text exposition (format 0.0.4). Any thread. */
+    public synchronized String render() {
+        StringBuilder sb = new StringBuilder(4096);
+        for (Family f : families.values()) {
+            String name = f.type == Type.COUNTER ? f.name + "_total" : f.name;
+            sb.append("# HELP ").append(name).append(' ').append(f.help).append('\n');
+            sb.append("# TYPE ").append(name).append(' ').append(f.type.name().toLowerCase(Locale.ROOT)).append('\n');
+            for (Map.Entry<String, Object> e : f.series.entrySet()) {
+                switch (f.type) {
+                    case COUNTER -> line(sb, name, e.getKey(), ((Counter) e.getValue()).get());
+                    case GAUGE -> line(sb, f.name, e.getKey(), ((Gauge) e.getValue()).value);
+                    case HISTOGRAM -> histogram(sb, f.name, e.getKey(), (Histogram) e.getValue());
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void histogram(StringBuilder sb, String name, String labels, Histogram h) {
+        Histogram.Snapshot s = h.snapshot();
+        for (int e = h.minExp; e <= h.maxExp; e++) {
+            String le = fmt((1L << e) * h.unitScale);
+            line(sb, name + "_bucket", withLe(labels, le), s.countAtMostPow2(e));
+        }
+        line(sb, name + "_bucket", withLe(labels, "+Inf"), s.count());
+        line(sb, name + "_sum", labels, s.sum() * h.unitScale);
+        line(sb, name + "_count", labels, s.count());
+    }
+
+    private static String withLe(String labels, String le) {
+        return labels.isEmpty() ? "{le=\"" + le + "\"}" : labels.substring(0, labels.length() - 1) + ",le=\"" + le + "\"}";
+    }
+
+    private static void line(StringBuilder sb, String name, String labels, double v) {
+        sb.append(name).append(labels).append(' ').append(fmt(v)).append('\n');
+    }
+
+    private static void line(StringBuilder sb, String name, String labels, long v) {
+        sb.append(name).append(labels).append(' ').append(v).append('\n');
+    }
+
+    private static String fmt(double v) {
+        if (v == Math.rint(v) && Math.abs(v) < 1e15) return Long.toString((long) v);
+        return Double.toString(v);
+    }
+}
@@ -0,0 +1,84 @@
+package net.groundzero.metrics;
+
+import com.sun.net.httpserver.HttpServer;
+import net.groundzero.app.Core;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Local scrape endpoint: GET http://metricsBindAddress:metricsPort/metrics.
+ *
+ * - JDK HttpServer on one daemon thread; rendering happens there, never on the main thread.
+ * - Gauges are sampled on the main thread once a second (plain Bukkit task: it must survive
+ *   Schedulers.cancelAll between matches).
+ * - metricsPort = 0 disables the exporter; the registry keeps counting either way.
+ */
+public final class PrometheusExporter {
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private BukkitTask sampler;
+
+    public void start() {
+        if (server != null) return;
+        final int port = Core.gameConfig.metricsPort;
+        if (port <= 0) return;
+
+        try {
+            server = HttpServer.create(new InetSocketAddress(Core.gameConfig.metricsBindAddress, port), 0);
+        } catch (IOException ex) {
+            Core.plugin.getLogger().warning("[Metrics] cannot bind " + Core.gameConfig.metricsBindAddress + ":" + port
+                    + " (" + ex.getMessage() + "), exporter off");
+            server = null;
+            return;
+        }
+
+        executor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "GroundZero-metrics");
+            t.setDaemon(true);
+            return t;
+        });
+        server.setExecutor(executor);
+        server.createContext("/metrics", ex -> {
+            try (ex) {
+                if (!"GET".equals(ex.getRequestMethod())) {
+                    ex.sendResponseHeaders(405, -1);
+                    return;
+                }
+                byte[] body = Core.metrics.render().getBytes(StandardCharsets.UTF_8);
+                ex.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+                ex.sendResponseHeaders(200, body.length);
+                try (OutputStream out = ex.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+        });
+        server.start();
+
+        Core.metrics.sampleGauges();
+        sampler = Bukkit.getScheduler().runTaskTimer(Core.plugin, Core.metrics::sampleGauges, 20L, 20L);
+        Core.plugin.getLogger().info("[Metrics] exporter on " + Core.gameConfig.metricsBindAddress + ":" + port + "/metrics");
+    }
+
+    public void stop() {
+        if (sampler != null) {
+            sampler.cancel();
+            sampler = null;
+        }
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package net.groundzero.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** One damage event routed by CombatListener (our arrow, vanilla arrow or melee). */
+@Name("groundzero.CombatResolution")
+@Label("Combat Resolution")
+@Category({"GroundZero", "Combat"})
+@Description("CombatListener routing one entity damage event")
+public final class CombatResolutionEvent extends jdk.jfr.Event {
+
+    @Label("Path")
+    @Description("gz_arrow, vanilla_arrow or melee")
+    public String path;
+
+    @Label("Attacker")
+    public String attacker;
+
+    @Label("Victim")
+    public String victim;
+
+    @Label("Weapon Id")
+    public String weaponId;
+
+    @Label("Damage")
+    public double damage;
+
+    @Label("Participants")
+    public int participants;
+}
@@ -0,0 +1,26 @@
+package net.groundzero.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** One DamageService.applyCustomDamage (arrows, DoT pulses, zone). */
+@Name("groundzero.CustomDamage")
+@Label("Custom Damage")
+@Category({"GroundZero", "Combat"})
+@Description("Damage applied by DamageService with i-frames removed")
+public final class CustomDamageEvent extends jdk.jfr.Event {
+
+    @Label("Attacker")
+    public String attacker;
+
+    @Label("Victim")
+    public String victim;
+
+    @Label("Damage")
+    public double damage;
+
+    @Label("Victim Health After")
+    public double healthAfter;
+}
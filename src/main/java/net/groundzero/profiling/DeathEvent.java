@@ -0,0 +1,35 @@
+package net.groundzero.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** One in-game death resolved by CombatOutcomeService (kill credit and score transfer). */
+@Name("groundzero.Death")
+@Label("Death")
+@Category({"GroundZero", "Combat"})
+@Description("Kill credit and score transfer for one death")
+public final class DeathEvent extends jdk.jfr.Event {
+
+    @Label("Victim")
+    public String victim;
+
+    @Label("Attacker")
+    public String attacker;
+
+    @Label("Credited")
+    public boolean credited;
+
+    @Label("Weapon Id")
+    public String weaponId;
+
+    @Label("Score Lost")
+    public double scoreLost;
+
+    @Label("Score Gained")
+    public double scoreGained;
+
+    @Label("Participants")
+    public int participants;
+}
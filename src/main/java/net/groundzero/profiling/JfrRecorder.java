@@ -0,0 +1,84 @@
+package net.groundzero.profiling;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import net.groundzero.app.Core;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * In-process JFR recording for /gz jfr (Core.jfr).
+ *
+ * - start(): JDK "profile" settings plus every GroundZero event, kept on disk as a ring
+ *   of maxAge, so a dump right after a lag spike still holds the spike.
+ * - dump()/stop() write plugins/GroundZero/jfr/groundzero-<time>.jfr; they do file I/O,
+ *   so callers run them off the main thread. Open the file in JDK Mission Control.
+ * - Events are cheap while no recording is on (GroundZero code checks shouldCommit()).
+ */
+public final class JfrRecorder {
+
+    private static final List<Class<? extends jdk.jfr.Event>> EVENTS = List.of(
+            TickPhaseEvent.class, TickSubscriberEvent.class,
+            CombatResolutionEvent.class, CustomDamageEvent.class, DeathEvent.class,
+            VoteTransitionEvent.class, TeleportEvent.class);
+
+    private static final DateTimeFormatter STAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private Recording recording;
+
+    public synchronized boolean isRecording() { return recording != null; }
+
+    /** @return false if a recording is already running. */
+    public synchronized boolean start(Duration maxAge) throws IOException, ParseException {
+        if (recording != null) return false;
+        Recording r = new Recording(Configuration.getConfiguration("profile"));
+        for (Class<? extends jdk.jfr.Event> e : EVENTS) r.enable(e);
+        r.setName("GroundZero");
+        r.setToDisk(true);
+        r.setMaxAge(maxAge);
+        r.start();
+        recording = r;
+        return true;
+    }
+
+    /** Write what has been recorded so far; keeps recording. Off the main thread. */
+    public Path dump() throws IOException {
+        Recording r;
+        synchronized (this) { r = recording; }
+        if (r == null) return null;
+        Path out = nextFile();
+        r.dump(out);
+        return out;
+    }
+
+    /** Stop, write the recording and close it. Off the main thread. */
+    public Path stop() throws IOException {
+        Recording r;
+        synchronized (this) {
+            r = recording;
+            recording = null;
+        }
+        if (r == null) return null;
+        try {
+            r.stop();
+            Path out = nextFile();
+            r.dump(out);
+            return out;
+        } finally {
+            r.close();
+        }
+    }
+
+    private static Path nextFile() throws IOException {
+        Path dir = Core.plugin.getDataFolder().toPath().resolve("jfr");
+        Files.createDirectories(dir);
+        return dir.resolve("groundzero-" + LocalDateTime.now().format(STAMP) + ".jfr");
+    }
+}
@@ -0,0 +1,145 @@
+package net.groundzero.profiling;
+
+import net.groundzero.app.Core;
+import org.bukkit.Bukkit;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Main-thread sampling profiler for /gz profile (Core.profiler).
+ *
+ * - A daemon thread takes the main thread's stack every intervalMs (Thread.getStackTrace,
+ *   so samples land on safepoints; good enough to rank our own methods, no agent needed).
+ * - Only net.groundzero frames are kept. A sample without any is counted as "other"
+ *   (server, other plugins, idle), so percentages are of total main-thread time.
+ * - Self time goes to the innermost net.groundzero frame, i.e. it includes the Bukkit /
+ *   JDK calls that method makes.
+ * - At the end, stacks are written as collapsed lines ("a;b;c count", root first) to
+ *   plugins/GroundZero/profiles/ for flamegraph.pl / speedscope, and the top self-time
+ *   methods are handed back on the main thread.
+ */
+public final class StackSampler {
+
+    private static final String PREFIX = "net.groundzero.";
+    private static final String SELF = StackSampler.class.getName();
+    private static final DateTimeFormatter STAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    /** What a finished run reports. */
+    public record Report(Path file, int samples, int ours, List<String> top) {}
+
+    private volatile Thread worker;
+    private volatile boolean stopRequested;
+
+    public boolean isRunning() { return worker != null; }
+
+    /**
+     * Start sampling the calling thread (call from the main thread).
+     * @return false if a run is already in progress.
+     */
+    public synchronized boolean start(int seconds, int intervalMs, int topN, Consumer<Report> onDone) {
+        if (worker != null) return false;
+        final Thread target = Thread.currentThread();
+        final long intervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, intervalMs));
+        final long endAt = System.nanoTime() + TimeUnit.SECONDS.toNanos(Math.max(1, seconds));
+        stopRequested = false;
+
+        Thread t = new Thread(() -> {
+            Map<String, Integer> stacks = new HashMap<>();
+            Map<String, Integer> self = new HashMap<>();
+            int samples = 0, ours = 0;
+            StringBuilder sb = new StringBuilder(256);
+
+            long next = System.nanoTime();
+            while (!stopRequested && System.nanoTime() < endAt && target.isAlive()) {
+                StackTraceElement[] st = target.getStackTrace();
+                samples++;
+                String leaf = collapse(st, sb);
+                if (leaf != null) {
+                    ours++;
+                    stacks.merge(sb.toString(), 1, Integer::sum);
+                    self.merge(leaf, 1, Integer::sum);
+                }
+                next += intervalNanos;
+                long wait = next - System.nanoTime();
+                if (wait > 0) LockSupport.parkNanos(wait);
+                else next = System.nanoTime(); // fell behind: don't burst
+            }
+
+            Report report;
+            try {
+                report = new Report(write(stacks), samples, ours, top(self, samples, topN));
+            } catch (IOException ex) {
+                Core.plugin.getLogger().warning("[Profiler] cannot write profile: " + ex.getMessage());
+                report = new Report(null, samples, ours, top(self, samples, topN));
+            }
+            final Report r = report;
+            synchronized (StackSampler.this) { worker = null; }
+            if (Core.plugin.isEnabled()) Bukkit.getScheduler().runTask(Core.plugin, () -> onDone.accept(r));
+        }, "GroundZero-profiler");
+        t.setDaemon(true);
+        worker = t;
+        t.start();
+        return true;
+    }
+
+    /** End the current run early; its report is still delivered. */
+    public void stop() { stopRequested = true; }
+
+    /**
+     * Our frames root → leaf into sb ("Class.method;Class.method").
+     * @return the innermost of our frames, or null if the sample has none.
+     */
+    private static String collapse(StackTraceElement[] st, StringBuilder sb) {
+        sb.setLength(0);
+        String leaf = null;
+        for (int i = st.length - 1; i >= 0; i--) {
+            String cls = st[i].getClassName();
+            if (!cls.startsWith(PREFIX) || cls.equals(SELF)) continue;
+            String frame = cls + "." + st[i].getMethodName();
+            if (!sb.isEmpty()) sb.append(';');
+            sb.append(frame);
+            leaf = frame;
+        }
+        return leaf;
+    }
+
+    private static Path write(Map<String, Integer> stacks) throws IOException {
+        Path dir = Core.plugin.getDataFolder().toPath().resolve("profiles");
+        Files.createDirectories(dir);
+        Path out = dir.resolve("profile-" + LocalDateTime.now().format(STAMP) + ".collapsed");
+        try (BufferedWriter w = Files.newBufferedWriter(out, StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, Integer> e : stacks.entrySet()) {
+                w.write(e.getKey());
+                w.write(' ');
+                w.write(Integer.toString(e.getValue()));
+                w.newLine();
+            }
+        }
+        return out;
+    }
+
+    private static List<String> top(Map<String, Integer> self, int samples, int n) {
+        List<Map.Entry<String, Integer>> list = new ArrayList<>(self.entrySet());
+        list.sort((a, b) -> Integer.compare(b.getValue(), a.getValue()));
+        List<String> out = new ArrayList<>(Math.min(n, list.size()));
+        for (int i = 0; i < list.size() && i < n; i++) {
+            Map.Entry<String, Integer> e = list.get(i);
+            out.add(String.format("%5.1f%% %s", 100.0 * e.getValue() / Math.max(1, samples),
+                    e.getKey().substring(PREFIX.length())));
+        }
+        return out;
+    }
+}
@@ -0,0 +1,32 @@
+package net.groundzero.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** One GameManager teleport, including the height probe that may load the target chunk. */
+@Name("groundzero.Teleport")
+@Label("Teleport")
+@Category({"GroundZero", "Game"})
+@Description("GameManager teleport (height probe + teleport, may load a chunk synchronously)")
+public final class TeleportEvent extends jdk.jfr.Event {
+
+    @Label("Player")
+    public String player;
+
+    @Label("Reason")
+    public String reason;
+
+    @Label("Chunk X")
+    public int chunkX;
+
+    @Label("Chunk Z")
+    public int chunkZ;
+
+    @Label("Chunk Was Loaded")
+    public boolean chunkLoaded;
+
+    @Label("Participants")
+    public int participants;
+}
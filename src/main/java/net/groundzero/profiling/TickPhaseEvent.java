@@ -0,0 +1,26 @@
+package net.groundzero.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** One TickBus phase of one tick (all its subscribers). */
+@Name("groundzero.TickPhase")
+@Label("Tick Phase")
+@Category({"GroundZero", "Tick"})
+@Description("One TickBus phase: every subscriber of the phase, in order")
+public final class TickPhaseEvent extends jdk.jfr.Event {
+
+    @Label("Phase")
+    public String phase;
+
+    @Label("Match Tick")
+    public int tick;
+
+    @Label("Subscribers")
+    public int subscribers;
+
+    @Label("Participants")
+    public int participants;
+}
@@ -0,0 +1,25 @@
+package net.groundzero.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/** One subscriber's onTick. Thresholded by default: a full match emits one per subscriber per tick. */
+@Name("groundzero.TickSubscriber")
+@Label("Tick Subscriber")
+@Category({"GroundZero", "Tick"})
+@Description("One TickBus subscriber's onTick")
+@Threshold("100 us")
+public final class TickSubscriberEvent extends jdk.jfr.Event {
+
+    @Label("Phase")
+    public String phase;
+
+    @Label("Subscriber")
+    public Class<?> subscriber;
+
+    @Label("Match Tick")
+    public int tick;
+}
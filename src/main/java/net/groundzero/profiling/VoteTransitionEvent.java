@@ -0,0 +1,27 @@
+package net.groundzero.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** One step of a vote round: start, resolve or reveal. */
+@Name("groundzero.VoteTransition")
+@Label("Vote Transition")
+@Category({"GroundZero", "Game"})
+@Description("VoteService round step (start, resolve, reveal)")
+public final class VoteTransitionEvent extends jdk.jfr.Event {
+
+    @Label("Stage")
+    public String stage;
+
+    @Label("Participants")
+    public int participants;
+
+    @Label("Slot Updates")
+    @Description("Vote inventory slot updates sent so far this round")
+    public int slotUpdates;
+
+    @Label("Result")
+    public String result;
+}
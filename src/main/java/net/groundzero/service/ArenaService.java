@@ -0,0 +1,447 @@
+package net.groundzero.service;
+
+import net.groundzero.app.Core;
+import net.groundzero.game.GameSession;
+import net.groundzero.service.arena.BlockJournal;
+import net.groundzero.service.arena.RegionSnapshot;
+import org.bukkit.Bukkit;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+
+/**
+ * Arena journal + rollback, optionally backed by a pristine region snapshot.
+ *
+ * Journal (always on during a match):
+ * - WorldProtectionListener reports every block about to change;
+ *   the first original state per position goes into a BlockJournal.
+ * - At match end rollback() replays the journal in chunk order, a few milliseconds
+ *   per tick (arenaRollbackBudgetMs), without physics. A new game cannot start until it is done.
+ * - The next arenaCaptureMaxInFlight chunks of the replay are loaded async and pinned with a
+ *   plugin chunk ticket until replayed. A chunk that is not loaded yet ends the tick's work,
+ *   so the rollback never loads a chunk synchronously (except on plugin disable).
+ *
+ * Snapshot (arenaSnapshotMode):
+ * - The match region (world, map size, center chunk) is captured once into a RegionSnapshot:
+ *   chunks are loaded async (arenaCaptureMaxInFlight at a time), ChunkSnapshots are encoded
+ *   off the main thread, journal originals recorded before a chunk was captured are laid over it,
+ *   and the result is written gzip'd to plugins/GroundZero/arenas/.
+ * - When a snapshot for the match region is ready, rollback pastes it section by section instead:
+ *   each chunk is diffed against a fresh ChunkSnapshot and only differing blocks are set.
+ *   Region chunks go through the same async load window as the journal replay; each ticket
+ *   is released once its chunk is pasted.
+ *   Journal entries outside the region are still replayed first.
+ *   This also resets changes the journal cannot see (other plugins, pre-game edits).
+ *
+ * - Tasks run on the plain Bukkit scheduler: Schedulers.cancelAll at match cleanup
+ *   must not stop them. On plugin disable the rollback finishes synchronously.
+ *
+ * Loading a fresh world copy per match (WorldCreator) is not used: world creation is
+ * main-thread only in the Bukkit API and would stall the server for seconds.
+ * Block entity contents (chests, signs) are not restored; only block data is.
+ */
+public final class ArenaService {
+
+    private final BlockJournal journal = new BlockJournal();
+
+    private World world;
+    private boolean recording = false;
+
+    // snapshot of the current match region (null until captured / loaded)
+    private RegionSnapshot template;
+    private String matchKey;
+    private int captureGen = 0;        // bumps to drop callbacks of an aborted capture / load
+    private boolean capturing = false;
+    private final Map<String, BlockData> parsed = new HashMap<>();
+
+    // rollback in progress
+    private BukkitTask task;
+    private World rollbackWorld;
+    private long[] order;
+    private int cursor;
+    private int prefetchCursor;            // first journal key whose chunk is not requested yet
+    private final Set<Long> loading = new HashSet<>();   // chunk keys with an async load pending
+    private final Set<Long> pinned = new HashSet<>();    // chunk keys holding our plugin ticket
+    private int rollbackGen = 0;           // bumps to drop load callbacks of a finished rollback
+    private RegionSnapshot pasting;
+    private int pasteCursor;               // chunkIndex * sections + sectionY
+    private ChunkSnapshot pasteChunk;
+    private int pasteChunkIndex = -1;
+    private int prefetchChunk;             // first region chunk not requested yet
+    private int ticks;
+    private int blocksSet;
+    private long startedNanos;
+
+    /* ===================== Lifecycle ===================== */
+
+    public void start(GameSession session) {
+        if (isRollingBack()) return;
+        journal.clear();
+        world = session.world();
+        recording = world != null;
+
+        if (world != null && Core.gameConfig.arenaSnapshotMode) prepareSnapshot(session);
+    }
+
+    public boolean isRollingBack() {
+        return order != null;
+    }
+
+    public boolean isRecording() {
+        return recording;
+    }
+
+    /* ===================== Journal ===================== */
+
+    /** Call before the block changes (its current data is the original). */
+    public void record(Block b) {
+        if (!recording || b == null || b.getWorld() != world) return;
+        journal.recordOriginal(b.getX(), b.getY(), b.getZ(), b.getBlockData());
+    }
+
+    /** Call when the block already changed but the replaced data is known. */
+    public void record(Block b, BlockData original) {
+        if (!recording || b == null || original == null || b.getWorld() != world) return;
+        journal.recordOriginal(b.getX(), b.getY(), b.getZ(), original);
+    }
+
+    /* ===================== Snapshot: load / capture ===================== */
+
+    private void prepareSnapshot(GameSession session) {
+        Location c = session.center();
+        if (c == null || session.mapSize() == null) return;
+
+        int half = (int) Math.ceil(session.mapSize().size / 2.0) + 16;
+        int minCx = (c.getBlockX() - half) >> 4, maxCx = (c.getBlockX() + half) >> 4;
+        int minCz = (c.getBlockZ() - half) >> 4, maxCz = (c.getBlockZ() + half) >> 4;
+        String key = world.getName() + "_" + session.mapSize().size + "_" + (c.getBlockX() >> 4) + "_" + (c.getBlockZ() >> 4);
+
+        matchKey = key;
+        if (template != null && template.key().equals(key)) return;
+        template = null;
+
+        final int gen = ++captureGen;
+        final File file = snapshotFile(key);
+        if (file.isFile()) {
+            Bukkit.getScheduler().runTaskAsynchronously(Core.plugin, () -> {
+                try {
+                    RegionSnapshot snap = RegionSnapshot.read(file);
+                    Bukkit.getScheduler().runTask(Core.plugin, () -> {
+                        if (gen == captureGen) template = snap;
+                    });
+                } catch (IOException ex) {
+                    Core.plugin.getLogger().log(Level.WARNING, "[ArenaService] cannot load " + file, ex);
+                }
+            });
+            return;
+        }
+
+        int sections = (world.getMaxHeight() - world.getMinHeight()) >> 4;
+        RegionSnapshot snap = new RegionSnapshot(key, minCx, minCz, maxCx, maxCz, world.getMinHeight(), sections);
+        ArrayDeque<Integer> queue = new ArrayDeque<>(snap.chunkCount());
+        for (int i = 0; i < snap.chunkCount(); i++) queue.add(i);
+
+        capturing = true;
+        int inFlight = Math.max(1, Core.gameConfig.arenaCaptureMaxInFlight);
+        for (int i = 0; i < inFlight; i++) captureNext(snap, queue, gen, file);
+    }
+
+    private void captureNext(RegionSnapshot snap, ArrayDeque<Integer> queue, int gen, File file) {
+        if (gen != captureGen) return;
+        Integer idx = queue.poll();
+        if (idx == null) return;
+
+        final World w = world;
+        w.getChunkAtAsync(snap.chunkX(idx), snap.chunkZ(idx)).thenAccept(chunk -> {
+            if (gen != captureGen) return;
+            ChunkSnapshot cs = chunk.getChunkSnapshot(false, false, false);
+            Bukkit.getScheduler().runTaskAsynchronously(Core.plugin, () -> {
+                RegionSnapshot.Section[] secs = RegionSnapshot.encode(cs, snap.minY(), snap.sections());
+                Bukkit.getScheduler().runTask(Core.plugin, () -> {
+                    if (gen != captureGen) return;
+                    snap.put(idx, secs);
+                    if (snap.isComplete()) finishCapture(snap, file);
+                    else captureNext(snap, queue, gen, file);
+                });
+            });
+        });
+    }
+
+    /** Main thread: lay journal originals over the capture, then persist it. */
+    private void finishCapture(RegionSnapshot snap, File file) {
+        capturing = false;
+
+        long[] keys = journal.sortedKeys();
+        int i = 0;
+        while (i < keys.length) {
+            int cx = BlockJournal.chunkX(keys[i]), cz = BlockJournal.chunkZ(keys[i]);
+            int j = i;
+            while (j < keys.length && BlockJournal.chunkX(keys[j]) == cx && BlockJournal.chunkZ(keys[j]) == cz) j++;
+            if (snap.contains(cx, cz)) snap.overlay(snap.indexOf(cx, cz), keys, i, j, journal);
+            i = j;
+        }
+        template = snap;
+
+        Bukkit.getScheduler().runTaskAsynchronously(Core.plugin, () -> {
+            try {
+                File dir = file.getParentFile();
+                if (!dir.isDirectory() && !dir.mkdirs()) throw new IOException("cannot create " + dir);
+                snap.write(file);
+                Core.plugin.getLogger().info("[ArenaService] saved arena snapshot " + file.getName());
+            } catch (IOException ex) {
+                Core.plugin.getLogger().log(Level.WARNING, "[ArenaService] cannot save " + file, ex);
+            }
+        });
+    }
+
+    private File snapshotFile(String key) {
+        return new File(new File(Core.plugin.getDataFolder(), "arenas"), key.replaceAll("[^A-Za-z0-9_-]", "_") + ".gz");
+    }
+
+    /* ===================== Rollback ===================== */
+
+    /** Stop recording and restore the arena (tick-budgeted unless the plugin is disabling). */
+    public void rollback() {
+        recording = false;
+        boolean disabling = Core.plugin == null || !Core.plugin.isEnabled();
+
+        if (isRollingBack()) {
+            if (disabling) {
+                if (task != null) task.cancel();
+                restore(Long.MAX_VALUE);
+                finish();
+            }
+            return;
+        }
+
+        // an unfinished capture is useless after the match: drop it
+        if (capturing) {
+            capturing = false;
+            captureGen++;
+        }
+
+        RegionSnapshot snap = (template != null && template.key().equals(matchKey)) ? template : null;
+        if (world == null || (journal.size() == 0 && snap == null)) {
+            journal.clear();
+            return;
+        }
+
+        rollbackWorld = world;
+        order = (snap != null) ? outside(journal.sortedKeys(), snap) : journal.sortedKeys();
+        cursor = 0;
+        prefetchCursor = 0;
+        pasting = snap;
+        pasteCursor = 0;
+        pasteChunk = null;
+        pasteChunkIndex = -1;
+        prefetchChunk = 0;
+        ticks = 0;
+        blocksSet = 0;
+        startedNanos = System.nanoTime();
+
+        if (disabling) {
+            restore(Long.MAX_VALUE);
+            finish();
+            return;
+        }
+        task = Bukkit.getScheduler().runTaskTimer(Core.plugin, this::step, 1L, 1L);
+    }
+
+    private static long[] outside(long[] keys, RegionSnapshot snap) {
+        int n = 0;
+        for (long k : keys) {
+            if (!snap.contains(BlockJournal.chunkX(k), BlockJournal.chunkZ(k))) keys[n++] = k;
+        }
+        return Arrays.copyOf(keys, n);
+    }
+
+    private void step() {
+        ticks++;
+        long budget = Math.max(1L, Core.gameConfig.arenaRollbackBudgetMs) * 1_000_000L;
+        if (restore(System.nanoTime() + budget)) finish();
+    }
+
+    /**
+     * Journal replay, then snapshot paste, until done, past deadline or at a chunk still loading.
+     * Long.MAX_VALUE (plugin disable) loads missing chunks synchronously instead of waiting.
+     * @return true when done.
+     */
+    private boolean restore(long deadline) {
+        World w = rollbackWorld;
+        boolean sync = deadline == Long.MAX_VALUE;
+        int loadedX = Integer.MIN_VALUE, loadedZ = Integer.MIN_VALUE;
+
+        while (cursor < order.length) {
+            long key = order[cursor];
+            int cx = BlockJournal.chunkX(key), cz = BlockJournal.chunkZ(key);
+            boolean newChunk = cx != loadedX || cz != loadedZ;
+            if ((newChunk || (cursor & 63) == 0) && System.nanoTime() >= deadline) return false;
+            if (newChunk) {
+                if (cursor > 0) {
+                    long prev = order[cursor - 1];
+                    int px = BlockJournal.chunkX(prev), pz = BlockJournal.chunkZ(prev);
+                    if (px != cx || pz != cz) release(w, px, pz);
+                }
+                if (!sync) prefetchAhead(w);
+                if (!ready(w, cx, cz, sync)) return false;
+                loadedX = cx;
+                loadedZ = cz;
+            }
+
+            BlockData data = journal.originalAt(key);
+            if (data != null) {
+                w.getBlockAt(BlockJournal.x(key), BlockJournal.y(key), BlockJournal.z(key)).setBlockData(data, false);
+                blocksSet++;
+            }
+            cursor++;
+        }
+        if (order.length > 0) {
+            long last = order[order.length - 1];
+            release(w, BlockJournal.chunkX(last), BlockJournal.chunkZ(last));
+        }
+
+        if (pasting == null) return true;
+        final int sections = pasting.sections();
+        final int total = pasting.chunkCount() * sections;
+        // a chunk left half-pasted last tick may have lost its ticket: diff it again once reloaded
+        if (pasteChunkIndex >= 0 && !sync
+                && !w.isChunkLoaded(pasting.chunkX(pasteChunkIndex), pasting.chunkZ(pasteChunkIndex))) {
+            pasteChunkIndex = -1;
+        }
+        while (pasteCursor < total) {
+            if (System.nanoTime() >= deadline) return false;
+            int chunkIndex = pasteCursor / sections;
+            if (chunkIndex != pasteChunkIndex) {
+                int cx = pasting.chunkX(chunkIndex), cz = pasting.chunkZ(chunkIndex);
+                if (chunkIndex > 0) release(w, pasting.chunkX(chunkIndex - 1), pasting.chunkZ(chunkIndex - 1));
+                if (!sync) prefetchAhead(w);
+                if (!ready(w, cx, cz, sync)) return false;
+                pasteChunk = w.getChunkAt(cx, cz).getChunkSnapshot(false, false, false);
+                pasteChunkIndex = chunkIndex;
+            }
+            pasteSection(w, chunkIndex, pasteCursor % sections);
+            pasteCursor++;
+        }
+        return true;
+    }
+
+    /* ===================== Rollback: chunk loading ===================== */
+
+    private static long chunkKey(int cx, int cz) {
+        return ((long) cx << 32) | (cz & 0xFFFFFFFFL);
+    }
+
+    /** Keep the next arenaCaptureMaxInFlight chunks of the replay (journal, then paste region) loading or pinned. */
+    private void prefetchAhead(World w) {
+        int window = Math.max(1, Core.gameConfig.arenaCaptureMaxInFlight);
+        if (prefetchCursor < cursor) prefetchCursor = cursor;
+        while (prefetchCursor < order.length && loading.size() + pinned.size() < window) {
+            int cx = BlockJournal.chunkX(order[prefetchCursor]), cz = BlockJournal.chunkZ(order[prefetchCursor]);
+            prefetch(w, cx, cz);
+            while (prefetchCursor < order.length
+                    && BlockJournal.chunkX(order[prefetchCursor]) == cx && BlockJournal.chunkZ(order[prefetchCursor]) == cz) {
+                prefetchCursor++;
+            }
+        }
+
+        if (pasting == null || prefetchCursor < order.length) return;
+        if (pasteChunkIndex >= prefetchChunk) prefetchChunk = pasteChunkIndex + 1;
+        while (prefetchChunk < pasting.chunkCount() && loading.size() + pinned.size() < window) {
+            prefetch(w, pasting.chunkX(prefetchChunk), pasting.chunkZ(prefetchChunk));
+            prefetchChunk++;
+        }
+    }
+
+    /** Load the chunk async and pin it with a plugin ticket once loaded (no-op while pending or pinned). */
+    private void prefetch(World w, int cx, int cz) {
+        long k = chunkKey(cx, cz);
+        if (loading.contains(k) || (pinned.contains(k) && w.isChunkLoaded(cx, cz))) return;
+        loading.add(k);
+
+        final int gen = rollbackGen;
+        w.getChunkAtAsync(cx, cz).whenComplete((chunk, err) -> {
+            if (gen != rollbackGen) return;
+            loading.remove(k);
+            if (err != null || chunk == null) return; // requested again when the replay reaches it
+            w.addPluginChunkTicket(cx, cz, Core.plugin);
+            pinned.add(k);
+        });
+    }
+
+    /** @return true if the chunk can be written now; otherwise its load is (re)requested. */
+    private boolean ready(World w, int cx, int cz, boolean sync) {
+        if (w.isChunkLoaded(cx, cz)) return true;
+        if (sync) {
+            w.getChunkAt(cx, cz);
+            return true;
+        }
+        prefetch(w, cx, cz);
+        return false;
+    }
+
+    private void release(World w, int cx, int cz) {
+        if (pinned.remove(chunkKey(cx, cz))) w.removePluginChunkTicket(cx, cz, Core.plugin);
+    }
+
+    /** Diff one section against pasteChunk (loaded and snapshotted by restore) and set what differs. */
+    private void pasteSection(World w, int chunkIndex, int sy) {
+        int cx = pasting.chunkX(chunkIndex), cz = pasting.chunkZ(chunkIndex);
+        RegionSnapshot.Section sec = pasting.section(chunkIndex, sy);
+        if (sec == null) return;
+        if (sec.isAir() && pasteChunk.isSectionEmpty(sy)) return;
+
+        int baseY = pasting.minY() + (sy << 4);
+        int bx = cx << 4, bz = cz << 4;
+        for (int idx = 0; idx < 4096; idx++) {
+            int lx = idx & 15, lz = (idx >> 4) & 15, y = baseY + (idx >> 8);
+            BlockData want = parsed.computeIfAbsent(sec.at(idx), Bukkit::createBlockData);
+
+            Material have = pasteChunk.getBlockType(lx, y, lz);
+            if (have == want.getMaterial()) {
+                // same type: only stateful blocks can still differ
+                if (sec.at(idx).indexOf('[') < 0 || pasteChunk.getBlockData(lx, y, lz).equals(want)) continue;
+            }
+            w.getBlockAt(bx + lx, y, bz + lz).setBlockData(want, false);
+            blocksSet++;
+        }
+    }
+
+    private void finish() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        if (Core.plugin != null) {
+            Core.plugin.getLogger().info(String.format(
+                    "[ArenaService] %s: %d blocks set in %d ticks, %.1f ms",
+                    pasting != null ? "snapshot paste" : "journal rollback",
+                    blocksSet, ticks, (System.nanoTime() - startedNanos) / 1e6));
+        }
+        rollbackGen++;
+        if (rollbackWorld != null) {
+            for (long k : pinned) rollbackWorld.removePluginChunkTicket((int) (k >> 32), (int) k, Core.plugin);
+        }
+        loading.clear();
+        pinned.clear();
+        order = null;
+        pasting = null;
+        pasteChunk = null;
+        pasteChunkIndex = -1;
+        rollbackWorld = null;
+        journal.clear();
+    }
+}
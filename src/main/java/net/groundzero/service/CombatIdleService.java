@@ -1,9 +1,13 @@
 package net.groundzero.service;
 
 import net.groundzero.app.Core;
-import net.groundzero.game.GameState;
+import net.groundzero.game.GameConfig;
+import net.groundzero.game.ScoringRules;
+import net.groundzero.metrics.Counter;
 import net.groundzero.service.tick.TickBus;
-import org.bukkit.Bukkit;
+import net.groundzero.util.NotificationChannel.MessageClass;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 
 import java.util.Map;
 import java.util.Set;
@@ -18,7 +22,7 @@ import java.util.concurrent.ConcurrentHashMap;
  * - On combat events (hit), both attacker and victim are reset to a negative grace:
  *      idleTicks = -combatWindowTicks (e.g., -200 for 10s)
  * - Every server tick, idleTicks += 1.
- * - When idleTicks crosses warn threshold, you may notify (optional).
+ * - When idleTicks crosses warn threshold, a title warning goes through NotificationChannel.
  * - When idleTicks >= firstPenaltyTicks, apply penalties stepwise:
  *      stepIndex = 1 at firstPenaltyTicks, then +1 every penaltyIntervalTicks.
  *      applied step is clamped to [0..maxStacks].
@@ -26,7 +30,7 @@ import java.util.concurrent.ConcurrentHashMap;
  *      Example with p = 5%:
  *          step1: -5%, step2: -10%, step3+: -15% each time.
  *
- * Config (ticks, not seconds):
+ * Config (ticks, not seconds; validated snapshot read once per tick):
  * - Core.gameConfig.combatWindowTicks        (grace as negative reset)
  * - Core.gameConfig.campWarnTicks            (warn threshold, e.g., 90s -> 1800)
  * - Core.gameConfig.campFirstPenaltyTicks    (first penalty threshold, e.g., 120s -> 2400)
@@ -52,6 +56,15 @@ public final class CombatIdleService implements TickBus.Tickable {
 
     private boolean running = false;
 
+    private final Counter penalties = Core.metrics.counter(
+            "groundzero_score_events", "Score changes by cause", "type", "camp_penalty");
+
+    // HUD segments (prebuilt, set by identity)
+    private static final Component COMBAT_TAG =
+            LegacyComponentSerializer.legacySection().deserialize("§cIN COMBAT");
+    private static final Component CAMP_WARNING =
+            LegacyComponentSerializer.legacySection().deserialize("§6§lCAMPING §7- §fmove or lose score");
+
     /* ===================== Lifecycle ===================== */
 
     /** Register into TickBus (idempotent). */
@@ -97,11 +110,8 @@ public final class CombatIdleService implements TickBus.Tickable {
         if (!running) return;
         if (!Core.session.state().isIngame()) return;
 
-        final int warnAt      = Math.max(0, Core.gameConfig.campWarnTicks);
-        final int firstAt     = Math.max(1, Core.gameConfig.campFirstPenaltyTicks);
-        final int interval    = Math.max(1, Core.gameConfig.campPenaltyIntervalTicks);
-        final double p        = Math.max(0.0, Core.gameConfig.campPenaltyPercent);
-        final int maxStacks   = Math.max(1, Core.gameConfig.campMaxStacks);
+        final GameConfig cfg  = Core.gameConfig;
+        final int warnAt      = cfg.campWarnTicks;
 
         for (UUID id : Core.session.getParticipantsView()) {
             // 1) advance idle counter
@@ -109,35 +119,42 @@ public final class CombatIdleService implements TickBus.Tickable {
             final int now  = prev + 1;
             idleTicks.put(id, now);
 
+            // HUD: combat tag while in grace, warning once past warnAt (HudService skips unchanged bars)
+            int slot = Core.session.slotOf(id);
+            Core.hudService.setSegment(slot, HudService.Segment.COMBAT, now < 0 ? COMBAT_TAG : null);
+            Core.hudService.setSegment(slot, HudService.Segment.WARNING, now >= warnAt ? CAMP_WARNING : null);
+
             // 2) warn once when crossing warnAt
             if (prev < warnAt && now >= warnAt) {
                 if (!warned.contains(id)) {
                     warned.add(id);
-                    Core.notifier.message(Bukkit.getPlayer(id), true, "WARNING");
-                    // TODO: Optional UI feedback (action bar / sound) to the player.
-                    // e.g., Core.notifier.sound(id, Sound.BLOCK_NOTE_BLOCK_PLING, Notifier.PitchLevel.ERR);
+                    Core.notifications.send(id, MessageClass.ALERT, "camp.warn", "&cMove or lose score!");
                 }
             }
 
             // 3) penalties after firstAt, then every interval
-            if (now >= firstAt) {
-                // stepIndex: 1 at firstAt, 2 at firstAt + interval, ...
-                int stepIndex = 1 + ((now - firstAt) / interval);
+            // stepIndex: 0 before firstAt, 1 at firstAt, 2 at firstAt + interval, ...
+            int stepIndex = ScoringRules.campStep(now, cfg);
+            if (stepIndex > 0) {
                 int already   = appliedStep.getOrDefault(id, 0);
 
                 // Apply only when a NEW step has been reached
                 if (stepIndex > already) {
                     // Apply steps in order until we catch up (handles large jumps)
+                    double burned = 0.0;
                     for (int s = already + 1; s <= stepIndex; s++) {
-                        int eff = Math.min(s, maxStacks); // clamp to maxStacks
                         double cur = Core.session.getScoreMap()
-                                .getOrDefault(id, Core.gameConfig.baseScore);
-                        double burn = Math.max(0.0, cur * (p * eff));
+                                .getOrDefault(id, cfg.baseScore);
+                        double burn = ScoringRules.campBurn(cur, s, cfg); // clamped to maxStacks
                         double next = Math.max(0.0, cur - burn);
                         Core.session.getScoreMap().put(id, next);
-                        Core.notifier.message(Bukkit.getPlayer(id), true, stepIndex + " You lost " + burn);
+                        burned += burn;
+                        penalties.inc();
                     }
                     appliedStep.put(id, stepIndex);
+                    // one aggregated line per catch-up; the channel merges repeats within its window
+                    Core.notifications.send(id, MessageClass.PENALTY, "camp.penalty",
+                            "Camping penalty : &c-%s &fscore", burned);
                 }
             }
         }
@@ -147,8 +164,6 @@ public final class CombatIdleService implements TickBus.Tickable {
 
     /** Convert config grace to negative ticks (never zero). */
     private int negativeGraceTicks() {
-        int ticks = Math.max(1, Core.gameConfig.combatWindowTicks);
-        int neg = -ticks;
-        return (neg == 0 ? -1 : neg);
+        return ScoringRules.campGraceTicks(Core.gameConfig);
     }
 }
@@ -1,85 +1,113 @@
 package net.groundzero.service;
 
 import net.groundzero.app.Core;
-import net.groundzero.game.GameState;
+import net.groundzero.game.ScoringRules;
+import net.groundzero.metrics.Counter;
+import net.groundzero.profiling.DeathEvent;
 import net.groundzero.service.model.LastHit;
+import net.groundzero.storage.PlayerProfile;
 import net.groundzero.util.Notifier;
 import org.bukkit.Bukkit;
-import org.bukkit.GameMode;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
 
 import java.util.UUID;
 
 /**
- * Handles kill credit and scoring on death.
- * Uses Core.gameConfig.combatLogoutGraceMillis as the shared combat window.
+ * Handles kill credit and scoring on death (math in ScoringRules).
+ * Kills and deaths also go to the players' persistent profiles (ProfileCache).
+ * Uses Core.gameConfig.combatWindowTicks as the shared combat window.
  * (Logout-in-combat grace is TODO and will be implemented in PlayerService later.)
  */
 public final class CombatOutcomeService {
 
-    /** Death while INGAME: resolve attacker (if within window), apply score transfers/penalties, and spectatorize. */
+    private final Counter kills = Core.metrics.counter(
+            "groundzero_score_events", "Score changes by cause", "type", "kill");
+    private final Counter deaths = Core.metrics.counter(
+            "groundzero_score_events", "Score changes by cause", "type", "uncredited_death");
+
+    /** Death while INGAME: resolve attacker (if within window), apply score transfers/penalties, and queue respawn. */
     public void handlePlayerDeath(Player victim) {
         if (victim == null || !Core.session.state().isIngame()) return;
 
-        applyDeathScoring(victim.getUniqueId(), victim.getName());
+        DeathEvent ev = new DeathEvent();
+        ev.begin();
+
+        applyDeathScoring(victim.getUniqueId(), victim.getName(), ev);
+        Core.statusEffectService.clearVictim(victim.getUniqueId());
 
-        /*
-        // Spectator & TODO-respawn
-        try { victim.setGameMode(GameMode.SPECTATOR); } catch (Throwable ignored) {}
-        Core.schedulers.runLater(() -> {
-            if (!victim.isOnline()) return;
-            // TODO: select spawn, reset inventory/effects, SURVIVAL
-        }, 60L); // 3s placeholder */
+        // spectate for respawnDelayTicks, then revive at a pooled spawn with the loadout template
+        Core.respawnService.queue(victim);
+
+        ev.end();
+        if (ev.shouldCommit()) {
+            ev.victim = victim.getName();
+            ev.participants = Core.session.getParticipantsView().size();
+            ev.commit();
+        }
     }
 
     /* ========== internal scoring ========== */
 
-    private void applyDeathScoring(UUID victimId, String victimName) {
+    private void applyDeathScoring(UUID victimId, String victimName, DeathEvent ev) {
         double vScore = Core.session.getScoreMap().getOrDefault(victimId, 0.0);
 
         // Resolve attacker within window (environment/mob deaths included)
         LastHit last = Core.damageService.peekLastHit(victimId);
         boolean inWindow = false;
         if (last != null) {
-            int nowTicks = Core.session.remainingTicks();
-            int dt = last.tick - nowTicks;
-            inWindow = (dt >= 0) && (dt < Core.gameConfig.combatWindowTicks);
+            inWindow = ScoringRules.creditsKill(Core.clock.matchTick() - last.tick, Core.gameConfig);
         }
 
         UUID aId = (inWindow ? last.attacker : null);
+        Core.profileCache.whenLoaded(victimId, PlayerProfile::recordDeath);
 
         if (aId != null) {
             // victim loses % of their own score
-            double loss = Math.max(0.0, vScore * clamp01(Core.gameConfig.deathPenaltyPercent));
+            double loss = ScoringRules.killLoss(vScore, Core.gameConfig);
 
             double aScore = Core.session.getScoreMap().getOrDefault(aId, 0.0);
             // attacker gains % of the VICTIM's score (steal from victim)
-            double gain = Math.max(0.0, vScore * clamp01(Core.gameConfig.killStealPercent));
+            double gain = ScoringRules.killGain(vScore, Core.gameConfig);
 
             Core.session.getScoreMap().put(victimId, Math.max(0.0, vScore - loss));
             Core.session.getScoreMap().put(aId, Math.max(0.0, aScore + gain));
-
-            String aName = Bukkit.getPlayer(aId).getName();
-
-            Core.notifier.broadcast(
-                    Bukkit.getOnlinePlayers(),
-                    Sound.ENTITY_PLAYER_LEVELUP, Notifier.PitchLevel.HIGH, false,
+            kills.inc();
+            Core.profileCache.whenLoaded(aId, PlayerProfile::recordKill);
+            ev.credited = true;
+            ev.weaponId = last.weaponId;
+            ev.scoreLost = loss;
+            ev.scoreGained = gain;
+
+            String aName = nameOf(aId); // attacker may have quit since the hit
+            ev.attacker = aName;
+
+            Core.notifier.feed(
+                    Sound.ENTITY_PLAYER_LEVELUP, Notifier.PitchLevel.HIGH,
                     "&a" + aName + " §fkilled §c" + victimName
                             + " §7(§6+" + fmt(gain) + "§7 / §c-" + fmt(loss + gain) + "§7)"
             ); // TODO : use weaponId to format nicer
+            Core.spectatorViewService.pushFeed("§a" + aName + " §7> §c" + victimName);
         } else {
-            double loss = Math.max(0.0, vScore * clamp01(Core.gameConfig.nonPlayerDeathPenaltyPercent));
+            double loss = ScoringRules.uncreditedLoss(vScore, Core.gameConfig);
 
             Core.session.getScoreMap().put(victimId, Math.max(0.0, vScore - loss));
-            Core.notifier.broadcast(
-                    Bukkit.getOnlinePlayers(),
-                    Sound.BLOCK_NOTE_BLOCK_BASS, Notifier.PitchLevel.MID, false,
+            deaths.inc();
+            ev.scoreLost = loss;
+            Core.notifier.feed(
+                    Sound.BLOCK_NOTE_BLOCK_BASS, Notifier.PitchLevel.MID,
                     "&a" + victimName + " &fdied (penalty &c-" + fmt(loss)
             );
+            Core.spectatorViewService.pushFeed("§c" + victimName + " §7died");
         }
     }
 
-    private static double clamp01(double v) { return v < 0 ? 0 : (v > 1 ? 1 : v); }
+    private static String nameOf(UUID id) {
+        Player online = Bukkit.getPlayer(id);
+        if (online != null) return online.getName();
+        String known = Bukkit.getOfflinePlayer(id).getName(); // cached profile name, no lookup
+        return known != null ? known : "unknown";
+    }
+
     private static String fmt(double v) { return String.format("%.2f", v); }
 }
@@ -0,0 +1,211 @@
+package net.groundzero.service;
+
+import net.groundzero.app.Core;
+import net.groundzero.game.GameSession;
+import net.groundzero.item.WeaponDef;
+import net.groundzero.service.tick.TickBus;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Weapon cooldown / fire-rate engine (tick-based).
+ *
+ * Storage (sized once per match):
+ * - readyAt[slot * weapons + weaponId]   tick at which the next shot is allowed
+ * - burstUsed[slot * weapons + weaponId] shots fired in the current burst
+ * - lastClick[slot]                      tick of the last weapon click (double-click detection)
+ * slot = GameSession.slotOf(player), weaponId = WeaponDef.id().
+ *
+ * Rules:
+ * - Inside a burst, shots are spaced by burstIntervalTicks; the last shot of a burst
+ *   arms the full cooldownTicks.
+ * - A burst that was left idle for a full cooldown starts over.
+ *
+ * Clock: Core.clock.matchTick() (same clock for cooldowns and double-clicks).
+ * The interact path is a single array read; cooldown bars are computed in batch on tick,
+ * only for slots with a visible cooldown and only when the bar step changes, and handed to
+ * HudService as its COOLDOWN segment (HudService composes and sends the action bar).
+ */
+public final class CooldownService implements TickBus.Tickable {
+
+    public static final int DOUBLE_CLICK_TICKS = 6; // ~300ms
+    private static final int BAR_SEGMENTS = 10;
+    private static final int RENDER_PERIOD_TICKS = 2;
+    private static final int READY_SHOWN_TICKS = 20;
+
+    private int weapons;
+    private int[] readyAt = new int[0];
+    private int[] burstUsed = new int[0];
+    private int[] lastClick = new int[0];
+
+    // action bar state per slot
+    private int[] shownWeapon = new int[0];
+    private int[] shownTotal = new int[0];
+    private int[] shownStep = new int[0];
+    private final BitSet active = new BitSet();
+
+    /** Prebuilt bars: [weaponId][step]; step BAR_SEGMENTS = ready. */
+    private Component[][] bars = new Component[0][];
+
+    private GameSession session;
+    private boolean running = false;
+
+    /* ===================== Lifecycle ===================== */
+
+    public void start(GameSession session) {
+        if (running) return;
+        this.session = session;
+        this.weapons = Math.max(1, Core.itemRegistry.size());
+
+        int slots = session.slotCount();
+        readyAt = new int[slots * weapons];
+        burstUsed = new int[slots * weapons];
+        lastClick = new int[slots];
+        Arrays.fill(lastClick, Integer.MIN_VALUE / 2);
+
+        shownWeapon = new int[slots];
+        shownTotal = new int[slots];
+        shownStep = new int[slots];
+        Arrays.fill(shownWeapon, -1);
+        active.clear();
+
+        bars = new Component[weapons][];
+        for (int w = 0; w < weapons; w++) {
+            WeaponDef def = Core.itemRegistry.get(w);
+            String name = (def != null ? def.displayName().replace('&', '§') : "");
+            bars[w] = buildBars(name);
+        }
+
+        running = true;
+        Core.tickBus.register(TickBus.Phase.RENDER, this);
+    }
+
+    public void stop() {
+        if (!running) return;
+        running = false;
+        Core.tickBus.unregister(this);
+        readyAt = burstUsed = lastClick = shownWeapon = shownTotal = shownStep = new int[0];
+        active.clear();
+        session = null;
+    }
+
+    /* ===================== Hot path ===================== */
+
+    /** Single array read: may this slot fire this weapon at tick now? */
+    public boolean isReady(int slot, int weaponId, int now) {
+        int i = slot * weapons + weaponId;
+        return i >= 0 && i < readyAt.length && now >= readyAt[i];
+    }
+
+    /**
+     * Consume a shot if ready. Returns false (and changes nothing) while cooling down.
+     */
+    public boolean tryFire(int slot, WeaponDef def, int now) {
+        if (!running || def == null) return false;
+        int i = slot * weapons + def.id();
+        if (i < 0 || i >= readyAt.length || now < readyAt[i]) return false;
+
+        int burst = def.burstSize();
+        if (burst > 1 && burstUsed[i] > 0 && now - readyAt[i] >= def.cooldownTicks()) {
+            burstUsed[i] = 0; // idle long enough: fresh burst
+        }
+
+        int used = burstUsed[i] + 1;
+        int wait;
+        if (used < burst) {
+            burstUsed[i] = used;
+            wait = def.burstIntervalTicks();
+        } else {
+            burstUsed[i] = 0;
+            wait = def.cooldownTicks();
+        }
+        readyAt[i] = now + wait;
+
+        // only full cooldowns are worth an action bar
+        if (wait > RENDER_PERIOD_TICKS && used >= burst) {
+            shownWeapon[slot] = def.id();
+            shownTotal[slot] = wait;
+            shownStep[slot] = -1;
+            active.set(slot);
+        }
+        return true;
+    }
+
+    /**
+     * Record a weapon click on the shared tick clock.
+     * @return true if this click lands within DOUBLE_CLICK_TICKS of the previous one
+     */
+    public boolean registerClick(int slot, int now) {
+        if (slot < 0 || slot >= lastClick.length) return false;
+        boolean dbl = (now - lastClick[slot]) <= DOUBLE_CLICK_TICKS;
+        lastClick[slot] = dbl ? Integer.MIN_VALUE / 2 : now; // a double-click consumes the pair
+        return dbl;
+    }
+
+    /** Clear all cooldowns of a slot (e.g., on respawn). */
+    public void resetSlot(int slot) {
+        if (slot < 0 || slot >= lastClick.length) return;
+        int from = slot * weapons;
+        Arrays.fill(readyAt, from, from + weapons, 0);
+        Arrays.fill(burstUsed, from, from + weapons, 0);
+        shownWeapon[slot] = -1;
+        active.clear(slot);
+        Core.hudService.setSegment(slot, HudService.Segment.COOLDOWN, null);
+    }
+
+    /* ===================== Tick (batched action bar) ===================== */
+
+    @Override
+    public void onTick(int currentTick) {
+        if (!running || session == null) return;
+        if (!Core.session.state().isIngame()) return;
+        if (currentTick % RENDER_PERIOD_TICKS != 0) return;
+
+        for (int s = active.nextSetBit(0); s >= 0; s = active.nextSetBit(s + 1)) {
+            int w = shownWeapon[s];
+            if (w < 0) { active.clear(s); continue; }
+
+            int left = readyAt[s * weapons + w] - currentTick;
+            int step;
+            if (left <= 0) {
+                step = BAR_SEGMENTS;
+            } else {
+                int total = Math.max(1, shownTotal[s]);
+                step = BAR_SEGMENTS - (int) Math.ceil(left * (double) BAR_SEGMENTS / total);
+                if (step < 0) step = 0;
+            }
+            if (step == shownStep[s]) continue;
+            shownStep[s] = step;
+
+            Core.hudService.setSegment(s, HudService.Segment.COOLDOWN, bars[w][step],
+                    step == BAR_SEGMENTS ? currentTick + READY_SHOWN_TICKS : 0);
+
+            if (step == BAR_SEGMENTS) {
+                shownWeapon[s] = -1;
+                active.clear(s);
+            }
+        }
+    }
+
+    /* ===================== helpers ===================== */
+
+    private Component[] buildBars(String weaponName) {
+        Component[] out = new Component[BAR_SEGMENTS + 1];
+        for (int step = 0; step <= BAR_SEGMENTS; step++) {
+            if (step == BAR_SEGMENTS) {
+                out[step] = LegacyComponentSerializer.legacySection().deserialize(weaponName + " §aREADY");
+                continue;
+            }
+            StringBuilder sb = new StringBuilder(weaponName).append(" §a");
+            for (int i = 0; i < BAR_SEGMENTS; i++) {
+                if (i == step) sb.append("§7");
+                sb.append('■');
+            }
+            out[step] = LegacyComponentSerializer.legacySection().deserialize(sb.toString());
+        }
+        return out;
+    }
+}
@@ -1,6 +1,8 @@
 package net.groundzero.service;
 
 import net.groundzero.app.Core;
+import net.groundzero.metrics.Counter;
+import net.groundzero.profiling.CustomDamageEvent;
 import net.groundzero.service.model.DamageKind;
 import net.groundzero.service.model.LastHit;
 import net.groundzero.service.ProjectileService.Payload;
@@ -10,6 +12,7 @@ import org.bukkit.entity.Player;
 import org.bukkit.metadata.FixedMetadataValue;
 import org.bukkit.util.Vector;
 
+import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -33,6 +36,16 @@ public final class DamageService {
     /** victimId -> last hit snapshot */
     private final Map<UUID, LastHit> lastHitMap = new ConcurrentHashMap<>();
 
+    /** Recorded hits by DamageKind ordinal. */
+    private final Counter[] hits = new Counter[DamageKind.values().length];
+
+    public DamageService() {
+        for (DamageKind k : DamageKind.values()) {
+            hits[k.ordinal()] = Core.metrics.counter("groundzero_hits", "Hits recorded for kill credit",
+                    "kind", k.name().toLowerCase(Locale.ROOT));
+        }
+    }
+
     /* ===================== last-hit API (kill credit) ===================== */
 
     /**
@@ -43,9 +56,9 @@ public final class DamageService {
         if (victim == null || kind == null) return;
         if (!Core.session.state().isIngame()) return;
 
-        int snap = Core.session.remainingTicks();
+        hits[kind.ordinal()].inc();
         lastHitMap.put(victim, new LastHit(
-                victim, attacker, kind, weaponId, amount, snap
+                victim, attacker, kind, weaponId, amount, Core.clock.matchTick()
         ));
 
         // Reset camping idle timer on combat event
@@ -89,18 +102,28 @@ public final class DamageService {
         }, 1L);
     }
 
+    /** Apply our projectile's payload damage (see applyCustomDamage). */
+    public void applyProjectileDamage(UUID attackerId, LivingEntity victim, Payload payload) {
+        if (payload == null) return;
+        applyCustomDamage(attackerId, victim, payload.baseDamage());
+    }
+
     /**
      * Apply custom damage while temporarily removing i-frames.
      * - If attackerId is online, pass Player as the damager for proper vanilla feedback.
      * - If attackerId is null or offline, call damage(amount) without a source.
+     * Used by projectiles and the DoT engine.
      */
-    public void applyProjectileDamage(UUID attackerId, LivingEntity victim, Payload payload) {
-        if (victim == null || payload == null) return;
+    public void applyCustomDamage(UUID attackerId, LivingEntity victim, double rawAmount) {
+        if (victim == null) return;
         if (!Core.session.state().isIngame()) return;
 
-        final double amount = Math.max(0.0, payload.baseDamage());
+        final double amount = Math.max(0.0, rawAmount);
         final Player attacker = (attackerId != null) ? Bukkit.getPlayer(attackerId) : null;
 
+        CustomDamageEvent ev = new CustomDamageEvent();
+        ev.begin();
+
         // Mark this tick as our custom application to:
         //  - prevent recursive listener handling
         //  - allow knockback listeners to cancel knockback
@@ -134,5 +157,14 @@ public final class DamageService {
             try { victim.setNoDamageTicks(oldNoDamageTicks); } catch (Throwable ignored) {}
             throw t;
         }
+
+        ev.end();
+        if (ev.shouldCommit()) {
+            ev.attacker = (attacker != null) ? attacker.getName() : null;
+            ev.victim = victim.getName();
+            ev.damage = amount;
+            ev.healthAfter = victim.getHealth();
+            ev.commit();
+        }
     }
 }
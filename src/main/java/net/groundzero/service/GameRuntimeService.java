@@ -11,7 +11,8 @@ import java.util.UUID;
  * - Decrements remaining time every tick.
  * - Every second, adds income to plasma and score.
  * - Ends the game when time reaches zero.
- * - Future: cooldowns / DoT / combat tags (subscribe here or via separate services).
+ * - Cooldowns live in CooldownService, DoT in StatusEffectService (own TickBus subscribers).
+ * - Future: combat tags (subscribe here or via separate services).
  */
 public final class GameRuntimeService implements TickBus.Tickable {
 
@@ -53,10 +54,10 @@ public final class GameRuntimeService implements TickBus.Tickable {
                         .getOrDefault(id, Core.gameConfig.basePlasma);
                 session.getPlasmaMap().put(id, plasma + incPerSec);
             }
+            Core.shopService.refreshOpenViews();
         }
 
         // TODO:
-        // 3) (future) cooldown / DoT / combat tag updates
-        // e.g., cooldownService.onTick(currentTick);
+        // 3) (future) combat tag updates (cooldowns: CooldownService, DoT: StatusEffectService)
     }
 }
@@ -1,10 +1,9 @@
 package net.groundzero.service;
 
+import net.groundzero.app.Core;
+import net.groundzero.ui.MenuAction;
 import net.groundzero.ui.MenuType;
 import net.groundzero.ui.holder.GroundZeroMenuHolder;
-import net.groundzero.ui.options.GameModeOption;
-import net.groundzero.ui.options.IncomeOption;
-import net.groundzero.ui.options.MapSizeOption;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
@@ -13,135 +12,82 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
 import java.util.Arrays;
-import java.util.List;
 
 import static org.bukkit.Bukkit.createInventory;
 
 /**
  * GUI build/open/close only.
  * Voting-specific logic is handled in VoteService.
+ *
+ * Menus are data: each holder carries a slot → action table built once,
+ * and vote items come from prebuilt VoteStacks (no ItemMeta rebuilds on updates).
  */
 public final class GuiService {
 
-    private Inventory invMapSize;
-    private Inventory invIncome;
-    private Inventory invGameMode;
-    private Inventory invShop;
+    public static final int VOTE_SIZE = 54;
+    public static final int CANCEL_SLOT = 53;
 
-    public GuiService() {}
+    private final ItemStack cancelItem = buildCancelItem();
 
-    /* ----------------------- BUILDERS ----------------------- */
+    private static final MenuAction CANCEL_ACTION = p -> {
+        Core.game.tryCancel(p);
+        p.closeInventory();
+    };
 
-    public void newMapSize() { invMapSize = buildMapSize(); }
-    public void newIncome() { invIncome = buildIncome(); }
-    public void newGameMode() { invGameMode = buildGameMode(); }
-    public void newShop() { invShop = buildShop(); }
+    private MenuAction[] voteActions; // built once, shared by every vote inventory
+    private Inventory invVote;
 
-    private Inventory buildMapSize() {
-        Inventory inv = createInventory(
-                new GroundZeroMenuHolder(MenuType.MAP_SIZE),
-                27,
-                "Choose Map Size"
-        );
+    public GuiService() {}
 
-        for (MapSizeOption opt : MapSizeOption.values()) {
-            inv.setItem(
-                    opt.slot,
-                    item(opt.material, "§b" + opt.label, votesLore(opt.label, 0))
-            );
-        }
+    /* ----------------------- BUILDERS ----------------------- */
 
-        inv.setItem(26, cancelItem());
-        return inv;
-    }
+    public void newVote() { invVote = buildVote(); }
 
-    private Inventory buildIncome() {
-        Inventory inv = createInventory(
-                new GroundZeroMenuHolder(MenuType.INCOME_MULTIPLIER),
-                27,
-                "Choose Income Multiplier"
-        );
-
-        for (IncomeOption opt : IncomeOption.values()) {
-            inv.setItem(
-                    opt.slot,
-                    item(opt.material, "§b" + opt.label, votesLore(opt.label, 0))
-            );
+    /** One inventory for all concurrent votes; VoteService fills the rows and binds the slots. */
+    private Inventory buildVote() {
+        if (voteActions == null) {
+            MenuAction[] actions = new MenuAction[VOTE_SIZE];
+            Core.voteService.bindVoteActions(actions);
+            actions[CANCEL_SLOT] = CANCEL_ACTION;
+            voteActions = actions;
         }
 
-        inv.setItem(26, cancelItem());
-        return inv;
-    }
-
-    private Inventory buildGameMode() {
         Inventory inv = createInventory(
-                new GroundZeroMenuHolder(MenuType.GAME_MODE),
-                27,
-                "Choose Game Mode"
+                new GroundZeroMenuHolder(MenuType.VOTE, voteActions),
+                VOTE_SIZE,
+                "Vote Game Settings"
         );
-
-        for (GameModeOption opt : GameModeOption.values()) {
-            inv.setItem(
-                    opt.slot,
-                    item(opt.material, "§b" + opt.label, votesLore(opt.label, 0))
-            );
-        }
-
-        inv.setItem(26, cancelItem());
+        Core.voteService.fillVoteInventory(inv);
+        inv.setItem(CANCEL_SLOT, cancelItem);
         return inv;
     }
 
-    private Inventory buildShop() {
-        return createInventory(
-                new GroundZeroMenuHolder(MenuType.SHOP),
+    /** Shop inventories are per player; ShopService caches them and passes its base contents and actions. */
+    public Inventory buildShop(ItemStack[] contents, MenuAction[] actions) {
+        Inventory inv = createInventory(
+                new GroundZeroMenuHolder(MenuType.SHOP, actions),
                 54,
                 "Call Support"
         );
+        inv.setContents(contents);
+        return inv;
     }
 
     /* ----------------------- GETTERS (for VoteService) ----------------------- */
 
-    /** Returns current MapSize inventory (creates if null). */
-    public Inventory getMapSizeInventory() {
-        if (invMapSize == null) {
-            invMapSize = buildMapSize();
-        }
-        return invMapSize;
-    }
-
-    /** Returns current Income inventory (creates if null). */
-    public Inventory getIncomeInventory() {
-        if (invIncome == null) {
-            invIncome = buildIncome();
-        }
-        return invIncome;
-    }
-
-    /** Returns current GameMode inventory (creates if null). */
-    public Inventory getGameModeInventory() {
-        if (invGameMode == null) {
-            invGameMode = buildGameMode();
+    /** Returns current vote inventory (creates if null). */
+    public Inventory getVoteInventory() {
+        if (invVote == null) {
+            invVote = buildVote();
         }
-        return invGameMode;
-    }
-
-    /** Returns current Shop inventory (creates if null). */
-    public Inventory getShopInventory() {
-        if (invShop == null) {
-            invShop = buildShop();
-        }
-        return invShop;
+        return invVote;
     }
 
     /* ----------------------- OPENERS ----------------------- */
 
-    public void openMapSize(Player p) { p.openInventory(getMapSizeInventory()); }
-
-    public void openIncome(Player p) { p.openInventory(getIncomeInventory()); }
+    public void openVote(Player p) { p.openInventory(getVoteInventory()); }
 
-    public void openGameMode(Player p) { p.openInventory(getGameModeInventory()); }
-
-    public void openShop(Player p) { p.openInventory(getShopInventory()); }
+    public void openShop(Player p) { p.openInventory(Core.shopService.viewFor(p)); }
 
     /* ----------------------- CLOSE ALL GZ VIEWS ----------------------- */
 
@@ -157,39 +103,7 @@ public final class GuiService {
 
     /* ----------------------- HELPERS ----------------------- */
 
-    private ItemStack item(Material m, String name, List<String> lore) {
-        ItemStack it = new ItemStack(m);
-        ItemMeta meta = it.getItemMeta();
-        meta.setDisplayName(name);
-        meta.setLore(lore);
-        it.setItemMeta(meta);
-        return it;
-    }
-
-    // still used to build initial GUI (0 votes)
-    private List<String> votesLore(String label, int count) {
-        String click = "§fClick to vote §b" + label;
-        if (count <= 0) {
-            return Arrays.asList(
-                    "",
-                    click,
-                    "§fVotes : §a- §f(§e0§f)"
-            );
-        }
-        // (we may never reach here from builder, but keep for completeness)
-        StringBuilder bar = new StringBuilder();
-        for (int i = 0; i < count; i++) {
-            if (i > 0) bar.append(' ');
-            bar.append('■');
-        }
-        return Arrays.asList(
-                "",
-                click,
-                "§fVotes : §a" + bar + " §f(§e" + count + "§f)"
-        );
-    }
-
-    private ItemStack cancelItem() {
+    private static ItemStack buildCancelItem() {
         ItemStack it = new ItemStack(Material.BARRIER);
         ItemMeta meta = it.getItemMeta();
         meta.setDisplayName("§cClose");
@@ -0,0 +1,163 @@
+package net.groundzero.service;
+
+import net.groundzero.app.Core;
+import net.groundzero.game.GameSession;
+import net.groundzero.service.tick.TickBus;
+import net.kyori.adventure.bossbar.BossBar;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.UUID;
+
+/**
+ * HUD renderer beside the sidebar (UI-only, RENDER phase).
+ *
+ * Action bar (per participant slot):
+ * - Composed from segments (cooldown, combat tag, warning) that other services set
+ *   with setSegment(). Segments are prebuilt Components; a segment may expire at a tick.
+ * - The composed bar is cached with a hash of its segment identities and only sent when
+ *   that hash changes, plus a keep-alive resend before the client fades it out.
+ *
+ * Boss bar:
+ * - One shared BossBar for the match timer (remainingTicks). Name/progress are updated
+ *   once per second on the shared instance; Adventure pushes it to every viewer.
+ */
+public final class HudService implements TickBus.Tickable {
+
+    /** Action bar segments, left to right. */
+    public enum Segment { COOLDOWN, COMBAT, WARNING }
+
+    private static final int SEGMENTS = Segment.values().length;
+    private static final int KEEPALIVE_TICKS = 40; // vanilla fades the action bar after ~60 ticks
+    private static final Component SEPARATOR = LegacyComponentSerializer.legacySection().deserialize(" §8| ");
+
+    private Component[] seg = new Component[0];     // [slot * SEGMENTS + segment]
+    private int[] segUntil = new int[0];            // expiry tick, 0 = none
+    private int[] shownHash = new int[0];
+    private int[] sentAt = new int[0];
+    private Component[] composed = new Component[0];
+
+    private final BossBar timerBar = BossBar.bossBar(Component.empty(), 1.0f, BossBar.Color.BLUE, BossBar.Overlay.PROGRESS);
+    private int shownSeconds = -1;
+
+    private GameSession session;
+    private boolean running = false;
+
+    /* ===================== Lifecycle ===================== */
+
+    public void start(GameSession session) {
+        if (running) return;
+        this.session = session;
+
+        int slots = session.slotCount();
+        seg = new Component[slots * SEGMENTS];
+        segUntil = new int[slots * SEGMENTS];
+        shownHash = new int[slots];
+        sentAt = new int[slots];
+        composed = new Component[slots];
+        shownSeconds = -1;
+
+        for (Player p : Bukkit.getOnlinePlayers()) p.showBossBar(timerBar);
+
+        running = true;
+        Core.tickBus.register(TickBus.Phase.RENDER, this);
+    }
+
+    public void stop() {
+        if (!running) return;
+        running = false;
+        Core.tickBus.unregister(this);
+
+        for (Player p : Bukkit.getOnlinePlayers()) p.hideBossBar(timerBar);
+
+        seg = new Component[0];
+        composed = new Component[0];
+        segUntil = shownHash = sentAt = new int[0];
+        session = null;
+    }
+
+    /** Late joiners (participants or spectators) see the shared timer. */
+    public void showTo(Player p) {
+        if (running && p != null) p.showBossBar(timerBar);
+    }
+
+    /* ===================== Segments ===================== */
+
+    /** Set (or clear with null) a segment; untilTick 0 keeps it until replaced. Identity compare only. */
+    public void setSegment(int slot, Segment s, Component c, int untilTick) {
+        int i = slot * SEGMENTS + s.ordinal();
+        if (!running || slot < 0 || i >= seg.length) return;
+        seg[i] = c;
+        segUntil[i] = (c == null ? 0 : untilTick);
+    }
+
+    public void setSegment(int slot, Segment s, Component c) {
+        setSegment(slot, s, c, 0);
+    }
+
+    /* ===================== Tick ===================== */
+
+    @Override
+    public void onTick(int currentTick) {
+        if (!running || session == null) return;
+        if (!Core.session.state().isIngame()) return;
+
+        renderTimer();
+
+        final int slots = composed.length;
+        for (int s = 0; s < slots; s++) {
+            int base = s * SEGMENTS;
+            int hash = 1;
+            boolean any = false;
+            for (int k = 0; k < SEGMENTS; k++) {
+                int i = base + k;
+                if (seg[i] != null && segUntil[i] != 0 && currentTick >= segUntil[i]) {
+                    seg[i] = null;
+                    segUntil[i] = 0;
+                }
+                hash = 31 * hash + System.identityHashCode(seg[i]);
+                any |= seg[i] != null;
+            }
+
+            boolean changed = hash != shownHash[s];
+            if (!changed && (!any || currentTick - sentAt[s] < KEEPALIVE_TICKS)) continue;
+
+            if (changed) {
+                shownHash[s] = hash;
+                composed[s] = any ? compose(base) : Component.empty();
+            }
+
+            UUID id = session.idAtSlot(s);
+            Player p = (id != null ? Bukkit.getPlayer(id) : null);
+            if (p == null || !p.isOnline()) continue;
+            p.sendActionBar(composed[s]);
+            sentAt[s] = currentTick;
+        }
+    }
+
+    private void renderTimer() {
+        int ticksLeft = Math.max(0, session.remainingTicks());
+        int seconds = ticksLeft / 20;
+        if (seconds == shownSeconds) return;
+        shownSeconds = seconds;
+
+        int total = Math.max(1, session.matchTotalTicks());
+        timerBar.progress(Math.max(0f, Math.min(1f, ticksLeft / (float) total)));
+        timerBar.name(LegacyComponentSerializer.legacySection().deserialize(
+                String.format("§fTime Left §7: §a%02d:%02d", seconds / 60, seconds % 60)));
+        if (seconds <= 30) timerBar.color(BossBar.Color.RED);
+        else timerBar.color(BossBar.Color.BLUE);
+    }
+
+    private Component compose(int base) {
+        Component out = null;
+        for (int k = 0; k < SEGMENTS; k++) {
+            Component c = seg[base + k];
+            if (c == null) continue;
+            out = (out == null) ? c : out.append(SEPARATOR).append(c);
+        }
+        return out == null ? Component.empty() : out;
+    }
+}
@@ -1,9 +1,68 @@
 package net.groundzero.service;
 
+import net.groundzero.app.Core;
+import net.groundzero.item.WeaponDef;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
+/**
+ * Loadout templates.
+ * - The template is built once per match, laid out like PlayerInventory#getContents().
+ * - Restoring copies the template via setContents (Bukkit copies each stack),
+ *   so the template itself is never handed out or mutated.
+ * - Shop purchases are recorded per player for the match and re-added after the template
+ *   on every restore, so a bought weapon survives death (reset at the next match start).
+ */
 public class LoadoutService {
+
+    /** Player inventory contents size: 36 storage + 4 armor + 1 offhand. */
+    private static final int CONTENTS_SIZE = 41;
+
+    private ItemStack[] template = new ItemStack[CONTENTS_SIZE];
+    private final Map<UUID, List<WeaponDef>> purchased = new HashMap<>();
+
     public void giveInitialLoadouts(Set<UUID> participantsView) {
+        template = buildTemplate();
+        purchased.clear();
+
+        for (UUID id : participantsView) {
+            Player p = Bukkit.getPlayer(id);
+            if (p == null || !p.isOnline()) continue;
+            restore(p);
+        }
+    }
+
+    /** Replace the player's inventory with the prebuilt template plus their purchases (used on respawn). */
+    public void restore(Player p) {
+        if (p == null) return;
+        p.getInventory().setContents(template);
+        List<WeaponDef> bought = purchased.get(p.getUniqueId());
+        if (bought == null) return;
+        for (WeaponDef def : bought) p.getInventory().addItem(def.template().clone());
+    }
+
+    /** Remember a delivered shop purchase for the rest of the match. */
+    public void recordPurchase(UUID id, WeaponDef def) {
+        purchased.computeIfAbsent(id, k -> new ArrayList<>(2)).add(def);
+    }
+
+    private ItemStack[] buildTemplate() {
+        ItemStack[] contents = new ItemStack[CONTENTS_SIZE];
+
+        // starter weapons go to the hotbar in weapons.yml order (templates are shared, not cloned)
+        int slot = 0;
+        for (WeaponDef def : Core.itemRegistry.starters()) {
+            if (slot >= 9) break;
+            contents[slot++] = def.template();
+        }
+        return contents;
     }
 }
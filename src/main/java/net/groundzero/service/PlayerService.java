@@ -40,6 +40,7 @@ public final class PlayerService {
 
     public void onJoinIngame(Player p) {
         if (p == null) return;
+        Core.hudService.showTo(p);
         if (Core.session.getSpectatorsView().contains(p.getUniqueId())) return;
         // Requested policy: treat joiners as spectators (IDLE-like) until respawn policy is defined
         Core.session.addSpectator(p.getUniqueId());
@@ -75,6 +76,10 @@ public final class PlayerService {
         if (p == null) return;
         // TODO: combat-logout grace & forced death policy will be implemented here later.
         // (No scheduling right now per request)
+        Core.respawnService.cancel(p.getUniqueId());
+        Core.statusEffectService.clearVictim(p.getUniqueId());
+        Core.statusEffectService.clearAttacker(p.getUniqueId());
+        Core.notifications.forget(p.getUniqueId());
         Core.notifier.broadcast(
                 Bukkit.getOnlinePlayers(),
                 Sound.BLOCK_NOTE_BLOCK_BASS, Notifier.PitchLevel.LOW, false,
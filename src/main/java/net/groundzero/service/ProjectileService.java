@@ -1,6 +1,9 @@
 package net.groundzero.service;
 
 import net.groundzero.app.Core;
+import net.groundzero.item.WeaponDef;
+import net.groundzero.metrics.Counter;
+import net.groundzero.util.Randoms;
 import net.kyori.adventure.text.Component;
 import org.bukkit.Bukkit;
 import org.bukkit.NamespacedKey;
@@ -23,18 +26,18 @@ public final class ProjectileService {
 
     // PDC keys to mark our custom projectiles
     public static final NamespacedKey KEY_IS_GZ      = new NamespacedKey(Core.plugin, "gz_is_projectile");
-    public static final NamespacedKey KEY_WEAPON_ID  = new NamespacedKey(Core.plugin, "gz_weapon_id");
-    public static final NamespacedKey KEY_OWNER_ID   = new NamespacedKey(Core.plugin, "gz_owner_uuid");
+    public static final NamespacedKey KEY_WEAPON_ID  = new NamespacedKey(Core.plugin, "gz_weapon_id");   // INTEGER, WeaponDef.id
+    public static final NamespacedKey KEY_OWNER_MSB  = new NamespacedKey(Core.plugin, "gz_owner_msb");   // LONG, owner UUID high bits
+    public static final NamespacedKey KEY_OWNER_LSB  = new NamespacedKey(Core.plugin, "gz_owner_lsb");   // LONG, owner UUID low bits
     public static final NamespacedKey KEY_BASE_DMG   = new NamespacedKey(Core.plugin, "gz_base_damage");
-    public static final NamespacedKey KEY_SHOT_ID    = new NamespacedKey(Core.plugin, "gz_shot_id");
+    public static final NamespacedKey KEY_SHOT_ID    = new NamespacedKey(Core.plugin, "gz_shot_id");     // LONG, per-server counter
     public static final NamespacedKey KEY_FLAGS      = new NamespacedKey(Core.plugin, "gz_flags");
     public static final NamespacedKey KEY_SPAWN_TICK = new NamespacedKey(Core.plugin, "gz_spawn_tick");
     public static final NamespacedKey KEY_LIFETIME   = new NamespacedKey(Core.plugin, "gz_lifetime");
 
-    private static final Random RNG = new Random();
-
     private static Vector randomSpread(double s) {
         if (s <= 0.0) return new Vector(0, 0, 0);
+        final Random RNG = Core.randoms.get(Randoms.Stream.PROJECTILE);
         double rx = (RNG.nextDouble() * 2.0 - 1.0) * s;
         double ry = (RNG.nextDouble() * 2.0 - 1.0) * (s * 0.5); // lower vertical spread
         double rz = (RNG.nextDouble() * 2.0 - 1.0) * s;
@@ -54,7 +57,7 @@ public final class ProjectileService {
         public int pierceLevel = 0;
 
         // Identity & custom damage
-        public String weaponId;           // REQUIRED
+        public int weaponId = -1;         // REQUIRED: dense WeaponDef.id
         public double baseDamage = 6.0;   // vanilla fully charged damage
 
         // Lifecycle / pickup
@@ -67,17 +70,22 @@ public final class ProjectileService {
         public boolean glowing = false;
         public String debugName = null;
 
-        // Bit flags for future behaviors (concussive/smoke/etc.)
+        // Bit flags: StatusEffectType.flag bits (DoT); remaining bits free for concussive/smoke/etc.
         public int flags = 0;
     }
 
+    private final Counter spawned = Core.metrics.counter(
+            "groundzero_projectiles_spawned", "GroundZero arrows spawned");
+
+    private long nextShotId = 0L; // main thread only
+
     /** Spawn and tag a GroundZero arrow; returns the Arrow or null on failure. */
     // in ProjectileService
 
     /** Spawn and tag a GroundZero arrow by UUID (preferred). Returns the Arrow or null on failure. */
     public Arrow spawnArrow(UUID shooterId, Location origin, Vector direction, ArrowOptions opt) {
         if (shooterId == null || origin == null || direction == null || opt == null) return null;
-        if (opt.weaponId == null || opt.weaponId.isEmpty()) return null;
+        if (opt.weaponId < 0) return null;
 
         World w = origin.getWorld();
         if (w == null) return null;
@@ -88,6 +96,7 @@ public final class ProjectileService {
         Vector dir = direction.clone().normalize();
         dir.add(randomSpread(opt.spread)).normalize();
 
+        final long shotId = nextShotId++;
         Arrow arrow = w.spawn(origin, Arrow.class, a -> {
             // If the shooter is online, set as vanilla shooter to preserve knockback/crit attribution.
             // If offline, leave null; our own damage routing relies on PDC anyway.
@@ -109,19 +118,21 @@ public final class ProjectileService {
             a.setPickupStatus(opt.disallowPickup ? Arrow.PickupStatus.DISALLOWED
                     : Arrow.PickupStatus.ALLOWED);
 
-            // Tag as our projectile (authoritative identity & damage live here)
+            // Tag as our projectile (authoritative identity & damage live here; numbers only, no strings)
             PersistentDataContainer pdc = a.getPersistentDataContainer();
             pdc.set(KEY_IS_GZ,      PersistentDataType.BYTE,   (byte)1);
-            pdc.set(KEY_WEAPON_ID,  PersistentDataType.STRING,  opt.weaponId);
-            pdc.set(KEY_OWNER_ID,   PersistentDataType.STRING,  shooterId.toString());
+            pdc.set(KEY_WEAPON_ID,  PersistentDataType.INTEGER, opt.weaponId);
+            pdc.set(KEY_OWNER_MSB,  PersistentDataType.LONG,    shooterId.getMostSignificantBits());
+            pdc.set(KEY_OWNER_LSB,  PersistentDataType.LONG,    shooterId.getLeastSignificantBits());
             pdc.set(KEY_BASE_DMG,   PersistentDataType.DOUBLE,  opt.baseDamage);
-            pdc.set(KEY_SHOT_ID,    PersistentDataType.STRING,  UUID.randomUUID().toString());
+            pdc.set(KEY_SHOT_ID,    PersistentDataType.LONG,    shotId);
             pdc.set(KEY_FLAGS,      PersistentDataType.INTEGER, opt.flags);
-            pdc.set(KEY_SPAWN_TICK, PersistentDataType.INTEGER, Bukkit.getCurrentTick());
+            pdc.set(KEY_SPAWN_TICK, PersistentDataType.INTEGER, Core.clock.matchTick());
             pdc.set(KEY_LIFETIME,   PersistentDataType.INTEGER, Math.max(0, opt.lifetimeTicks));
         });
 
         // No auto-remove; listeners will remove on confirmed hit.
+        spawned.inc();
         return arrow;
     }
 
@@ -131,23 +142,30 @@ public final class ProjectileService {
         return a.getPersistentDataContainer().has(KEY_IS_GZ, PersistentDataType.BYTE);
     }
 
-    /** Extract payload; null if not ours or corrupted. */
+    /** Extract payload; null if not ours or corrupted (e.g. arrows tagged by an older build). */
     public static Payload readArrowPayload(Arrow a) {
         if (a == null) return null;
         PersistentDataContainer pdc = a.getPersistentDataContainer();
         if (!pdc.has(KEY_IS_GZ, PersistentDataType.BYTE)) return null;
         try {
-            String weaponId = pdc.get(KEY_WEAPON_ID, PersistentDataType.STRING);
-            String ownerStr = pdc.get(KEY_OWNER_ID, PersistentDataType.STRING);
+            Integer weaponId = pdc.get(KEY_WEAPON_ID, PersistentDataType.INTEGER);
+            Long msb = pdc.get(KEY_OWNER_MSB, PersistentDataType.LONG);
+            Long lsb = pdc.get(KEY_OWNER_LSB, PersistentDataType.LONG);
             Double dmg = pdc.get(KEY_BASE_DMG, PersistentDataType.DOUBLE);
             Integer flags = pdc.get(KEY_FLAGS, PersistentDataType.INTEGER);
-            if (weaponId == null || ownerStr == null || dmg == null) return null;
-            return new Payload(UUID.fromString(ownerStr), weaponId, dmg, flags == null ? 0 : flags);
-        } catch (Exception ex) {
+            if (weaponId == null || msb == null || lsb == null || dmg == null) return null;
+            return new Payload(new UUID(msb, lsb), weaponId, dmg, flags == null ? 0 : flags);
+        } catch (IllegalArgumentException ex) { // a key stored with another type
             return null;
         }
     }
 
     /** Minimal payload data carried by our arrow. */
-    public record Payload(UUID owner, String weaponId, double baseDamage, int flags) {}
+    public record Payload(UUID owner, int weaponId, double baseDamage, int flags) {
+        /** Config key of the weapon (shared string from the registry), null if unknown. */
+        public String weaponKey() {
+            WeaponDef def = Core.itemRegistry.get(weaponId);
+            return def == null ? null : def.key();
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,288 @@
+package net.groundzero.service;
+
+import net.groundzero.app.Core;
+import net.groundzero.game.GameSession;
+import net.groundzero.service.tick.TickBus;
+import net.groundzero.util.Randoms;
+import org.bukkit.Bukkit;
+import org.bukkit.GameMode;
+import org.bukkit.HeightMap;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.WorldBorder;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Player;
+import org.bukkit.potion.PotionEffect;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Respawn pipeline (tick-based).
+ *
+ * Flow:
+ * - handlePlayerDeath → queue(victim): player is force-respawned as SPECTATOR at the death spot
+ *   and gets a due tick = now + Core.gameConfig.respawnDelayTicks.
+ * - Every tick, due players are revived at the pooled spawn point farthest from living enemies
+ *   and get their loadout back from LoadoutService templates.
+ *
+ * Spawn pool:
+ * - Refilled continuously (a few candidates in flight at a time) with async chunk loads.
+ * - Accepted points keep their chunk pinned by a plugin chunk ticket, so taking a point
+ *   never causes a sync chunk load on the death path.
+ * - Points that fall outside the current world border are dropped.
+ */
+public final class RespawnService implements TickBus.Tickable {
+
+    private record Pending(UUID id, int dueTick) {}
+
+    private final ArrayDeque<Pending> queue = new ArrayDeque<>();
+    private final Set<UUID> pendingIds = new HashSet<>();
+
+    private final List<Location> pool = new ArrayList<>();
+    private int inFlight = 0;
+    private int generation = 0;    // bumps on stop; loads scheduled before that are not pooled
+
+    private static final int MAX_CANDIDATE_TRIES = 4;
+
+    private GameSession session;
+    private boolean running = false;
+
+    /* ===================== Lifecycle ===================== */
+
+    public void start(GameSession session) {
+        if (running) return;
+        this.session = session;
+        this.running = true;
+        Core.tickBus.register(this);
+    }
+
+    public void stop() {
+        if (!running) return;
+        running = false;
+        Core.tickBus.unregister(this);
+
+        World w = (session != null ? session.world() : null);
+        if (w != null) w.removePluginChunkTickets(Core.plugin);
+
+        // inFlight is left alone: pending loads still complete and count themselves down
+        generation++;
+        queue.clear();
+        pendingIds.clear();
+        pool.clear();
+        session = null;
+    }
+
+    /* ===================== Death hook ===================== */
+
+    /** Queue a respawn for a participant who just died (INGAME only). */
+    public void queue(Player victim) {
+        if (!running || victim == null) return;
+        UUID id = victim.getUniqueId();
+        if (!pendingIds.add(id)) return;
+
+        final Location deathLoc = victim.getLocation();
+        int due = Core.clock.matchTick() + Math.max(0, Core.gameConfig.respawnDelayTicks);
+        queue.addLast(new Pending(id, due));
+
+        // leave the death screen right away and watch as spectator until revived
+        Core.schedulers.runLater(() -> {
+            if (!victim.isOnline() || !pendingIds.contains(id)) return;
+            if (victim.isDead()) victim.spigot().respawn();
+            victim.setGameMode(GameMode.SPECTATOR);
+            victim.teleport(deathLoc);
+        }, 1L);
+    }
+
+    /** Drop a pending respawn (e.g., player quit). */
+    public void cancel(UUID id) {
+        if (id == null || !pendingIds.remove(id)) return;
+        queue.removeIf(pd -> pd.id().equals(id));
+    }
+
+    public boolean isPending(UUID id) {
+        return id != null && pendingIds.contains(id);
+    }
+
+    /* ===================== Tick ===================== */
+
+    @Override
+    public void onTick(int currentTick) {
+        if (!running || session == null) return;
+        if (!Core.session.state().isIngame()) return;
+
+        World w = session.world();
+        if (w == null) return;
+
+        refillPool(w);
+
+        if (queue.isEmpty() || queue.peekFirst().dueTick() > currentTick) return;
+
+        // one enemy snapshot for every respawn due this tick
+        List<Player> alive = new ArrayList<>();
+        for (UUID id : session.getParticipantsView()) {
+            if (pendingIds.contains(id)) continue;
+            Player p = Bukkit.getPlayer(id);
+            if (p == null || !p.isOnline() || p.isDead()) continue;
+            if (p.getGameMode() == GameMode.SPECTATOR || !w.equals(p.getWorld())) continue;
+            alive.add(p);
+        }
+        final int n = alive.size();
+        final double[] xs = new double[n];
+        final double[] zs = new double[n];
+        final UUID[] ids = new UUID[n];
+        for (int i = 0; i < n; i++) {
+            Location l = alive.get(i).getLocation();
+            xs[i] = l.getX();
+            zs[i] = l.getZ();
+            ids[i] = alive.get(i).getUniqueId();
+        }
+
+        while (!queue.isEmpty() && queue.peekFirst().dueTick() <= currentTick) {
+            Pending pd = queue.pollFirst();
+            pendingIds.remove(pd.id());
+
+            Player p = Bukkit.getPlayer(pd.id());
+            if (p == null || !p.isOnline()) continue;
+
+            int idx = pickSpawn(pd.id(), xs, zs, ids);
+            if (idx < 0) {
+                // pool is dry: fall back to the sky drop used at match start
+                revive(p, null);
+                continue;
+            }
+            Location dest = removeFromPool(idx);
+            revive(p, dest);
+            w.removePluginChunkTicket(dest.getBlockX() >> 4, dest.getBlockZ() >> 4, Core.plugin);
+        }
+    }
+
+    /* ===================== Spawn pool ===================== */
+
+    private void refillPool(World w) {
+        WorldBorder wb = w.getWorldBorder();
+
+        // drop points the border has moved past
+        for (int i = pool.size() - 1; i >= 0; i--) {
+            if (!wb.isInside(pool.get(i))) {
+                Location gone = removeFromPool(i);
+                w.removePluginChunkTicket(gone.getBlockX() >> 4, gone.getBlockZ() >> 4, Core.plugin);
+            }
+        }
+
+        final int target = Core.gameConfig.spawnPoolSize;
+        final int maxInFlight = Core.gameConfig.spawnPoolMaxInFlight;
+        if (pool.size() + inFlight >= target || inFlight >= maxInFlight) return;
+
+        Location c = wb.getCenter();
+        double usable = wb.getSize() / 2.0 * 0.9;
+        final Random rng = Core.randoms.get(Randoms.Stream.RESPAWN);
+        final int x = (int) Math.floor(c.getX() + (rng.nextDouble() * 2.0 - 1.0) * usable);
+        final int z = (int) Math.floor(c.getZ() + (rng.nextDouble() * 2.0 - 1.0) * usable);
+        // fallback columns are drawn now too: load callbacks complete in I/O order, not draw order
+        final int[] probes = new int[(MAX_CANDIDATE_TRIES - 1) * 2];
+        for (int i = 0; i < probes.length; i++) probes[i] = rng.nextInt(16);
+
+        final int gen = generation;
+        inFlight++;
+        w.getChunkAtAsync(x >> 4, z >> 4).whenComplete((chunk, err) -> {
+            inFlight--;
+            if (gen != generation || !running || err != null || chunk == null) return;
+            if (session == null || !w.equals(session.world())) return;
+            acceptCandidate(w, x, z, probes);
+        });
+    }
+
+    /** @param probes in-chunk (dx, dz) pairs to try after (x, z), drawn when the load was scheduled */
+    private void acceptCandidate(World w, int x, int z, int[] probes) {
+        // chunk is loaded now: probe a few columns inside it before giving up
+        int baseX = x & ~15;
+        int baseZ = z & ~15;
+        for (int t = 0; t < MAX_CANDIDATE_TRIES; t++) {
+            int px = (t == 0) ? x : baseX + probes[(t - 1) * 2];
+            int pz = (t == 0) ? z : baseZ + probes[(t - 1) * 2 + 1];
+            Block ground = w.getHighestBlockAt(px, pz, HeightMap.MOTION_BLOCKING_NO_LEAVES);
+            if (!isSafeGround(ground)) continue;
+
+            Location loc = new Location(w, px + 0.5, ground.getY() + 1.0, pz + 0.5);
+            if (!w.getWorldBorder().isInside(loc)) continue;
+
+            w.addPluginChunkTicket(px >> 4, pz >> 4, Core.plugin);
+            pool.add(loc);
+            return;
+        }
+    }
+
+    private boolean isSafeGround(Block ground) {
+        if (ground == null || ground.isLiquid()) return false;
+        Material m = ground.getType();
+        if (!m.isSolid()) return false;
+        if (m == Material.MAGMA_BLOCK || m == Material.CACTUS || m == Material.CAMPFIRE
+                || m == Material.SOUL_CAMPFIRE || m == Material.POWDER_SNOW) return false;
+        Block feet = ground.getRelative(0, 1, 0);
+        Block head = ground.getRelative(0, 2, 0);
+        return feet.isPassable() && !feet.isLiquid() && head.isPassable() && !head.isLiquid();
+    }
+
+    /** Index of the pooled point with the largest distance to its nearest living enemy; -1 if empty. */
+    private int pickSpawn(UUID self, double[] xs, double[] zs, UUID[] ids) {
+        int best = -1;
+        double bestScore = -1;
+        for (int i = 0; i < pool.size(); i++) {
+            Location l = pool.get(i);
+            double nearest = Double.MAX_VALUE;
+            for (int e = 0; e < xs.length; e++) {
+                if (ids[e].equals(self)) continue;
+                double dx = xs[e] - l.getX();
+                double dz = zs[e] - l.getZ();
+                double d2 = dx * dx + dz * dz;
+                if (d2 < nearest) nearest = d2;
+            }
+            if (nearest > bestScore) {
+                bestScore = nearest;
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    private Location removeFromPool(int idx) {
+        int last = pool.size() - 1;
+        Location out = pool.get(idx);
+        pool.set(idx, pool.get(last));
+        pool.remove(last);
+        return out;
+    }
+
+    /* ===================== Revive ===================== */
+
+    private void revive(Player p, Location dest) {
+        if (p.isDead()) p.spigot().respawn();
+
+        p.setGameMode(GameMode.SURVIVAL);
+        for (PotionEffect pe : p.getActivePotionEffects()) {
+            p.removePotionEffect(pe.getType());
+        }
+        p.setHealth(p.getAttribute(Attribute.GENERIC_MAX_HEALTH).getValue());
+        p.setFoodLevel(20);
+        p.setSaturation(20f);
+        p.setFireTicks(0);
+        p.setFallDistance(0f);
+
+        Core.loadoutService.restore(p);
+        Core.cooldownService.resetSlot(Core.session.slotOf(p.getUniqueId()));
+
+        if (dest != null) {
+            p.teleport(dest);
+        } else {
+            Core.game.teleportParticipantRandomly(p.getUniqueId());
+        }
+    }
+}
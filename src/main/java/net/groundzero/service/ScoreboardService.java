@@ -3,6 +3,7 @@ package net.groundzero.service;
 import net.groundzero.app.Core;
 import net.groundzero.game.GameSession;
 import net.groundzero.game.GameState;
+import net.groundzero.service.sidebar.Sidebar;
 import net.groundzero.service.tick.TickBus;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
@@ -17,12 +18,26 @@ import java.util.UUID;
  * Scoreboard renderer (UI-only).
  * - Subscribes to TickBus to refresh visuals.
  * - Does NOT mutate time/plasma/income/score, nor end the game.
+ * - Two renderers, picked per match by GameConfig.leanSidebar:
+ *   - team rows (default): one Scoreboard per participant, one team per value row,
+ *     every row's suffix set on each refresh;
+ *   - lean: one team-less Sidebar per participant, only changed lines are sent.
+ *   Both allocate one server Scoreboard per participant; lean saves packets, not memory.
  */
 public class ScoreboardService implements TickBus.Tickable {
 
-    private final Map<UUID, Scoreboard> boards = new HashMap<>();
+    private static final String TITLE = "§f[ §bGroundZero §f]";
+    private static final int LINES = 9;
+
+    private final Map<UUID, Sidebar> boards = new HashMap<>();
+    private final String[] lines = new String[LINES]; // reused for every player
+
+    // team-row renderer
+    private final Map<UUID, Scoreboard> teamBoards = new HashMap<>();
     private final Map<UUID, Map<String, Team>> boardTeams = new HashMap<>();
 
+    private boolean lean = false; // fixed for the match
+
     // keep as final and set to 1 now; changeable later
     private static final int UI_UPDATE_PERIOD_TICKS = 1;
     private int lastUiUpdateTick = 0;
@@ -32,8 +47,9 @@ public class ScoreboardService implements TickBus.Tickable {
     public void start(GameSession session) {
         this.session = session;
         this.lastUiUpdateTick = 0;
+        this.lean = Core.gameConfig.leanSidebar;
         showGameBoard(session);
-        Core.tickBus.register(this);
+        Core.tickBus.register(TickBus.Phase.RENDER, this);
     }
 
     public void stop() {
@@ -60,31 +76,32 @@ public class ScoreboardService implements TickBus.Tickable {
 
     public void showGameBoard(GameSession session) {
         for (UUID id : session.getParticipantsView()) {
-            ensureBoard(Bukkit.getPlayer(id));
+            Player p = Bukkit.getPlayer(id);
+            if (lean) ensureBoard(p);
+            else ensureTeamBoard(p);
         }
     }
 
+    /** Viewers back to the main board, then drop our boards (the server holds them weakly). */
     public void clearAllBoardsAndRestoreMain() {
+        for (Map.Entry<UUID, Sidebar> e : boards.entrySet()) {
+            e.getValue().hide(Bukkit.getPlayer(e.getKey()));
+        }
+        boards.clear();
 
         ScoreboardManager mgr = Bukkit.getScoreboardManager();
         Scoreboard main = (mgr != null ? mgr.getMainScoreboard() : null);
-
-        for (Player p : Bukkit.getOnlinePlayers()) {
-            Scoreboard sb = p.getScoreboard();
-            if (sb != null) {
-                Objective obj = sb.getObjective("gz");
-                if (obj != null) try { obj.unregister(); } catch (Exception ignored) {}
-
-                for (Team t : sb.getTeams()) {
-                    String n = t.getName();
-                    if (n != null && (n.equals("gz") || n.startsWith("row_"))) {
-                        try { t.unregister(); } catch (Exception ignored) {}
-                    }
-                }
+        for (Map.Entry<UUID, Scoreboard> e : teamBoards.entrySet()) {
+            Scoreboard sb = e.getValue();
+            Objective obj = sb.getObjective("gz");
+            if (obj != null) try { obj.unregister(); } catch (Exception ignored) {}
+            for (Team t : sb.getTeams()) {
+                try { t.unregister(); } catch (Exception ignored) {}
             }
-            if (main != null) p.setScoreboard(main);
+            Player p = Bukkit.getPlayer(e.getKey());
+            if (p != null && main != null && p.getScoreboard() == sb) p.setScoreboard(main);
         }
-        boards.clear();
+        teamBoards.clear();
         boardTeams.clear();
     }
 
@@ -93,74 +110,109 @@ public class ScoreboardService implements TickBus.Tickable {
     public void refreshFromSession(GameSession session, UUID id, int ticksLeft) {
         Player p = Bukkit.getPlayer(id);
         if (p == null) return;
+        if (!lean) {
+            refreshTeamRows(session, p, ticksLeft);
+            return;
+        }
 
-        ensureBoard(p);
-
-        Scoreboard sb = boards.get(p.getUniqueId());
-        Map<String, Team> teams = boardTeams.get(p.getUniqueId());
-        if (sb == null || teams == null) return;
+        Sidebar sb = ensureBoard(p);
+        if (sb == null) return;
 
-        String name = p.getName();
         Location loc = p.getLocation();
-        String coords = String.format("x: %.2f y: %.2f z: %.2f", loc.getX(), loc.getY(), loc.getZ());
-        String timeLeft = formatTimeFromTicks(ticksLeft);
-
         double plasmaVal = session.getPlasmaMap().getOrDefault(id, Core.gameConfig.basePlasma);
-        String plasmaText = String.format("%.2f", plasmaVal);
-
         double incomeVal = session.getIncomeMap().getOrDefault(id, Core.gameConfig.baseIncomePerSecond);
-        String incomeText = "+" + String.format("%.2f", incomeVal) + "/s";
+        double scoreVal = session.getScoreMap().getOrDefault(id, Core.gameConfig.baseScore);
 
+        lines[0] = "";
+        lines[1] = "§fPlayer §f: §a" + p.getName();
+        lines[2] = "§fTime Left §f: §a" + formatTimeFromTicks(ticksLeft);
+        lines[3] = "§fCoords §f: §a" + String.format("x: %.2f y: %.2f z: %.2f", loc.getX(), loc.getY(), loc.getZ());
+        lines[4] = "";
+        lines[5] = "§bPlasma §f: §e" + String.format("%.2f", plasmaVal);
+        lines[6] = "§bIncome §f: §e+" + String.format("%.2f", incomeVal) + "/s";
+        lines[7] = "";
+        lines[8] = "§dScore §f: §6" + String.format("%.2f", scoreVal);
+
+        sb.update(lines);
+    }
+
+    private Sidebar ensureBoard(Player p) {
+        if (p == null) return null;
+        Sidebar sb = boards.get(p.getUniqueId());
+        if (sb == null) {
+            sb = Sidebar.create(TITLE, LINES);
+            if (sb == null) return null;
+            boards.put(p.getUniqueId(), sb);
+        }
+        sb.show(p);
+        return sb;
+    }
+
+    /* ---------- team-row renderer ---------- */
+
+    private void refreshTeamRows(GameSession session, Player p, int ticksLeft) {
+        ensureTeamBoard(p);
+
+        UUID id = p.getUniqueId();
+        Map<String, Team> teams = boardTeams.get(id);
+        if (teams == null) return;
+
+        Location loc = p.getLocation();
+        double plasmaVal = session.getPlasmaMap().getOrDefault(id, Core.gameConfig.basePlasma);
+        double incomeVal = session.getIncomeMap().getOrDefault(id, Core.gameConfig.baseIncomePerSecond);
         double scoreVal = session.getScoreMap().getOrDefault(id, Core.gameConfig.baseScore);
-        String scoreText = String.format("%.2f", scoreVal);
-
-        teams.get("row_player").setSuffix("§a" + name);
-        teams.get("row_time").setSuffix("§a" + timeLeft);
-        teams.get("row_coord").setSuffix("§a" + coords);
-        teams.get("row_plasma").setSuffix("§e" + plasmaText);
-        teams.get("row_income").setSuffix("§e" + incomeText);
-        teams.get("row_score").setSuffix("§6" + scoreText);
+
+        teams.get("row_player").setSuffix("§a" + p.getName());
+        teams.get("row_time").setSuffix("§a" + formatTimeFromTicks(ticksLeft));
+        teams.get("row_coord").setSuffix("§a" + String.format("x: %.2f y: %.2f z: %.2f", loc.getX(), loc.getY(), loc.getZ()));
+        teams.get("row_plasma").setSuffix("§e" + String.format("%.2f", plasmaVal));
+        teams.get("row_income").setSuffix("§e+" + String.format("%.2f", incomeVal) + "/s");
+        teams.get("row_score").setSuffix("§6" + String.format("%.2f", scoreVal));
     }
 
-    private void ensureBoard(Player p) {
+    private void ensureTeamBoard(Player p) {
         if (p == null) return;
-        if (boards.containsKey(p.getUniqueId())) return;
+        Scoreboard existing = teamBoards.get(p.getUniqueId());
+        if (existing != null) {
+            if (p.getScoreboard() != existing) p.setScoreboard(existing);
+            return;
+        }
 
         ScoreboardManager mgr = Bukkit.getScoreboardManager();
         if (mgr == null) return;
 
         Scoreboard sb = mgr.getNewScoreboard();
-        Objective obj = sb.registerNewObjective("gz", "dummy", "§f[ §bGroundZero §f]");
+        Objective obj = sb.registerNewObjective("gz", "dummy", TITLE);
         obj.setDisplaySlot(DisplaySlot.SIDEBAR);
 
         Map<String, Team> teams = new HashMap<>();
         boardTeams.put(p.getUniqueId(), teams);
 
-        addStaticBlankLine(sb, obj, 8, "§1");
-        addTeamLine(sb, obj, teams, "row_player", "§fPlayer §f: ", "", 7, "§2");
-        addTeamLine(sb, obj, teams, "row_time",   "§fTime Left §f: ", "", 6, "§3");
-        addTeamLine(sb, obj, teams, "row_coord",  "§fCoords §f: ",    "", 5, "§4");
-        addStaticBlankLine(sb, obj, 4, "§5");
-        addTeamLine(sb, obj, teams, "row_plasma", "§bPlasma §f: ",   "", 3, "§6");
-        addTeamLine(sb, obj, teams, "row_income", "§bIncome §f: ",   "", 2, "§7");
-        addStaticBlankLine(sb, obj, 1, "§8");
-        addTeamLine(sb, obj, teams, "row_score",  "§dScore §f: ",    "", 0, "§9");
-
-        boards.put(p.getUniqueId(), sb);
+        addStaticBlankLine(obj, 8, "§1");
+        addTeamLine(sb, obj, teams, "row_player", "§fPlayer §f: ", 7, "§2");
+        addTeamLine(sb, obj, teams, "row_time",   "§fTime Left §f: ", 6, "§3");
+        addTeamLine(sb, obj, teams, "row_coord",  "§fCoords §f: ",    5, "§4");
+        addStaticBlankLine(obj, 4, "§5");
+        addTeamLine(sb, obj, teams, "row_plasma", "§bPlasma §f: ",   3, "§6");
+        addTeamLine(sb, obj, teams, "row_income", "§bIncome §f: ",   2, "§7");
+        addStaticBlankLine(obj, 1, "§8");
+        addTeamLine(sb, obj, teams, "row_score",  "§dScore §f: ",    0, "§9");
+
+        teamBoards.put(p.getUniqueId(), sb);
         p.setScoreboard(sb);
     }
 
     private void addTeamLine(Scoreboard sb, Objective obj, Map<String, Team> teams,
-                             String teamName, String label, String initial, int score, String entryKey) {
+                             String teamName, String label, int score, String entryKey) {
         Team team = sb.registerNewTeam(teamName);
         team.setPrefix(label);
-        team.setSuffix(initial);
+        team.setSuffix("");
         team.addEntry(entryKey);
         teams.put(teamName, team);
         obj.getScore(entryKey).setScore(score);
     }
 
-    private void addStaticBlankLine(Scoreboard sb, Objective obj, int score, String entryKey) {
+    private void addStaticBlankLine(Objective obj, int score, String entryKey) {
         obj.getScore(entryKey).setScore(score);
     }
 
@@ -0,0 +1,186 @@
+package net.groundzero.service;
+
+import net.groundzero.app.Core;
+import net.groundzero.game.GameSession;
+import net.groundzero.item.WeaponDef;
+import net.groundzero.ui.MenuAction;
+import net.groundzero.util.Notifier;
+import org.bukkit.Sound;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Plasma shop.
+ * - Base contents are built once per match from ItemRegistry (weapons with cost > 0),
+ *   with two prebuilt variants per entry: affordable / too expensive.
+ * - Each player gets a cached inventory copied from the base; afterwards only slots whose
+ *   affordability flipped are patched (on open, after income, after a purchase).
+ * - Clicks resolve through the holder's slot → action table, one action per entry.
+ * - Purchases go through GameSession.trySpendPlasma (check + deduct in one step),
+ *   refunded if the item cannot be delivered. Delivered weapons are recorded in
+ *   LoadoutService and come back on every respawn until the match ends.
+ */
+public final class ShopService {
+
+    public static final int SIZE = 54;
+    private static final int FIRST_SLOT = 10;
+
+    private record Entry(int index, int slot, WeaponDef weapon, ItemStack affordable, ItemStack tooExpensive) {}
+
+    private static final class View {
+        final Inventory inv;
+        final boolean[] affordable;
+        View(Inventory inv, int entries) {
+            this.inv = inv;
+            this.affordable = new boolean[entries];
+        }
+    }
+
+    private Entry[] entries = new Entry[0];
+    private ItemStack[] baseContents = new ItemStack[SIZE];
+    private MenuAction[] actions = new MenuAction[SIZE];
+
+    private final Map<UUID, View> views = new HashMap<>();
+    private GameSession session;
+
+    /* ===================== Lifecycle ===================== */
+
+    public void start(GameSession session) {
+        this.session = session;
+        buildBase();
+    }
+
+    public void stop() {
+        views.clear();
+        session = null;
+    }
+
+    private void buildBase() {
+        List<Entry> list = new ArrayList<>();
+        MenuAction[] bySlot = new MenuAction[SIZE];
+        ItemStack[] base = new ItemStack[SIZE];
+
+        int slot = FIRST_SLOT;
+        for (WeaponDef def : Core.itemRegistry.all()) {
+            if (def.cost() <= 0) continue;
+            if (slot % 9 == 8) slot += 2; // keep a one-slot margin on both sides
+            if (slot >= SIZE - 9) break;
+
+            Entry e = new Entry(list.size(), slot,
+                    def,
+                    variant(def, "§fCost §7: §e" + fmt(def.cost()) + " plasma", "§aClick to buy §7(kept until the match ends)"),
+                    variant(def, "§fCost §7: §c" + fmt(def.cost()) + " plasma", "§cNot enough plasma"));
+            list.add(e);
+            bySlot[slot] = p -> purchase(p, e);
+            base[slot] = e.tooExpensive(); // views start "too expensive" and get patched on open
+            slot++;
+        }
+
+        this.entries = list.toArray(new Entry[0]);
+        this.baseContents = base;
+        this.actions = bySlot;
+    }
+
+    private ItemStack variant(WeaponDef def, String costLine, String actionLine) {
+        ItemStack it = def.template().clone();
+        ItemMeta meta = it.getItemMeta();
+        List<String> lore = meta.hasLore() ? new ArrayList<>(meta.getLore()) : new ArrayList<>();
+        lore.add("");
+        lore.add(costLine);
+        lore.add(actionLine);
+        meta.setLore(lore);
+        it.setItemMeta(meta);
+        return it;
+    }
+
+    /* ===================== Views ===================== */
+
+    /** Cached per-player shop inventory, overlay refreshed for the current balance. */
+    public Inventory viewFor(Player p) {
+        View v = views.computeIfAbsent(p.getUniqueId(),
+                id -> new View(Core.guiService.buildShop(baseContents, actions), entries.length));
+        patch(p.getUniqueId(), v);
+        return v.inv;
+    }
+
+    /** Patch affordability for every player currently looking at their shop. */
+    public void refreshOpenViews() {
+        if (views.isEmpty()) return;
+        for (Map.Entry<UUID, View> e : views.entrySet()) {
+            if (e.getValue().inv.getViewers().isEmpty()) continue; // patched on next open
+            patch(e.getKey(), e.getValue());
+        }
+    }
+
+    private void patch(UUID id, View v) {
+        if (session == null) return;
+        double plasma = session.getPlasmaMap().getOrDefault(id, Core.gameConfig.basePlasma);
+        for (Entry e : entries) {
+            boolean can = plasma >= e.weapon().cost();
+            if (v.affordable[e.index()] == can) continue;
+            v.affordable[e.index()] = can;
+            v.inv.setItem(e.slot(), can ? e.affordable() : e.tooExpensive());
+        }
+    }
+
+    /* ===================== Purchase ===================== */
+
+    private void purchase(Player p, Entry e) {
+        if (p == null || session == null) return;
+
+        UUID id = p.getUniqueId();
+        if (!Core.session.state().isIngame() || session.slotOf(id) < 0) {
+            Core.notifier.message(p, true, "The shop is only open to participants during a match");
+            return;
+        }
+        if (owns(p, e.weapon())) {
+            Core.notifier.message(p, true, "You already own " + e.weapon().displayName());
+            return;
+        }
+
+        double cost = e.weapon().cost();
+        if (!session.trySpendPlasma(id, cost)) {
+            Core.notifier.message(p, true, "Not enough plasma");
+            refresh(id);
+            return;
+        }
+
+        // hand out a copy; addItem may adjust the amount of the stack it is given
+        Map<Integer, ItemStack> left = p.getInventory().addItem(e.weapon().template().clone());
+        if (!left.isEmpty()) {
+            session.addPlasma(id, cost); // refund, nothing was delivered
+            Core.notifier.message(p, true, "Your inventory is full");
+            refresh(id);
+            return;
+        }
+
+        Core.loadoutService.recordPurchase(id, e.weapon());
+        Core.notifier.sound(p, Sound.ENTITY_EXPERIENCE_ORB_PICKUP, Notifier.PitchLevel.HIGH);
+        Core.notifier.message(p, false, "Bought " + e.weapon().displayName() + " &ffor &e" + fmt(cost) + " plasma");
+        refresh(id);
+    }
+
+    private void refresh(UUID id) {
+        View v = views.get(id);
+        if (v != null) patch(id, v);
+    }
+
+    private boolean owns(Player p, WeaponDef def) {
+        for (ItemStack it : p.getInventory().getStorageContents()) {
+            if (it == null || it.getType() != def.material()) continue;
+            WeaponDef held = Core.itemRegistry.identify(it);
+            if (held != null && held.id() == def.id()) return true;
+        }
+        return false;
+    }
+
+    private static String fmt(double v) { return String.format("%.0f", v); }
+}
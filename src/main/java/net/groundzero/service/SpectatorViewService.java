@@ -0,0 +1,193 @@
+package net.groundzero.service;
+
+import net.groundzero.app.Core;
+import net.groundzero.game.GameSession;
+import net.groundzero.service.sidebar.Sidebar;
+import net.groundzero.service.tick.TickBus;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Spectator view (UI-only, RENDER phase).
+ *
+ * - One shared Sidebar (top players, time left, recent kills) rendered once per tick
+ *   and shown to every spectator; cost does not grow with the number of spectators.
+ * - Per-spectator overlay: the followed player (spectator camera target) on the action bar.
+ *   The overlay Component is rebuilt only when the target changes; unchanged overlays are
+ *   only re-sent as a keep-alive.
+ */
+public final class SpectatorViewService implements TickBus.Tickable {
+
+    private static final String TITLE = "§f[ §bGroundZero §7Spectating §f]";
+    private static final int TOP = 5;
+    private static final int FEED = 3;
+    private static final int KEEPALIVE_TICKS = 40;
+
+    // layout: blank, time, blank, "Top", TOP rows, blank, "Recent", FEED rows
+    private static final int LINES = 4 + TOP + 2 + FEED;
+
+    private Sidebar board;
+    private final String[] lines = new String[LINES];
+
+    // recent kills, ring buffer (newest at feedHead - 1)
+    private final String[] feed = new String[FEED];
+    private int feedHead = 0;
+
+    // top-N scratch
+    private final UUID[] topIds = new UUID[TOP];
+    private final double[] topScores = new double[TOP];
+
+    private static final class Overlay {
+        UUID target;
+        Component shown;
+        int sentAt;
+    }
+    private final Map<UUID, Overlay> overlays = new HashMap<>();
+
+    private GameSession session;
+    private boolean running = false;
+
+    /* ===================== Lifecycle ===================== */
+
+    public void start(GameSession session) {
+        if (running) return;
+        this.session = session;
+        this.board = Sidebar.create(TITLE, LINES);
+        Arrays.fill(feed, null);
+        feedHead = 0;
+        running = true;
+        Core.tickBus.register(TickBus.Phase.RENDER, this);
+    }
+
+    public void stop() {
+        if (!running) return;
+        running = false;
+        Core.tickBus.unregister(this);
+        if (board != null) {
+            for (Player p : Bukkit.getOnlinePlayers()) board.hide(p);
+        }
+        board = null;
+        overlays.clear();
+        session = null;
+    }
+
+    /* ===================== Feed ===================== */
+
+    /** Short kill-feed line for the spectator board. */
+    public void pushFeed(String line) {
+        if (!running) return;
+        feed[feedHead] = line;
+        feedHead = (feedHead + 1) % FEED;
+    }
+
+    /* ===================== Tick ===================== */
+
+    @Override
+    public void onTick(int currentTick) {
+        if (!running || session == null || board == null) return;
+        if (!Core.session.state().isIngame()) return;
+
+        // 1) one render for everyone
+        renderBoard();
+
+        // 2) assign + overlays
+        for (UUID id : session.getSpectatorsView()) {
+            Player p = Bukkit.getPlayer(id);
+            if (p == null || !p.isOnline()) continue;
+            board.show(p);
+            renderOverlay(p, currentTick);
+        }
+
+        // drop overlays of players who left the spectator set
+        if (overlays.size() > session.getSpectatorsView().size()) {
+            Iterator<UUID> it = overlays.keySet().iterator();
+            while (it.hasNext()) {
+                if (!session.getSpectatorsView().contains(it.next())) it.remove();
+            }
+        }
+    }
+
+    private void renderBoard() {
+        int i = 0;
+        lines[i++] = "";
+        lines[i++] = "§fTime Left §f: §a" + formatTimeFromTicks(session.remainingTicks());
+        lines[i++] = "";
+        lines[i++] = "§bTop Players";
+
+        int n = selectTop();
+        for (int k = 0; k < TOP; k++) {
+            if (k < n) {
+                Player tp = Bukkit.getPlayer(topIds[k]);
+                String name = (tp != null ? tp.getName() : "?");
+                lines[i++] = "§7" + (k + 1) + ". §f" + name + " §6" + String.format("%.1f", topScores[k]);
+            } else {
+                lines[i++] = "";
+            }
+        }
+
+        lines[i++] = "";
+        lines[i++] = "§bRecent";
+        for (int k = 1; k <= FEED; k++) {
+            String line = feed[(feedHead - k + FEED) % FEED];
+            lines[i++] = (line != null ? line : "");
+        }
+
+        board.update(lines); // only changed lines go out
+    }
+
+    /** Partial selection of the TOP highest scores (no full sort). */
+    private int selectTop() {
+        int n = 0;
+        for (UUID id : session.getParticipantsView()) {
+            double sc = session.getScoreMap().getOrDefault(id, Core.gameConfig.baseScore);
+            int pos = n;
+            while (pos > 0 && topScores[pos - 1] < sc) pos--;
+            if (pos >= TOP) continue;
+            int last = Math.min(n, TOP - 1);
+            for (int k = last; k > pos; k--) {
+                topIds[k] = topIds[k - 1];
+                topScores[k] = topScores[k - 1];
+            }
+            topIds[pos] = id;
+            topScores[pos] = sc;
+            if (n < TOP) n++;
+        }
+        return n;
+    }
+
+    private void renderOverlay(Player p, int now) {
+        Entity t = p.getSpectatorTarget();
+        UUID target = (t instanceof Player tp) ? tp.getUniqueId() : null;
+
+        Overlay o = overlays.computeIfAbsent(p.getUniqueId(), k -> new Overlay());
+        if (target == null) {
+            if (o.target != null) p.sendActionBar(Component.empty());
+            o.target = null;
+            o.shown = null;
+            return;
+        }
+
+        if (!target.equals(o.target)) {
+            o.target = target;
+            o.shown = LegacyComponentSerializer.legacySection().deserialize("§7Following §b" + t.getName());
+        } else if (now - o.sentAt < KEEPALIVE_TICKS) {
+            return;
+        }
+        p.sendActionBar(o.shown);
+        o.sentAt = now;
+    }
+
+    private String formatTimeFromTicks(int ticks) {
+        int totalSec = Math.max(0, ticks / 20);
+        return String.format("%02d:%02d", totalSec / 60, totalSec % 60);
+    }
+}
@@ -0,0 +1,268 @@
+package net.groundzero.service;
+
+import net.groundzero.app.Core;
+import net.groundzero.game.GameSession;
+import net.groundzero.service.model.StatusEffectType;
+import net.groundzero.service.tick.TickBus;
+import org.bukkit.Bukkit;
+import org.bukkit.GameMode;
+import org.bukkit.entity.Player;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Damage-over-time / status effect engine (SIMULATION phase).
+ *
+ * Storage: one packed row per active effect (parallel arrays, free-list reuse).
+ * - victim / attacker are GameSession slots (attacker -1 = no credit)
+ * - nextAt / expiresAt are TickBus ticks; interval comes from StatusEffectType
+ * - one effect per (victim, type): re-applying refreshes expiry, amount and kill credit
+ * - effects end with their victim (death, quit) and with their attacker (quit)
+ *
+ * Scheduling: a timing wheel of WHEEL buckets keyed by (nextAt & MASK).
+ * A tick only touches its own bucket, so cost follows the effects that fire now,
+ * not the number of active effects. Expiry is checked when an effect fires.
+ *
+ * Firing: pulses of a tick are collected first, then applied in one batch through
+ * DamageService (recordHit for kill credit, then applyCustomDamage).
+ */
+public final class StatusEffectService implements TickBus.Tickable {
+
+    private static final int WHEEL = 64;          // power of two
+    private static final int MASK = WHEEL - 1;
+    private static final int TYPES = StatusEffectType.count();
+
+    // packed effect rows
+    private int capacity = 0;
+    private int[] victim = new int[0];
+    private int[] attacker = new int[0];
+    private int[] type = new int[0];
+    private int[] nextAt = new int[0];
+    private int[] expiresAt = new int[0];
+    private double[] amount = new double[0];
+    private String[] weaponId = new String[0];
+    private int[] gen = new int[0];               // bumped on free; stale wheel entries are skipped
+    private boolean[] alive = new boolean[0];
+
+    private int[] free = new int[0];
+    private int freeLen = 0;
+    private int activeCount = 0;
+
+    /** [victimSlot * TYPES + type] → effect row, -1 none. */
+    private int[] byVictimType = new int[0];
+
+    // wheel buckets hold (gen << 32 | row)
+    private final long[][] buckets = new long[WHEEL][];
+    private final int[] bucketLen = new int[WHEEL];
+    private long[] scratch = new long[16];
+
+    private int[] fired = new int[16];
+
+    private GameSession session;
+    private boolean running = false;
+
+    /* ===================== Lifecycle ===================== */
+
+    public void start(GameSession session) {
+        if (running) return;
+        this.session = session;
+
+        byVictimType = new int[Math.max(1, session.slotCount()) * TYPES];
+        Arrays.fill(byVictimType, -1);
+        for (int b = 0; b < WHEEL; b++) {
+            buckets[b] = new long[16];
+            bucketLen[b] = 0;
+        }
+        grow(64);
+
+        running = true;
+        Core.tickBus.register(TickBus.Phase.SIMULATION, this);
+    }
+
+    public void stop() {
+        if (!running) return;
+        running = false;
+        Core.tickBus.unregister(this);
+
+        capacity = 0;
+        victim = attacker = type = nextAt = expiresAt = gen = free = byVictimType = new int[0];
+        amount = new double[0];
+        weaponId = new String[0];
+        alive = new boolean[0];
+        freeLen = 0;
+        activeCount = 0;
+        Arrays.fill(bucketLen, 0);
+        session = null;
+    }
+
+    /* ===================== Apply / clear ===================== */
+
+    /** Apply every effect whose bit is set in flags (arrow payload flags). */
+    public void applyFlags(UUID victimId, UUID attackerId, String weapon, int flags) {
+        if (!running || flags == 0) return;
+        for (int t = 0; t < TYPES; t++) {
+            StatusEffectType st = StatusEffectType.byOrdinal(t);
+            if ((flags & st.flag) != 0) apply(victimId, attackerId, weapon, st);
+        }
+    }
+
+    /** Apply (or refresh) one effect on a participant. */
+    public void apply(UUID victimId, UUID attackerId, String weapon, StatusEffectType st) {
+        if (!running || st == null) return;
+        if (!Core.session.state().isIngame()) return;
+        final int vs = session.slotOf(victimId);
+        if (vs < 0) return;
+        final int as = session.slotOf(attackerId);
+        final int now = Core.clock.matchTick();
+
+        int key = vs * TYPES + st.ordinal();
+        int row = byVictimType[key];
+        if (row >= 0 && alive[row]) {
+            // refresh: keep pulse phase, extend expiry, hand credit to the latest attacker
+            expiresAt[row] = now + st.durationTicks;
+            attacker[row] = as;
+            amount[row] = st.damagePerPulse;
+            weaponId[row] = weapon;
+            return;
+        }
+
+        row = alloc();
+        victim[row] = vs;
+        attacker[row] = as;
+        type[row] = st.ordinal();
+        nextAt[row] = now + Math.max(1, st.intervalTicks);
+        expiresAt[row] = now + st.durationTicks;
+        amount[row] = st.damagePerPulse;
+        weaponId[row] = weapon;
+        alive[row] = true;
+        byVictimType[key] = row;
+        schedule(row);
+    }
+
+    /** Drop every effect on a victim (death, quit). */
+    public void clearVictim(UUID victimId) {
+        if (!running) return;
+        int vs = session.slotOf(victimId);
+        if (vs < 0) return;
+        for (int t = 0; t < TYPES; t++) {
+            int row = byVictimType[vs * TYPES + t];
+            if (row >= 0) release(row);
+        }
+    }
+
+    /** Drop every effect an attacker applied (attacker quit): no pulses, no credit to an absent player. */
+    public void clearAttacker(UUID attackerId) {
+        if (!running) return;
+        int as = session.slotOf(attackerId);
+        if (as < 0) return;
+        for (int row = 0; row < capacity; row++) {
+            if (alive[row] && attacker[row] == as) release(row);
+        }
+    }
+
+    public int activeCount() { return activeCount; }
+
+    /* ===================== Tick ===================== */
+
+    @Override
+    public void onTick(int currentTick) {
+        if (!running || session == null) return;
+        if (!Core.session.state().isIngame()) return;
+
+        final int b = currentTick & MASK;
+        final int n = bucketLen[b];
+        if (n == 0) return;
+
+        // swap the bucket out so re-scheduling into the same bucket is safe
+        long[] cur = buckets[b];
+        buckets[b] = scratch.length >= cur.length ? scratch : new long[cur.length];
+        bucketLen[b] = 0;
+        scratch = cur;
+
+        int firedLen = 0;
+        for (int i = 0; i < n; i++) {
+            long packed = cur[i];
+            int row = (int) packed;
+            if (!alive[row] || gen[row] != (int) (packed >>> 32)) continue; // stale
+
+            if (nextAt[row] != currentTick) {
+                schedule(row); // wrapped: belongs to a later lap of the wheel
+                continue;
+            }
+
+            if (firedLen == fired.length) fired = Arrays.copyOf(fired, firedLen * 2);
+            fired[firedLen++] = row;
+
+            int next = currentTick + Math.max(1, StatusEffectType.byOrdinal(type[row]).intervalTicks);
+            if (next > expiresAt[row]) {
+                nextAt[row] = Integer.MAX_VALUE; // last pulse; released after the batch
+            } else {
+                nextAt[row] = next;
+                schedule(row);
+            }
+        }
+
+        // batch apply (a death inside the batch releases rows; re-check alive)
+        for (int i = 0; i < firedLen; i++) {
+            int row = fired[i];
+            if (!alive[row]) continue;
+
+            final UUID vId = session.idAtSlot(victim[row]);
+            final UUID aId = session.idAtSlot(attacker[row]);
+            final double dmg = amount[row];
+            final StatusEffectType st = StatusEffectType.byOrdinal(type[row]);
+            final String weapon = weaponId[row];
+            if (nextAt[row] == Integer.MAX_VALUE) release(row);
+
+            Player v = (vId != null ? Bukkit.getPlayer(vId) : null);
+            if (v == null || !v.isOnline() || v.isDead() || v.getGameMode() == GameMode.SPECTATOR) continue;
+
+            Core.damageService.recordHit(vId, aId, st.kind, weapon, dmg);
+            Core.damageService.applyCustomDamage(aId, v, dmg);
+        }
+    }
+
+    /* ===================== storage ===================== */
+
+    private void schedule(int row) {
+        int b = nextAt[row] & MASK;
+        if (bucketLen[b] == buckets[b].length) buckets[b] = Arrays.copyOf(buckets[b], bucketLen[b] * 2);
+        buckets[b][bucketLen[b]++] = ((long) gen[row] << 32) | (row & 0xFFFFFFFFL);
+    }
+
+    private int alloc() {
+        if (freeLen == 0) grow(capacity * 2);
+        activeCount++;
+        return free[--freeLen];
+    }
+
+    private void release(int row) {
+        if (!alive[row]) return;
+        alive[row] = false;
+        gen[row]++;
+        int key = victim[row] * TYPES + type[row];
+        if (byVictimType[key] == row) byVictimType[key] = -1;
+        weaponId[row] = null;
+        free[freeLen++] = row;
+        activeCount--;
+    }
+
+    private void grow(int newCap) {
+        newCap = Math.max(newCap, 16);
+        int old = capacity;
+        victim = Arrays.copyOf(victim, newCap);
+        attacker = Arrays.copyOf(attacker, newCap);
+        type = Arrays.copyOf(type, newCap);
+        nextAt = Arrays.copyOf(nextAt, newCap);
+        expiresAt = Arrays.copyOf(expiresAt, newCap);
+        amount = Arrays.copyOf(amount, newCap);
+        weaponId = Arrays.copyOf(weaponId, newCap);
+        gen = Arrays.copyOf(gen, newCap);
+        alive = Arrays.copyOf(alive, newCap);
+        free = Arrays.copyOf(free, newCap);
+        // new rows go on the free list, lowest index handed out first
+        for (int r = newCap - 1; r >= old; r--) free[freeLen++] = r;
+        capacity = newCap;
+    }
+}
@@ -2,588 +2,236 @@ package net.groundzero.service;
 
 import net.groundzero.app.Core;
 import net.groundzero.game.GameState;
+import net.groundzero.metrics.Counter;
+import net.groundzero.profiling.VoteTransitionEvent;
+import net.groundzero.service.vote.VotePhase;
+import net.groundzero.ui.MenuAction;
 import net.groundzero.ui.options.GameModeOption;
 import net.groundzero.ui.options.IncomeOption;
 import net.groundzero.ui.options.MapSizeOption;
+import net.groundzero.ui.options.VoteOption;
 import net.groundzero.util.Notifier;
+import net.groundzero.util.Randoms;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.ItemFlag;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.ItemMeta;
 
-import java.util.*;
+import java.util.List;
+import java.util.UUID;
 
 /**
  * Voting-only service.
- * - holds vote counts
- * - updates GUI inventories (lore, retain-only, highlight)
+ * - runs every VotePhase concurrently in one shared inventory (one row each),
+ *   so a round is a single timed window instead of one window per setting
+ * - vote clicks only mark options dirty; changed slots are flushed once per tick
+ * - the round schedule (notices, resolve, reveal, next state) is a fixed table, queued at start
  * - drives phase transitions on Core
+ *
+ * Adding a vote = one more VotePhase in phases (option enum implements VoteOption).
  */
 public final class VoteService {
 
-    private final Map<MapSizeOption, Integer> mapVotes   = new EnumMap<>(MapSizeOption.class);
-    private final Map<IncomeOption, Integer>  incomeVotes = new EnumMap<>(IncomeOption.class);
-    private final Map<GameModeOption, Integer> modeVotes  = new EnumMap<>(GameModeOption.class);
+    // row offsets in the 54-slot vote inventory (options sit in row 1 + offset, header at its column 0)
+    private final VotePhase<MapSizeOption> mapSize = new VotePhase<>(
+            "Map Size", MapSizeOption.class, 0, Material.MAP,
+            chosen -> Core.game.session().setMapSize(chosen));
+    private final VotePhase<IncomeOption> income = new VotePhase<>(
+            "Income Multiplier", IncomeOption.class, 18, Material.GOLD_INGOT,
+            chosen -> {
+                Core.game.session().setIncome(chosen);
+                Core.game.applyIncomeOptionToParticipants(chosen);
+            });
+    private final VotePhase<GameModeOption> gameMode = new VotePhase<>(
+            "Game Mode", GameModeOption.class, 36, Material.COMPASS,
+            chosen -> Core.game.session().setGameMode(chosen));
+
+    private final List<VotePhase<?>> phases = List.of(mapSize, income, gameMode);
 
-    private final Map<UUID, MapSizeOption>   votedMapSize = new HashMap<>();
-    private final Map<UUID, IncomeOption>    votedIncome  = new HashMap<>();
-    private final Map<UUID, GameModeOption>  votedMode    = new HashMap<>();
+    // round schedule, in ticks from round start
+    private static final int VOTE_SECONDS = 10;
+    private static final long RESOLVE_AT = VOTE_SECONDS * 20L;
+    private static final long REVEAL_AT = RESOLVE_AT + 2 * 20L;
+    private static final long NEXT_AT = REVEAL_AT + 3 * 20L;
 
     private boolean acceptingVotes = false;
 
-    private static final Random RNG = new Random();
+    // coalesced GUI refresh, flushed on the next tick
+    private boolean flushScheduled = false;
+
+    // slot updates sent this round (changed slots × viewers)
+    private int slotUpdatesThisRound = 0;
+    private final VotePhase.SlotWriter writer = this::setSlot;
+
+    private final Counter votes = Core.metrics.counter("groundzero_votes", "Vote clicks that changed a tally");
+    private final Counter rounds = Core.metrics.counter("groundzero_vote_rounds", "Vote rounds started");
+    private final Counter slotUpdates = Core.metrics.counter("groundzero_vote_slot_updates", "Vote inventory slot updates sent");
 
     public VoteService() {}
 
     /* =========================================================
-       exposed from GameManager
+       exposed from GameManager / GuiService
        ========================================================= */
 
     public void startPreVoteCountdown(Runnable onDone) {
         startCountdownInternal(5, onDone);
     }
 
-    public void startMapSizeVote() {
-        Core.session.setState(GameState.VOTING_MAP_SIZE);
+    public void startVoting() {
+        VoteTransitionEvent ev = new VoteTransitionEvent();
+        ev.begin();
+        Core.session.setState(GameState.VOTING);
         acceptingVotes = true;
+        flushScheduled = false; // a pending flush may have been dropped by Schedulers.cancelAll
+        slotUpdatesThisRound = 0;
+        rounds.inc();
 
-        votedMapSize.clear();
-        mapVotes.clear();
-        for (MapSizeOption opt : MapSizeOption.values()) {
-            mapVotes.put(opt, 0);
-        }
+        for (VotePhase<?> ph : phases) ph.reset(Core.randoms.get(Randoms.Stream.VOTE));
 
         // build (or rebuild) GUI first
-        Core.guiService.newMapSize();
+        Core.guiService.newVote();
 
         // open for participants
         for (UUID id : Core.game.session().getParticipantsView()) {
             Player pp = Bukkit.getPlayer(id);
             if (pp == null || !pp.isOnline()) continue;
             Core.notifier.sound(pp, Sound.UI_BUTTON_CLICK, Notifier.PitchLevel.MID);
-            Core.guiService.openMapSize(pp);
-        }
-
-        // broadcast end notices
-        Core.schedulers.runLater(() -> Core.notifier.broadcast(
-                Core.game.session().getParticipantsView(),
-                Sound.BLOCK_NOTE_BLOCK_BELL,
-                Notifier.PitchLevel.OK,
-                false,
-                "Ending vote for map size in §a3"
-        ), 7 * 20L);
-
-        Core.schedulers.runLater(() -> Core.notifier.broadcast(
-                Core.game.session().getParticipantsView(),
-                Sound.BLOCK_NOTE_BLOCK_BELL,
-                Notifier.PitchLevel.OK,
-                false,
-                "Ending vote for map size in §a2"
-        ), 8 * 20L);
-
-        Core.schedulers.runLater(() -> Core.notifier.broadcast(
-                Core.game.session().getParticipantsView(),
-                Sound.BLOCK_NOTE_BLOCK_BELL,
-                Notifier.PitchLevel.OK,
-                false,
-                "Ending vote for map size in §a1"
-        ), 9 * 20L);
-
-        Core.schedulers.runLater(this::finishMapSizeVotePhase, 10 * 20L);
-    }
-
-    public void startIncomeVote() {
-        Core.session.setState(GameState.VOTING_INCOME_MULTIPLIER);
-        acceptingVotes = true;
-
-        votedIncome.clear();
-        incomeVotes.clear();
-        for (IncomeOption opt : IncomeOption.values()) {
-            incomeVotes.put(opt, 0);
-        }
-
-        Core.guiService.newIncome();
-
-        for (UUID id : Core.game.session().getParticipantsView()) {
-            Player pp = Bukkit.getPlayer(id);
-            if (pp == null || !pp.isOnline()) continue;
-            Core.notifier.sound(pp, Sound.UI_BUTTON_CLICK, Notifier.PitchLevel.MID);
-            Core.guiService.openIncome(pp);
-        }
-
-        Core.schedulers.runLater(() -> Core.notifier.broadcast(
-                Core.game.session().getParticipantsView(),
-                Sound.BLOCK_NOTE_BLOCK_BELL,
-                Notifier.PitchLevel.OK,
-                false,
-                "Ending vote for income multiplier in §a3"
-        ), 7 * 20L);
-
-        Core.schedulers.runLater(() -> Core.notifier.broadcast(
-                Core.game.session().getParticipantsView(),
-                Sound.BLOCK_NOTE_BLOCK_BELL,
-                Notifier.PitchLevel.OK,
-                false,
-                "Ending vote for income multiplier in §a2"
-        ), 8 * 20L);
-
-        Core.schedulers.runLater(() -> Core.notifier.broadcast(
-                Core.game.session().getParticipantsView(),
-                Sound.BLOCK_NOTE_BLOCK_BELL,
-                Notifier.PitchLevel.OK,
-                false,
-                "Ending vote for income multiplier in §a1"
-        ), 9 * 20L);
-
-        Core.schedulers.runLater(this::finishIncomeVotePhase, 10 * 20L);
-    }
-
-    public void startGameModeVote() {
-        Core.session.setState(GameState.VOTING_GAME_MODE);
-        acceptingVotes = true;
-
-        votedMode.clear();
-        modeVotes.clear();
-        for (GameModeOption opt : GameModeOption.values()) {
-            modeVotes.put(opt, 0);
+            Core.guiService.openVote(pp);
         }
 
-        // close previous
-        Core.guiService.closeAllGZViews();
-        Core.guiService.newGameMode();
-
-        for (UUID id : Core.game.session().getParticipantsView()) {
-            Player pp = Bukkit.getPlayer(id);
-            if (pp == null || !pp.isOnline()) continue;
-            Core.notifier.sound(pp, Sound.UI_BUTTON_CLICK, Notifier.PitchLevel.MID);
-            Core.guiService.openGameMode(pp);
+        // whole round queued up front
+        for (int s = 3; s >= 1; s--) {
+            final int left = s;
+            Core.schedulers.runLater(() -> Core.notifier.broadcast(
+                    Core.game.session().getParticipantsView(),
+                    Sound.BLOCK_NOTE_BLOCK_BELL,
+                    Notifier.PitchLevel.OK,
+                    false,
+                    "Ending vote in §a" + left
+            ), RESOLVE_AT - left * 20L);
         }
-
-        Core.schedulers.runLater(() -> Core.notifier.broadcast(
-                Core.game.session().getParticipantsView(),
-                Sound.BLOCK_NOTE_BLOCK_BELL,
-                Notifier.PitchLevel.OK,
-                false,
-                "Ending vote for game mode in §a3"
-        ), 7 * 20L);
-
-        Core.schedulers.runLater(() -> Core.notifier.broadcast(
-                Core.game.session().getParticipantsView(),
-                Sound.BLOCK_NOTE_BLOCK_BELL,
-                Notifier.PitchLevel.OK,
-                false,
-                "Ending vote for game mode in §a2"
-        ), 8 * 20L);
-
-        Core.schedulers.runLater(() -> Core.notifier.broadcast(
-                Core.game.session().getParticipantsView(),
-                Sound.BLOCK_NOTE_BLOCK_BELL,
-                Notifier.PitchLevel.OK,
-                false,
-                "Ending vote for game mode in §a1"
-        ), 9 * 20L);
-
-        Core.schedulers.runLater(this::finishGameModeVotePhase, 10 * 20L);
+        Core.schedulers.runLater(this::resolveAll, RESOLVE_AT);
+        Core.schedulers.runLater(this::revealAll, REVEAL_AT);
+        Core.schedulers.runLater(Core.game::gotoCountdownBeforeStart, NEXT_AT);
+        commit(ev, "start", null);
     }
 
     public void startFinalCountdown(Runnable onDone) {
         startCountdownInternal(5, onDone);
     }
 
-    /* =========================================================
-       GUI clicks → vote
-       ========================================================= */
-
-    public void voteMapSize(UUID pid, MapSizeOption opt) {
-        if (!isVotingMapSize() || !acceptingVotes || opt == null) return;
-
-        MapSizeOption prev = votedMapSize.put(pid, opt);
-        if (prev != null) {
-            mapVotes.put(prev, Math.max(0, mapVotes.get(prev) - 1));
-        }
-        mapVotes.put(opt, mapVotes.get(opt) + 1);
-
-        refreshMapSizeVotes(
-                mapVotes.get(MapSizeOption.SIZE_50),
-                mapVotes.get(MapSizeOption.SIZE_100),
-                mapVotes.get(MapSizeOption.SIZE_200),
-                mapVotes.get(MapSizeOption.SIZE_400)
-        );
-
-        Player p = Bukkit.getPlayer(pid);
-        if (p != null) {
-            Core.notifier.sound(p, Sound.UI_BUTTON_CLICK, Notifier.PitchLevel.HIGH);
-        }
+    /** Fill the shared vote inventory (GuiService builds it). */
+    public void fillVoteInventory(Inventory inv) {
+        for (VotePhase<?> ph : phases) ph.fill(inv::setItem);
     }
 
-    public void voteIncome(UUID pid, IncomeOption opt) {
-        if (!isVotingIncome() || !acceptingVotes || opt == null) return;
-
-        IncomeOption prev = votedIncome.put(pid, opt);
-        if (prev != null) {
-            incomeVotes.put(prev, Math.max(0, incomeVotes.get(prev) - 1));
-        }
-        incomeVotes.put(opt, incomeVotes.get(opt) + 1);
-
-        refreshIncomeVotes(
-                incomeVotes.get(IncomeOption.X0_5),
-                incomeVotes.get(IncomeOption.X1_0),
-                incomeVotes.get(IncomeOption.X2_0),
-                incomeVotes.get(IncomeOption.X4_0)
-        );
-
-        Player p = Bukkit.getPlayer(pid);
-        if (p != null) {
-            Core.notifier.sound(p, Sound.UI_BUTTON_CLICK, Notifier.PitchLevel.HIGH);
-        }
+    /** Option slot → vote action for every phase. */
+    public void bindVoteActions(MenuAction[] actions) {
+        for (VotePhase<?> ph : phases) ph.bindActions(actions);
     }
 
-    public void voteGameMode(UUID pid, GameModeOption opt) {
-        if (!isVotingGameMode() || !acceptingVotes || opt == null) return;
-
-        GameModeOption prev = votedMode.put(pid, opt);
-        if (prev != null) {
-            modeVotes.put(prev, Math.max(0, modeVotes.get(prev) - 1));
-        }
-        modeVotes.put(opt, modeVotes.get(opt) + 1);
+    /* =========================================================
+       GUI clicks → vote
+       ========================================================= */
 
-        refreshGameModeVotes(
-                modeVotes.get(GameModeOption.STANDARD)
-        );
+    public <T extends Enum<T> & VoteOption> void vote(Player p, VotePhase<T> phase, T opt) {
+        if (!isVoting() || !acceptingVotes || p == null || opt == null) return;
+        if (!Core.game.session().getParticipantsView().contains(p.getUniqueId())) return;
 
-        Player p = Bukkit.getPlayer(pid);
-        if (p != null) {
-            Core.notifier.sound(p, Sound.UI_BUTTON_CLICK, Notifier.PitchLevel.HIGH);
+        if (phase.vote(p.getUniqueId(), opt)) {
+            votes.inc();
+            scheduleFlush();
         }
+        Core.notifier.sound(p, Sound.UI_BUTTON_CLICK, Notifier.PitchLevel.HIGH);
     }
 
     /* =========================================================
        status for GUI reopen
        ========================================================= */
 
-    public boolean isVotingMapSize() {
-        return Core.session.state() == GameState.VOTING_MAP_SIZE;
-    }
-
-    public boolean isVotingIncome() {
-        return Core.session.state() == GameState.VOTING_INCOME_MULTIPLIER;
-    }
-
-    public boolean isVotingGameMode() {
-        return Core.session.state() == GameState.VOTING_GAME_MODE;
+    public boolean isVoting() {
+        return Core.session.state() == GameState.VOTING;
     }
 
     /* =========================================================
        finishers
        ========================================================= */
 
-    private void finishMapSizeVotePhase() {
+    private void resolveAll() {
+        VoteTransitionEvent ev = new VoteTransitionEvent();
+        ev.begin();
         acceptingVotes = false;
+        flushVotes();
 
-        int max = 0;
-        for (MapSizeOption o : MapSizeOption.values()) {
-            max = Math.max(max, mapVotes.getOrDefault(o, 0));
-        }
-
-        List<MapSizeOption> ties = new ArrayList<>();
-        for (MapSizeOption o : MapSizeOption.values()) {
-            if (mapVotes.getOrDefault(o, 0) == max) {
-                ties.add(o);
-            }
-        }
-
-        retainOnlyMapSize(ties);
-
-        Core.schedulers.runLater(() -> {
-            MapSizeOption chosen = pickRandom(ties);
-            if (chosen != null) {
-                highlightMapSizeSelected(chosen.label, chosen.slot);
-                Core.game.session().setMapSize(chosen);
-                Core.notifier.broadcast(
-                    Core.game.session().getParticipantsView(),
-                    Sound.ENTITY_PLAYER_LEVELUP,
-                    Notifier.PitchLevel.MID,
-                    false,
-                    "Map size selected : §a" + chosen.label
-                );
-            }
-            Core.schedulers.runLater(Core.game::gotoVotingIncome, 3 * 20L);
-        }, 2 * 20L);
-    }
-
-    private void finishIncomeVotePhase() {
-        acceptingVotes = false;
-
-        int max = 0;
-        for (IncomeOption o : IncomeOption.values()) {
-            max = Math.max(max, incomeVotes.getOrDefault(o, 0));
-        }
-
-        List<IncomeOption> ties = new ArrayList<>();
-        for (IncomeOption o : IncomeOption.values()) {
-            if (incomeVotes.getOrDefault(o, 0) == max) {
-                ties.add(o);
-            }
-        }
-
-        retainOnlyIncome(ties);
-
-        Core.schedulers.runLater(() -> {
-            IncomeOption chosen = pickRandom(ties);
-            if (chosen != null) {
-                highlightIncomeSelected(chosen.label, chosen.slot);
-                Core.game.session().setIncome(chosen);
-                Core.notifier.broadcast(
-                        Core.game.session().getParticipantsView(),
-                        Sound.ENTITY_PLAYER_LEVELUP,
-                        Notifier.PitchLevel.MID,
-                        false,
-                        "Income Multiplier selected : §a" + chosen.label
-                );
-                Core.game.applyIncomeOptionToParticipants(chosen);
-            }
-            Core.schedulers.runLater(Core.game::gotoVotingGameMode, 3 * 20L);
-        }, 2 * 20L);
-    }
-
-    private void finishGameModeVotePhase() {
-        acceptingVotes = false;
-
-        int max = 0;
-        for (GameModeOption o : GameModeOption.values()) {
-            max = Math.max(max, modeVotes.getOrDefault(o, 0));
-        }
-
-        List<GameModeOption> ties = new ArrayList<>();
-        for (GameModeOption o : GameModeOption.values()) {
-            if (modeVotes.getOrDefault(o, 0) == max) {
-                ties.add(o);
-            }
-        }
-
-        retainOnlyGameMode(ties);
-
-        Core.schedulers.runLater(() -> {
-            GameModeOption chosen = pickRandom(ties);
-            if (chosen != null) {
-                highlightGameModeSelected(chosen.label, chosen.slot);
-                Core.game.session().setGameMode(chosen);
-                Core.notifier.broadcast(
-                        Core.game.session().getParticipantsView(),
-                        Sound.ENTITY_PLAYER_LEVELUP,
-                        Notifier.PitchLevel.MID,
-                        false,
-                        "Game Mode selected : §a" + chosen.label
-                );
-            }
-            Core.schedulers.runLater(Core.game::gotoCountdownBeforeStart, 3 * 20L);
-        }, 2 * 20L);
-    }
-
-    /* =========================================================
-       internal: refresh / retain / highlight
-       ========================================================= */
-
-    private void refreshMapSizeVotes(int size50, int size100, int size200, int size400) {
-        Inventory inv = Core.guiService.getMapSizeInventory();
-        if (inv == null) return;
-        setVotes(inv, MapSizeOption.SIZE_50.slot, MapSizeOption.SIZE_50.label, size50);
-        setVotes(inv, MapSizeOption.SIZE_100.slot, MapSizeOption.SIZE_100.label, size100);
-        setVotes(inv, MapSizeOption.SIZE_200.slot, MapSizeOption.SIZE_200.label, size200);
-        setVotes(inv, MapSizeOption.SIZE_400.slot, MapSizeOption.SIZE_400.label, size400);
-    }
-
-    private void refreshIncomeVotes(int x05, int x10, int x20, int x40) {
-        Inventory inv = Core.guiService.getIncomeInventory();
-        if (inv == null) return;
-        setVotes(inv, IncomeOption.X0_5.slot, IncomeOption.X0_5.label, x05);
-        setVotes(inv, IncomeOption.X1_0.slot, IncomeOption.X1_0.label, x10);
-        setVotes(inv, IncomeOption.X2_0.slot, IncomeOption.X2_0.label, x20);
-        setVotes(inv, IncomeOption.X4_0.slot, IncomeOption.X4_0.label, x40);
-    }
-
-    private void refreshGameModeVotes(int standard) {
-        Inventory inv = Core.guiService.getGameModeInventory();
-        if (inv == null) return;
-        setVotes(inv, GameModeOption.STANDARD.slot, GameModeOption.STANDARD.label, standard);
-    }
-
-    private void retainOnlyMapSize(List<MapSizeOption> keep) {
-        Inventory inv = Core.guiService.getMapSizeInventory();
-        if (inv == null) return;
+        for (VotePhase<?> ph : phases) ph.resolve(writer);
 
-        Set<Integer> keepSlots = new HashSet<>();
-        for (MapSizeOption o : keep) {
-            keepSlots.add(o.slot);
-        }
-
-        for (MapSizeOption opt : MapSizeOption.values()) {
-            if (!keepSlots.contains(opt.slot)) {
-                inv.setItem(opt.slot, null);
-            }
-        }
-
-        // slot 26 = cancel
-        inv.setItem(26, cancelItem());
         Core.notifier.broadcast(
                 Core.game.session().getParticipantsView(),
                 Sound.UI_BUTTON_CLICK,
                 Notifier.PitchLevel.MID,
                 false,
-                "Finalizing map size vote..."
+                "Finalizing votes..."
         );
+        commit(ev, "resolve", null);
     }
 
-    private void retainOnlyIncome(List<IncomeOption> keep) {
-        Inventory inv = Core.guiService.getIncomeInventory();
-        if (inv == null) return;
-
-        Set<Integer> keepSlots = new HashSet<>();
-        for (IncomeOption o : keep) {
-            keepSlots.add(o.slot);
+    private void revealAll() {
+        VoteTransitionEvent ev = new VoteTransitionEvent();
+        ev.begin();
+        String[] lines = new String[phases.size()];
+        for (int i = 0; i < lines.length; i++) {
+            VotePhase<?> ph = phases.get(i);
+            ph.reveal(writer);
+            lines[i] = ph.name() + " selected : §a" + ph.chosenLabel();
         }
 
-        for (IncomeOption opt : IncomeOption.values()) {
-            if (!keepSlots.contains(opt.slot)) {
-                inv.setItem(opt.slot, null);
-            }
-        }
-
-        inv.setItem(26, cancelItem());
         Core.notifier.broadcast(
                 Core.game.session().getParticipantsView(),
-                Sound.UI_BUTTON_CLICK,
+                Sound.ENTITY_PLAYER_LEVELUP,
                 Notifier.PitchLevel.MID,
                 false,
-                "Finalizing income vote..."
+                lines
         );
+        slotUpdates.add(slotUpdatesThisRound);
+        Core.plugin.getLogger().info("[VoteService] vote round: " + slotUpdatesThisRound + " slot updates sent");
+        commit(ev, "reveal", lines);
     }
 
-    private void retainOnlyGameMode(List<GameModeOption> keep) {
-        Inventory inv = Core.guiService.getGameModeInventory();
-        if (inv == null) return;
-
-        Set<Integer> keepSlots = new HashSet<>();
-        for (GameModeOption o : keep) {
-            keepSlots.add(o.slot);
-        }
-
-        for (GameModeOption opt : GameModeOption.values()) {
-            if (!keepSlots.contains(opt.slot)) {
-                inv.setItem(opt.slot, null);
-            }
-        }
-
-        inv.setItem(26, cancelItem());
-        Core.notifier.broadcast(
-                Core.game.session().getParticipantsView(),
-                Sound.UI_BUTTON_CLICK,
-                Notifier.PitchLevel.MID,
-                false,
-                "Finalizing game mode vote..."
-        );
-    }
-
-    private void highlightMapSizeSelected(String label, int slot) {
-        Inventory inv = Core.guiService.getMapSizeInventory();
-        if (inv == null) return;
-
-        for (MapSizeOption opt : MapSizeOption.values()) {
-            if (opt.slot != slot) {
-                inv.setItem(opt.slot, null);
-            }
-        }
-        inv.setItem(26, cancelItem());
-        highlightOption(inv, slot, "§d" + label);
-    }
-
-    private void highlightIncomeSelected(String label, int slot) {
-        Inventory inv = Core.guiService.getIncomeInventory();
-        if (inv == null) return;
-
-        for (IncomeOption opt : IncomeOption.values()) {
-            if (opt.slot != slot) {
-                inv.setItem(opt.slot, null);
-            }
-        }
-        inv.setItem(26, cancelItem());
-        highlightOption(inv, slot, "§d" + label);
-    }
-
-    private void highlightGameModeSelected(String label, int slot) {
-        Inventory inv = Core.guiService.getGameModeInventory();
-        if (inv == null) return;
-
-        for (GameModeOption opt : GameModeOption.values()) {
-            if (opt.slot != slot) {
-                inv.setItem(opt.slot, null);
-            }
-        }
-        inv.setItem(26, cancelItem());
-        highlightOption(inv, slot, "§d" + label);
-    }
-
-    private void highlightOption(Inventory inv, int slot, String name) {
-        ItemStack it = inv.getItem(slot);
-        if (it == null) return;
-        ItemMeta meta = it.getItemMeta();
-        meta.setDisplayName(name);
-        meta.addEnchant(org.bukkit.enchantments.Enchantment.UNBREAKING, 1, true);
-        meta.addItemFlags(ItemFlag.HIDE_ENCHANTS);
-        it.setItemMeta(meta);
-        inv.setItem(slot, it);
+    private void commit(VoteTransitionEvent ev, String stage, String[] result) {
+        ev.end();
+        if (!ev.shouldCommit()) return;
+        ev.stage = stage;
+        ev.participants = Core.game.session().getParticipantsView().size();
+        ev.slotUpdates = slotUpdatesThisRound;
+        ev.result = (result != null) ? String.join(", ", result) : null;
+        ev.commit();
     }
 
     /* =========================================================
-       low-level gui lore helpers
+       internal: coalesced flush
        ========================================================= */
 
-    private void setVotes(Inventory inv, int slot, String label, int count) {
-        ItemStack it = inv.getItem(slot);
-        if (it == null) return;
-
-        ItemMeta meta = it.getItemMeta();
-        meta.setLore(votesLore(label, count));
-        it.setItemMeta(meta);
-
-        inv.setItem(slot, it);
+    private void scheduleFlush() {
+        if (flushScheduled) return;
+        flushScheduled = true;
+        Core.schedulers.runLater(this::flushVotes, 1L);
     }
 
-    private List<String> votesLore(String label, int count) {
-        String click = "§fClick to vote §b" + label;
-        if (count <= 0) {
-            return Arrays.asList(
-                    "",
-                    click,
-                    "§fVotes : §a- §f(§e0§f)"
-            );
-        }
-        StringBuilder bar = new StringBuilder();
-        for (int i = 0; i < count; i++) {
-            if (i > 0) bar.append(' ');
-            bar.append('■');
-        }
-        return Arrays.asList(
-                "",
-                click,
-                "§fVotes : §a" + bar + " §f(§e" + count + "§f)"
-        );
+    /** Write only the options whose count changed since the last flush. */
+    private void flushVotes() {
+        flushScheduled = false;
+        for (VotePhase<?> ph : phases) ph.flush(writer);
     }
 
-    private ItemStack cancelItem() {
-        ItemStack it = new ItemStack(Material.BARRIER);
-        ItemMeta meta = it.getItemMeta();
-        meta.setDisplayName("§cClose");
-        meta.setLore(Arrays.asList(
-                "",
-                "§cCAUTION §f: This cancels the whole voting process"
-        ));
-        it.setItemMeta(meta);
-        return it;
+    /** Slot updates sent during the current vote round (changed slots × viewers). */
+    public int slotUpdatesThisRound() { return slotUpdatesThisRound; }
+
+    private void setSlot(int slot, ItemStack item) {
+        Inventory inv = Core.guiService.getVoteInventory();
+        inv.setItem(slot, item);
+        slotUpdatesThisRound += inv.getViewers().size();
     }
 
     /* =========================================================
@@ -606,9 +254,4 @@ public final class VoteService {
 
         Core.schedulers.runLater(() -> startCountdownInternal(seconds - 1, onDone), 20L);
     }
-
-    private <T> T pickRandom(List<T> list) {
-        if (list == null || list.isEmpty()) return null;
-        return list.get(RNG.nextInt(list.size()));
-    }
 }
@@ -0,0 +1,237 @@
+package net.groundzero.service;
+
+import net.groundzero.app.Core;
+import net.groundzero.game.GameConfig;
+import net.groundzero.game.GameSession;
+import net.groundzero.service.tick.TickBus;
+import net.groundzero.util.NotificationChannel.MessageClass;
+import net.groundzero.util.Notifier;
+import net.groundzero.util.Randoms;
+import org.bukkit.Bukkit;
+import org.bukkit.GameMode;
+import org.bukkit.Location;
+import org.bukkit.Sound;
+import org.bukkit.World;
+import org.bukkit.WorldBorder;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Battle-royale style shrinking zone (SIMULATION phase), driven by the world border.
+ *
+ * Schedule:
+ * - All phases are precomputed in start(): shrink tick, duration, target size and center.
+ *   Phase k waits, then shrinks from size(k-1) to size(k) = size(k-1) * zoneShrinkFactor.
+ * - Each new center is random inside the current zone, biased toward its center
+ *   (triangular offset), and placed so the new zone fits entirely inside the old one.
+ * - A shrink moves the border center first and widens it to still enclose the old zone,
+ *   then hands the shrink to WorldBorder.setSize(size, seconds); the client interpolates it.
+ *
+ * Damage:
+ * - Vanilla border damage is turned off for the match (restored with the border).
+ * - Every zoneDamagePeriodTicks, participants are bucketed by chunk; a chunk fully inside
+ *   the zone square is skipped, a chunk fully outside damages everyone in it, and only
+ *   chunks on the edge check players one by one (plain box compare, no distance math).
+ */
+public final class ZoneService implements TickBus.Tickable {
+
+    private static final class Phase {
+        int announceAt;
+        int shrinkAt;
+        int shrinkTicks;
+        double size;
+        double centerX;
+        double centerZ;
+    }
+
+    private Phase[] phases = new Phase[0];
+    private int next = 0;          // next phase to shrink
+    private int announced = 0;     // phases announced so far
+    private int damageLevel = 0;   // phases started so far → damage multiplier
+
+    private final Map<Long, List<Player>> buckets = new HashMap<>();
+    private final List<List<Player>> spare = new ArrayList<>();
+
+    private GameSession session;
+    private World world;
+    private boolean running = false;
+
+    /* ===================== Lifecycle ===================== */
+
+    /** Border must already be centered and sized for the match. */
+    public void start(GameSession session) {
+        if (running) return;
+        World w = session.world();
+        if (w == null) return;
+
+        this.session = session;
+        this.world = w;
+
+        WorldBorder wb = w.getWorldBorder();
+        wb.setDamageAmount(0.0);
+        wb.setDamageBuffer(0.0);
+
+        phases = buildSchedule(wb.getCenter(), wb.getSize(), Core.gameConfig);
+        next = 0;
+        announced = 0;
+        damageLevel = 0;
+
+        running = true;
+        Core.tickBus.register(TickBus.Phase.SIMULATION, this);
+    }
+
+    public void stop() {
+        if (!running) return;
+        running = false;
+        Core.tickBus.unregister(this);
+        phases = new Phase[0];
+        buckets.clear();
+        spare.clear();
+        session = null;
+        world = null;
+    }
+
+    /* ===================== Schedule ===================== */
+
+    private static Phase[] buildSchedule(Location center, double size, GameConfig cfg) {
+        int n = Math.max(0, cfg.zonePhases);
+        Phase[] out = new Phase[n];
+        if (n == 0) return out;
+
+        int span = (int) (cfg.matchDurationTicks * cfg.zoneScheduleShare);
+        int phaseTicks = Math.max(20, span / n);
+        int shrinkTicks = Math.max(20, (int) (phaseTicks * cfg.zoneShrinkShare));
+
+        double cx = center.getX();
+        double cz = center.getZ();
+        double cur = size;
+        Random rng = Core.randoms.get(Randoms.Stream.ZONE);
+
+        for (int k = 0; k < n; k++) {
+            double target = Math.max(cfg.zoneMinSize, cur * cfg.zoneShrinkFactor);
+            double room = Math.max(0.0, (cur - target) / 2.0) * cfg.zoneCenterDrift;
+
+            Phase ph = new Phase();
+            ph.shrinkAt = (k + 1) * phaseTicks - shrinkTicks;
+            ph.announceAt = Math.max(0, ph.shrinkAt - cfg.zoneAnnounceTicks);
+            ph.shrinkTicks = shrinkTicks;
+            ph.size = target;
+            // u - v is triangular on [-1, 1]: most centers land near the current one
+            ph.centerX = cx + (rng.nextDouble() - rng.nextDouble()) * room;
+            ph.centerZ = cz + (rng.nextDouble() - rng.nextDouble()) * room;
+            out[k] = ph;
+
+            cx = ph.centerX;
+            cz = ph.centerZ;
+            cur = target;
+        }
+        return out;
+    }
+
+    /* ===================== Tick ===================== */
+
+    @Override
+    public void onTick(int currentTick) {
+        if (!running || session == null) return;
+        if (!Core.session.state().isIngame()) return;
+
+        while (announced < phases.length && currentTick >= phases[announced].announceAt) {
+            announce(phases[announced]);
+            announced++;
+        }
+        while (next < phases.length && currentTick >= phases[next].shrinkAt) {
+            shrink(next);
+            next++;
+        }
+
+        int period = Core.gameConfig.zoneDamagePeriodTicks;
+        if (damageLevel > 0 && currentTick % period == 0) applyZoneDamage(period);
+    }
+
+    private void announce(Phase ph) {
+        int seconds = Math.max(0, (ph.shrinkAt - ph.announceAt) / 20);
+        Core.notifier.broadcast(
+                Bukkit.getOnlinePlayers(),
+                Sound.BLOCK_NOTE_BLOCK_BELL,
+                Notifier.PitchLevel.LOW,
+                false,
+                "Zone shrinks in &c" + seconds + "s &7→ &f" + (int) ph.size + " blocks"
+        );
+    }
+
+    private void shrink(int k) {
+        Phase ph = phases[k];
+        WorldBorder wb = world.getWorldBorder();
+
+        // move the center without cutting into the old zone: widen around the new center first
+        double prevSize = (k == 0) ? wb.getSize() : phases[k - 1].size;
+        Location prevCenter = wb.getCenter();
+        double shift = Math.max(Math.abs(ph.centerX - prevCenter.getX()), Math.abs(ph.centerZ - prevCenter.getZ()));
+        wb.setCenter(ph.centerX, ph.centerZ);
+        wb.setSize(prevSize + 2.0 * shift);
+        wb.setSize(ph.size, Math.max(1L, ph.shrinkTicks / 20L));
+
+        damageLevel = k + 1;
+    }
+
+    /* ===================== Damage ===================== */
+
+    private void applyZoneDamage(int period) {
+        WorldBorder wb = world.getWorldBorder();
+        Location c = wb.getCenter();
+        double half = wb.getSize() / 2.0; // current (interpolated) size
+        double minX = c.getX() - half, maxX = c.getX() + half;
+        double minZ = c.getZ() - half, maxZ = c.getZ() + half;
+
+        // 1) bucket by chunk
+        for (UUID id : session.getParticipantsView()) {
+            Player p = Bukkit.getPlayer(id);
+            if (p == null || !p.isOnline()) continue;
+            if (p.getGameMode() == GameMode.SPECTATOR || p.isDead()) continue;
+            if (!world.equals(p.getWorld())) continue;
+
+            Location l = p.getLocation();
+            long key = ((long) (l.getBlockX() >> 4) << 32) | ((l.getBlockZ() >> 4) & 0xffffffffL);
+            buckets.computeIfAbsent(key, k -> spare.isEmpty() ? new ArrayList<>(4) : spare.remove(spare.size() - 1))
+                    .add(p);
+        }
+        if (buckets.isEmpty()) return;
+
+        final double dmg = Core.gameConfig.zoneDamagePerSecond * damageLevel * period / 20.0;
+
+        // 2) classify chunks against the zone square
+        for (Map.Entry<Long, List<Player>> e : buckets.entrySet()) {
+            long key = e.getKey();
+            double x0 = (double) ((int) (key >> 32) << 4), z0 = (double) ((int) key << 4);
+            double x1 = x0 + 16.0, z1 = z0 + 16.0;
+            List<Player> list = e.getValue();
+
+            boolean inside = x0 >= minX && x1 <= maxX && z0 >= minZ && z1 <= maxZ;
+            if (!inside) {
+                boolean outside = x1 <= minX || x0 >= maxX || z1 <= minZ || z0 >= maxZ;
+                for (Player p : list) {
+                    if (!outside) {
+                        Location l = p.getLocation();
+                        if (l.getX() >= minX && l.getX() <= maxX && l.getZ() >= minZ && l.getZ() <= maxZ) continue;
+                    }
+                    hurt(p, dmg);
+                }
+            }
+            list.clear();
+            spare.add(list);
+        }
+        buckets.clear();
+    }
+
+    private void hurt(Player p, double dmg) {
+        Core.damageService.applyCustomDamage(null, p, dmg);
+        Core.notifications.send(p.getUniqueId(), MessageClass.STATUS, "zone.outside",
+                "&cOutside the zone &7(-%s HP)", dmg);
+    }
+}
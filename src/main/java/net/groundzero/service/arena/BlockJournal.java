@@ -0,0 +1,127 @@
+package net.groundzero.service.arena;
+
+import org.bukkit.block.data.BlockData;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Original block state of every block changed during a match.
+ *
+ * - Position is packed into one long, chunk-major:
+ *     [chunkX:22][chunkZ:22][localX:4][localZ:4][y+2048:12]
+ *   so a plain sort of the keys groups them chunk by chunk.
+ * - Values are palette ids (distinct BlockData are stored once).
+ * - Open-addressing long → int table, no boxing; key 0 is the empty marker
+ *   (it would need y = -2048, which no world has).
+ * - Only the first change of a position is kept: that is the state to roll back to.
+ */
+public final class BlockJournal {
+
+    private static final int Y_OFFSET = 2048;
+
+    private long[] keys = new long[1024];
+    private int[] values = new int[1024];
+    private int size = 0;
+
+    private final Map<BlockData, Integer> paletteIds = new HashMap<>();
+    private final List<BlockData> palette = new ArrayList<>();
+
+    /* ===================== packing ===================== */
+
+    public static long pack(int x, int y, int z) {
+        return ((long) (x >> 4) & 0x3FFFFFL) << 42
+                | ((long) (z >> 4) & 0x3FFFFFL) << 20
+                | (long) (x & 15) << 16
+                | (long) (z & 15) << 12
+                | ((long) (y + Y_OFFSET) & 0xFFFL);
+    }
+
+    public static int chunkX(long key) { return (int) (key >> 42); }
+    public static int chunkZ(long key) { return (int) (key << 22 >> 42); }
+    public static int x(long key) { return chunkX(key) << 4 | (int) (key >> 16 & 15); }
+    public static int z(long key) { return chunkZ(key) << 4 | (int) (key >> 12 & 15); }
+    public static int y(long key) { return (int) (key & 0xFFF) - Y_OFFSET; }
+
+    /* ===================== record ===================== */
+
+    /** @return false if the position was already journaled (first original wins). */
+    public boolean recordOriginal(int x, int y, int z, BlockData original) {
+        long key = pack(x, y, z);
+        int i = indexOf(key);
+        if (keys[i] == key) return false;
+
+        keys[i] = key;
+        values[i] = paletteId(original);
+        if (++size * 2 > keys.length) grow();
+        return true;
+    }
+
+    public int size() { return size; }
+
+    public int paletteSize() { return palette.size(); }
+
+    /** Journaled positions, chunk by chunk. */
+    public long[] sortedKeys() {
+        long[] out = new long[size];
+        int n = 0;
+        for (long k : keys) if (k != 0L) out[n++] = k;
+        Arrays.sort(out);
+        return out;
+    }
+
+    public BlockData originalAt(long key) {
+        int i = indexOf(key);
+        return keys[i] == key ? palette.get(values[i]) : null;
+    }
+
+    public void clear() {
+        keys = new long[1024];
+        values = new int[1024];
+        size = 0;
+        paletteIds.clear();
+        palette.clear();
+    }
+
+    /* ===================== table ===================== */
+
+    private int paletteId(BlockData data) {
+        Integer id = paletteIds.get(data);
+        if (id != null) return id;
+        int nid = palette.size();
+        palette.add(data);
+        paletteIds.put(data, nid);
+        return nid;
+    }
+
+    /** Slot holding key, or the empty slot where it would go. */
+    private int indexOf(long key) {
+        int mask = keys.length - 1;
+        int i = (int) mix(key) & mask;
+        while (keys[i] != 0L && keys[i] != key) i = (i + 1) & mask;
+        return i;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new int[oldValues.length * 2];
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldKeys[j] == 0L) continue;
+            int i = indexOf(oldKeys[j]);
+            keys[i] = oldKeys[j];
+            values[i] = oldValues[j];
+        }
+    }
+
+    private static long mix(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        return k;
+    }
+}
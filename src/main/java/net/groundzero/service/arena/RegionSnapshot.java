@@ -0,0 +1,289 @@
+package net.groundzero.service.arena;
+
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.block.data.BlockData;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Pristine copy of an arena region (chunk range × full world height).
+ *
+ * - Stored like vanilla sections: per 16³ section a palette of block-data strings and
+ *   4096 palette indices bit-packed into longs (no index spans two longs).
+ *   A single-entry palette stores no data at all (air / solid stone sections).
+ * - Sections are encoded from ChunkSnapshots, which is safe off the main thread.
+ * - On disk: gzip stream with one global palette; sections refer to it by id.
+ *
+ * Index inside a section: (ly << 8) | (lz << 4) | lx.
+ */
+public final class RegionSnapshot {
+
+    private static final int MAGIC = 0x475A4152; // "GZAR"
+    private static final int VERSION = 1;
+    private static final String AIR = "minecraft:air";
+
+    /** One 16×16×16 section. */
+    public static final class Section {
+        final String[] palette;
+        final int bits;
+        final long[] data;
+
+        Section(String[] palette, int bits, long[] data) {
+            this.palette = palette;
+            this.bits = bits;
+            this.data = data;
+        }
+
+        public String at(int idx) {
+            if (bits == 0) return palette[0];
+            int perLong = 64 / bits;
+            long word = data[idx / perLong];
+            int v = (int) ((word >>> ((idx % perLong) * bits)) & ((1L << bits) - 1));
+            return palette[v];
+        }
+
+        public boolean isAir() {
+            return bits == 0 && AIR.equals(palette[0]);
+        }
+
+        int[] unpack(Map<String, Integer> ids, List<String> pal) {
+            int[] out = new int[4096];
+            int[] remap = new int[palette.length];
+            for (int i = 0; i < palette.length; i++) {
+                remap[i] = ids.computeIfAbsent(palette[i], k -> { pal.add(k); return pal.size() - 1; });
+            }
+            if (bits == 0) {
+                Arrays.fill(out, remap[0]);
+                return out;
+            }
+            int perLong = 64 / bits;
+            long mask = (1L << bits) - 1;
+            for (int i = 0; i < 4096; i++) {
+                out[i] = remap[(int) ((data[i / perLong] >>> ((i % perLong) * bits)) & mask)];
+            }
+            return out;
+        }
+
+        static Section pack(List<String> pal, int[] idx) {
+            if (pal.size() == 1) return new Section(new String[]{ pal.get(0) }, 0, null);
+            int bits = Math.max(1, 32 - Integer.numberOfLeadingZeros(pal.size() - 1));
+            int perLong = 64 / bits;
+            long[] data = new long[(4096 + perLong - 1) / perLong];
+            for (int i = 0; i < 4096; i++) {
+                data[i / perLong] |= (long) idx[i] << ((i % perLong) * bits);
+            }
+            return new Section(pal.toArray(new String[0]), bits, data);
+        }
+    }
+
+    private final String key;
+    private final int minCx, minCz, maxCx, maxCz;
+    private final int minY, sections;
+    private final Section[][] chunks;   // [chunkIndex][sectionY]
+
+    public RegionSnapshot(String key, int minCx, int minCz, int maxCx, int maxCz, int minY, int sections) {
+        this.key = key;
+        this.minCx = minCx;
+        this.minCz = minCz;
+        this.maxCx = maxCx;
+        this.maxCz = maxCz;
+        this.minY = minY;
+        this.sections = sections;
+        this.chunks = new Section[(maxCx - minCx + 1) * (maxCz - minCz + 1)][];
+    }
+
+    public String key() { return key; }
+    public int minY() { return minY; }
+    public int sections() { return sections; }
+    public int chunkCount() { return chunks.length; }
+    public int chunkX(int chunkIndex) { return minCx + chunkIndex / (maxCz - minCz + 1); }
+    public int chunkZ(int chunkIndex) { return minCz + chunkIndex % (maxCz - minCz + 1); }
+
+    public boolean contains(int cx, int cz) {
+        return cx >= minCx && cx <= maxCx && cz >= minCz && cz <= maxCz;
+    }
+
+    public int indexOf(int cx, int cz) {
+        return (cx - minCx) * (maxCz - minCz + 1) + (cz - minCz);
+    }
+
+    public Section section(int chunkIndex, int sy) {
+        Section[] c = chunks[chunkIndex];
+        return c == null ? null : c[sy];
+    }
+
+    public void put(int chunkIndex, Section[] secs) {
+        chunks[chunkIndex] = secs;
+    }
+
+    public boolean isComplete() {
+        for (Section[] c : chunks) if (c == null) return false;
+        return true;
+    }
+
+    /* ===================== encode ===================== */
+
+    /** Encode every section of a chunk snapshot (thread-safe, allocation-heavy: capture only). */
+    public static Section[] encode(ChunkSnapshot snap, int minY, int sections) {
+        Section[] out = new Section[sections];
+        Map<String, String> intern = new HashMap<>();
+        Map<String, Integer> ids = new HashMap<>();
+        List<String> pal = new ArrayList<>();
+        int[] idx = new int[4096];
+
+        for (int sy = 0; sy < sections; sy++) {
+            if (snap.isSectionEmpty(sy)) {
+                out[sy] = new Section(new String[]{ AIR }, 0, null);
+                continue;
+            }
+            ids.clear();
+            pal.clear();
+            int baseY = minY + (sy << 4);
+            for (int ly = 0; ly < 16; ly++) {
+                for (int lz = 0; lz < 16; lz++) {
+                    for (int lx = 0; lx < 16; lx++) {
+                        String s = intern.computeIfAbsent(snap.getBlockData(lx, baseY + ly, lz).getAsString(), k -> k);
+                        Integer id = ids.get(s);
+                        if (id == null) {
+                            id = pal.size();
+                            pal.add(s);
+                            ids.put(s, id);
+                        }
+                        idx[(ly << 8) | (lz << 4) | lx] = id;
+                    }
+                }
+            }
+            out[sy] = Section.pack(pal, idx);
+        }
+        return out;
+    }
+
+    /**
+     * Overwrite positions of one chunk with known originals (journal entries recorded
+     * before the chunk was captured). keys[from, to) are journal keys inside this chunk.
+     */
+    public void overlay(int chunkIndex, long[] keys, int from, int to, BlockJournal journal) {
+        Section[] secs = chunks[chunkIndex];
+        if (secs == null) return;
+
+        Map<Integer, int[]> open = new HashMap<>();
+        Map<Integer, Map<String, Integer>> openIds = new HashMap<>();
+        Map<Integer, List<String>> openPal = new HashMap<>();
+
+        for (int i = from; i < to; i++) {
+            long k = keys[i];
+            int sy = (BlockJournal.y(k) - minY) >> 4;
+            if (sy < 0 || sy >= sections) continue;
+
+            int[] idx = open.get(sy);
+            if (idx == null) {
+                Map<String, Integer> ids = new HashMap<>();
+                List<String> pal = new ArrayList<>();
+                idx = secs[sy].unpack(ids, pal);
+                open.put(sy, idx);
+                openIds.put(sy, ids);
+                openPal.put(sy, pal);
+            }
+            List<String> pal = openPal.get(sy);
+            BlockData original = journal.originalAt(k);
+            if (original == null) continue;
+            int id = openIds.get(sy).computeIfAbsent(original.getAsString(), s -> { pal.add(s); return pal.size() - 1; });
+            int ly = (BlockJournal.y(k) - minY) & 15;
+            idx[(ly << 8) | ((BlockJournal.z(k) & 15) << 4) | (BlockJournal.x(k) & 15)] = id;
+        }
+        for (Map.Entry<Integer, int[]> e : open.entrySet()) {
+            secs[e.getKey()] = Section.pack(openPal.get(e.getKey()), e.getValue());
+        }
+    }
+
+    /* ===================== disk ===================== */
+
+    public void write(File file) throws IOException {
+        Map<String, Integer> ids = new HashMap<>();
+        List<String> global = new ArrayList<>();
+        for (Section[] c : chunks) {
+            if (c == null) continue;
+            for (Section s : c) {
+                for (String p : s.palette) {
+                    ids.computeIfAbsent(p, k -> { global.add(k); return global.size() - 1; });
+                }
+            }
+        }
+
+        File tmp = new File(file.getParentFile(), file.getName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new GZIPOutputStream(new FileOutputStream(tmp))))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeUTF(key);
+            out.writeInt(minCx);
+            out.writeInt(minCz);
+            out.writeInt(maxCx);
+            out.writeInt(maxCz);
+            out.writeInt(minY);
+            out.writeInt(sections);
+
+            out.writeInt(global.size());
+            for (String s : global) out.writeUTF(s);
+
+            for (Section[] c : chunks) {
+                for (Section s : c) {
+                    out.writeShort(s.palette.length);
+                    for (String p : s.palette) out.writeInt(ids.get(p));
+                    out.writeByte(s.bits);
+                    if (s.bits == 0) continue;
+                    out.writeShort(s.data.length);
+                    for (long v : s.data) out.writeLong(v);
+                }
+            }
+        }
+        if (file.exists() && !file.delete()) throw new IOException("cannot replace " + file);
+        if (!tmp.renameTo(file)) throw new IOException("cannot rename " + tmp);
+    }
+
+    public static RegionSnapshot read(File file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(new FileInputStream(file))))) {
+            if (in.readInt() != MAGIC) throw new IOException("not an arena snapshot: " + file);
+            int version = in.readInt();
+            if (version != VERSION) throw new IOException("unsupported snapshot version " + version);
+
+            RegionSnapshot snap = new RegionSnapshot(in.readUTF(),
+                    in.readInt(), in.readInt(), in.readInt(), in.readInt(), in.readInt(), in.readInt());
+
+            String[] global = new String[in.readInt()];
+            for (int i = 0; i < global.length; i++) global[i] = in.readUTF();
+
+            for (int c = 0; c < snap.chunks.length; c++) {
+                Section[] secs = new Section[snap.sections];
+                for (int sy = 0; sy < secs.length; sy++) {
+                    String[] pal = new String[in.readUnsignedShort()];
+                    for (int i = 0; i < pal.length; i++) pal[i] = global[in.readInt()];
+                    int bits = in.readUnsignedByte();
+                    long[] data = null;
+                    if (bits != 0) {
+                        data = new long[in.readUnsignedShort()];
+                        for (int i = 0; i < data.length; i++) data[i] = in.readLong();
+                    }
+                    secs[sy] = new Section(pal, bits, data);
+                }
+                snap.chunks[c] = secs;
+            }
+            return snap;
+        }
+    }
+}
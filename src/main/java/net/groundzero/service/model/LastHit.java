@@ -11,7 +11,7 @@ public final class LastHit {
     public final DamageKind kind;   // classification
     public final String weaponId;   // nullable; e.g., custom weapon key
     public final double amount;     // raw damage amount at record time (hp)
-    public final int tick;    // System.currentTimeMillis()
+    public final int tick;          // match tick (Core.clock.matchTick()) at record time
 
     public LastHit(UUID victim, UUID attacker, DamageKind kind,
                    String weaponId, double amount, int tick) {
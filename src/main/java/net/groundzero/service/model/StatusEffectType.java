@@ -0,0 +1,40 @@
+package net.groundzero.service.model;
+
+/**
+ * Damage-over-time effects carried by ArrowOptions.flags / Payload.flags (one bit each).
+ * [flag, damage kind, pulse interval, duration, damage per pulse]
+ */
+public enum StatusEffectType {
+    POISON(1 << 0, DamageKind.POISON, 20, 5 * 20, 1.0),
+    WITHER(1 << 1, DamageKind.POISON, 10, 3 * 20, 1.0),
+    BURN  (1 << 2, DamageKind.OTHER,  10, 4 * 20, 0.5);
+
+    public final int flag;
+    public final DamageKind kind;
+    public final int intervalTicks;
+    public final int durationTicks;
+    public final double damagePerPulse;
+
+    private static final StatusEffectType[] VALUES = values();
+
+    StatusEffectType(int flag, DamageKind kind, int intervalTicks, int durationTicks, double damagePerPulse) {
+        this.flag = flag;
+        this.kind = kind;
+        this.intervalTicks = intervalTicks;
+        this.durationTicks = durationTicks;
+        this.damagePerPulse = damagePerPulse;
+    }
+
+    public static StatusEffectType byOrdinal(int ordinal) { return VALUES[ordinal]; }
+
+    public static int count() { return VALUES.length; }
+
+    /** Case-insensitive lookup for config; null if unknown. */
+    public static StatusEffectType byName(String name) {
+        if (name == null) return null;
+        for (StatusEffectType t : VALUES) {
+            if (t.name().equalsIgnoreCase(name.trim())) return t;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,90 @@
+package net.groundzero.service.sidebar;
+
+import io.papermc.paper.scoreboard.numbers.NumberFormat;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.scoreboard.Criteria;
+import org.bukkit.scoreboard.DisplaySlot;
+import org.bukkit.scoreboard.Objective;
+import org.bukkit.scoreboard.Score;
+import org.bukkit.scoreboard.Scoreboard;
+import org.bukkit.scoreboard.ScoreboardManager;
+
+/**
+ * Team-less sidebar: one objective, one score entry per line.
+ *
+ * - Line text is the score's custom name (Paper), numbers are hidden with a blank NumberFormat,
+ *   so a line change is one score update instead of team prefix/suffix packets.
+ * - Keeps the last shown String per line; update() diffs and touches changed lines only.
+ * - Still backed by a full server Scoreboard from getNewScoreboard(): the saving is in
+ *   packets per refresh, not in memory per viewer (share one Sidebar where you can).
+ * - The same Sidebar can be assigned to many players (shared views).
+ * - Scoreboards from getNewScoreboard() are only weakly held by the server: dropping the
+ *   Sidebar after putting viewers back on the main board is the whole cleanup.
+ */
+public final class Sidebar {
+
+    private static final LegacyComponentSerializer LEGACY = LegacyComponentSerializer.legacySection();
+
+    private final Scoreboard board;
+    private final Objective obj;
+    private final String[] shown;
+
+    private Sidebar(Scoreboard board, Objective obj, int lines) {
+        this.board = board;
+        this.obj = obj;
+        this.shown = new String[lines];
+    }
+
+    /** New sidebar with a fixed number of lines; null if the scoreboard manager is unavailable. */
+    public static Sidebar create(String title, int lines) {
+        ScoreboardManager mgr = Bukkit.getScoreboardManager();
+        if (mgr == null) return null;
+
+        Scoreboard sb = mgr.getNewScoreboard();
+        Objective obj = sb.registerNewObjective("gz", Criteria.DUMMY, LEGACY.deserialize(title));
+        obj.setDisplaySlot(DisplaySlot.SIDEBAR);
+        obj.numberFormat(NumberFormat.blank());
+        return new Sidebar(sb, obj, lines);
+    }
+
+    public int lines() { return shown.length; }
+
+    public Scoreboard scoreboard() { return board; }
+
+    /** Show this sidebar to a player (no-op if already shown). */
+    public void show(Player p) {
+        if (p != null && p.getScoreboard() != board) p.setScoreboard(board);
+    }
+
+    /** Whether p currently looks at this sidebar. */
+    public boolean isShownTo(Player p) {
+        return p != null && p.getScoreboard() == board;
+    }
+
+    /** Diff against the last shown lines; top line first, null = blank. */
+    public void update(String[] lines) {
+        final int n = shown.length;
+        for (int i = 0; i < n; i++) {
+            String next = (i < lines.length && lines[i] != null) ? lines[i] : "";
+            if (next.equals(shown[i])) continue;
+            shown[i] = next;
+
+            Score s = obj.getScore("l" + i);
+            if (!s.isScoreSet()) s.setScore(n - i); // fixed order, top = highest
+            s.customName(LEGACY.deserialize(next));
+        }
+    }
+
+    public void setTitle(String title) {
+        obj.displayName(LEGACY.deserialize(title));
+    }
+
+    /** Put p back on the main scoreboard if it is looking at this sidebar. */
+    public void hide(Player p) {
+        if (!isShownTo(p)) return;
+        ScoreboardManager mgr = Bukkit.getScoreboardManager();
+        if (mgr != null) p.setScoreboard(mgr.getMainScoreboard());
+    }
+}
@@ -1,13 +1,22 @@
 package net.groundzero.service.tick;
 
 import net.groundzero.app.Core;
+import net.groundzero.metrics.Histogram;
+import net.groundzero.profiling.TickPhaseEvent;
+import net.groundzero.profiling.TickSubscriberEvent;
 
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Central 1-tick loop for the whole plugin.
  * Register subsystems that need to run every tick (scoreboard, combat tags, cooldowns, DoT, etc.).
+ *
+ * Each tick runs the phases in order: INPUT → SIMULATION → RENDER.
+ * Order inside a phase is unspecified.
  */
 public final class TickBus {
 
@@ -17,18 +26,51 @@ public final class TickBus {
         void onTick(int currentTick);
     }
 
-    private final Set<Tickable> subs = ConcurrentHashMap.newKeySet();
+    /** Tick phases, run in declaration order. */
+    public enum Phase {
+        INPUT,       // apply queued inputs / bookkeeping before game logic
+        SIMULATION,  // game state: time, income, idle timers, DoT, respawns
+        RENDER       // UI only: scoreboard, action bars (reads state, never mutates it)
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final Map<Phase, Set<Tickable>> subs = new EnumMap<>(Phase.class);
     private volatile boolean running = false;
-    private int currentTick = 0;
 
+    // nanos per phase and per whole tick, exported as seconds (8 µs .. 134 ms buckets)
+    private final Histogram[] phaseNanos = new Histogram[PHASES.length];
+    private final Histogram tickNanos = Core.metrics.histogram(
+            "groundzero_tick_seconds", "TickBus tick time", 1e-9, 13, 27);
+
+    public TickBus() {
+        for (Phase ph : PHASES) {
+            subs.put(ph, ConcurrentHashMap.newKeySet());
+            phaseNanos[ph.ordinal()] = Core.metrics.histogram(
+                    "groundzero_tick_phase_seconds", "TickBus time per phase", 1e-9, 13, 27,
+                    "phase", ph.name().toLowerCase(Locale.ROOT));
+        }
+    }
+
+    /** Register into SIMULATION (default phase). */
     public void register(Tickable t) {
-        if (t != null) subs.add(t);
+        register(Phase.SIMULATION, t);
+    }
+
+    public void register(Phase phase, Tickable t) {
+        if (t == null || phase == null) return;
+        unregister(t); // one phase per subscriber
+        subs.get(phase).add(t);
     }
 
     public void unregister(Tickable t) {
-        if (t != null) subs.remove(t);
+        if (t == null) return;
+        for (Phase ph : PHASES) subs.get(ph).remove(t);
     }
 
+    /** Tick counter of the running bus (0 while stopped); same as Core.clock.matchTick(). */
+    public int currentTick() { return Core.clock.matchTick(); }
+
     /** Start the repeating 1-tick task. Safe to call multiple times. */
     public void start() {
         if (running) return;
@@ -39,22 +81,58 @@ public final class TickBus {
     /** Stop the task and reset counters (subscribers are kept, your choice). */
     public void stop() {
         running = false;
-        currentTick = 0;
-        subs.clear();
+        Core.clock.resetMatch();
+        for (Phase ph : PHASES) subs.get(ph).clear();
     }
 
     private void scheduleNext() {
         if (!running) return;
         Core.schedulers.runLater(() -> {
             try {
-                currentTick++;
-                // iterate over a snapshot to avoid CME if subs mutate
-                for (Tickable t : subs.toArray(new Tickable[0])) {
-                    try { t.onTick(currentTick); } catch (Throwable ignored) {}
-                }
+                runTick();
             } finally {
                 if (running) scheduleNext();
             }
         }, 1L);
     }
+
+    /**
+     * One bus tick: every phase in order. The scheduled task calls this;
+     * benchmarks and headless runs drive it directly without a server.
+     */
+    public void runTick() {
+        final int currentTick = Core.clock.advanceMatch();
+        final long start = System.nanoTime();
+        long t0 = start;
+        for (Phase ph : PHASES) {
+            // iterate over a snapshot to avoid CME if subs mutate
+            Tickable[] list = subs.get(ph).toArray(new Tickable[0]);
+            TickPhaseEvent pe = new TickPhaseEvent();
+            pe.begin();
+            for (Tickable t : list) {
+                TickSubscriberEvent se = new TickSubscriberEvent();
+                se.begin();
+                try { t.onTick(currentTick); } catch (Throwable ignored) {}
+                se.end();
+                if (se.shouldCommit()) {
+                    se.phase = ph.name();
+                    se.subscriber = t.getClass();
+                    se.tick = currentTick;
+                    se.commit();
+                }
+            }
+            pe.end();
+            if (pe.shouldCommit()) {
+                pe.phase = ph.name();
+                pe.tick = currentTick;
+                pe.subscribers = list.length;
+                pe.participants = Core.session.getParticipantsView().size();
+                pe.commit();
+            }
+            long t1 = System.nanoTime();
+            phaseNanos[ph.ordinal()].record(t1 - t0);
+            t0 = t1;
+        }
+        tickNanos.record(t0 - start);
+    }
 }
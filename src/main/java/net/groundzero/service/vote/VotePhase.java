@@ -0,0 +1,139 @@
+package net.groundzero.service.vote;
+
+import net.groundzero.app.Core;
+import net.groundzero.game.ScoringRules;
+import net.groundzero.item.util.ItemFactory;
+import net.groundzero.ui.MenuAction;
+import net.groundzero.ui.VoteStacks;
+import net.groundzero.ui.options.VoteOption;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * One vote (map size, income, game mode, ...) over an option enum.
+ *
+ * - Lives in one row of the shared vote inventory: option slot = rowOffset + option.slot()
+ *   (option slots are column positions in row 1), header item at the start of that row.
+ * - Tally is an int[] by ordinal; vote clicks only set dirty bits, VoteService flushes them.
+ * - Tie-break order is shuffled once per round in reset(); resolve() is then deterministic.
+ * - Items come from prebuilt VoteStacks (built once, reused every round).
+ */
+public final class VotePhase<T extends Enum<T> & VoteOption> {
+
+    /** Slot writer handed in by VoteService (counts every update it sends). */
+    @FunctionalInterface
+    public interface SlotWriter {
+        void set(int slot, ItemStack item);
+    }
+
+    private final String name;
+    private final int rowOffset;
+    private final VoteStacks<T> stacks;
+    private final T[] options;
+    private final ItemStack header;
+    private final Consumer<T> onChosen;
+
+    // per round
+    private final int[] counts;
+    private final int[] tieRank;               // [ordinal] → rank, lower wins a tie
+    private final Map<UUID, T> voted = new HashMap<>();
+    private long dirty = 0L;
+    private T chosen;
+
+    public VotePhase(String name, Class<T> type, int rowOffset, Material headerMaterial, Consumer<T> onChosen) {
+        this.name = name;
+        this.rowOffset = rowOffset;
+        this.stacks = new VoteStacks<>(type);
+        this.options = stacks.options();
+        this.header = ItemFactory.named(headerMaterial, "&e" + name, List.of("", "&fPick one option in this row"));
+        this.onChosen = onChosen;
+        this.counts = new int[options.length];
+        this.tieRank = new int[options.length];
+    }
+
+    public String name() { return name; }
+    public T chosen() { return chosen; }
+    public String chosenLabel() { return chosen != null ? chosen.label() : "-"; }
+
+    private int slotOf(T opt) { return rowOffset + opt.slot(); }
+    private int headerSlot() { return rowOffset + 9; }
+
+    /* ===================== round ===================== */
+
+    /** Clear the tally and precompute this round's tie-break order. */
+    public void reset(Random rng) {
+        Arrays.fill(counts, 0);
+        voted.clear();
+        dirty = 0L;
+        chosen = null;
+
+        ScoringRules.shuffleTieRank(tieRank, rng);
+    }
+
+    /** Initial contents of this phase's row. */
+    public void fill(SlotWriter w) {
+        w.set(headerSlot(), header);
+        for (T opt : options) w.set(slotOf(opt), stacks.votes(opt, 0));
+    }
+
+    /** Bind this phase's option slots in the shared slot → action table. */
+    public void bindActions(MenuAction[] actions) {
+        for (T opt : options) {
+            actions[slotOf(opt)] = p -> Core.voteService.vote(p, this, opt);
+        }
+    }
+
+    /** @return true if the tally changed (caller schedules a flush). */
+    public boolean vote(UUID id, T opt) {
+        T prev = voted.put(id, opt);
+        if (prev == opt) return false;
+        if (prev != null) {
+            counts[prev.ordinal()]--;
+            dirty |= 1L << prev.ordinal();
+        }
+        counts[opt.ordinal()]++;
+        dirty |= 1L << opt.ordinal();
+        return true;
+    }
+
+    /** Write only options whose count changed since the last flush. */
+    public void flush(SlotWriter w) {
+        if (dirty == 0L) return;
+        for (T opt : options) {
+            if ((dirty & (1L << opt.ordinal())) == 0L) continue;
+            w.set(slotOf(opt), stacks.votes(opt, counts[opt.ordinal()]));
+        }
+        dirty = 0L;
+    }
+
+    /* ===================== result ===================== */
+
+    /** Pick the winner: most votes, ties by the precomputed rank. Leaves only the tied options visible. */
+    public T resolve(SlotWriter w) {
+        T best = options[ScoringRules.pickWinner(counts, tieRank)];
+        int max = counts[best.ordinal()];
+
+        for (T opt : options) {
+            if (counts[opt.ordinal()] != max) w.set(slotOf(opt), null);
+        }
+        chosen = best;
+        return best;
+    }
+
+    /** Show the winner highlighted and apply it. */
+    public void reveal(SlotWriter w) {
+        if (chosen == null) return;
+        for (T opt : options) {
+            w.set(slotOf(opt), opt == chosen ? stacks.highlighted(opt) : null);
+        }
+        onChosen.accept(chosen);
+    }
+}
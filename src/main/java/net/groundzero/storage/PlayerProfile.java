@@ -0,0 +1,55 @@
+package net.groundzero.storage;
+
+import java.util.UUID;
+
+/**
+ * Persistent per-player stats, as held by ProfileCache.
+ * - Mutated on the main thread (kills, deaths, match results); each change marks it dirty.
+ * - Stats is an immutable value, so a write-back copies nothing: it takes the current
+ *   reference and clears the dirty flag (takeDirty), from any thread.
+ */
+public final class PlayerProfile {
+
+    public record Stats(int kills, int deaths, int matchesPlayed, int wins, double bestScore) {
+        public static final Stats EMPTY = new Stats(0, 0, 0, 0, 0.0);
+    }
+
+    private final UUID id;
+    private Stats stats;
+    private boolean dirty = false;
+
+    PlayerProfile(UUID id, Stats stats) {
+        this.id = id;
+        this.stats = stats;
+    }
+
+    public UUID id() { return id; }
+
+    public synchronized Stats stats() { return stats; }
+
+    public synchronized void recordKill() {
+        stats = new Stats(stats.kills() + 1, stats.deaths(), stats.matchesPlayed(), stats.wins(), stats.bestScore());
+        dirty = true;
+    }
+
+    public synchronized void recordDeath() {
+        stats = new Stats(stats.kills(), stats.deaths() + 1, stats.matchesPlayed(), stats.wins(), stats.bestScore());
+        dirty = true;
+    }
+
+    public synchronized void recordMatch(double score, boolean won) {
+        stats = new Stats(stats.kills(), stats.deaths(), stats.matchesPlayed() + 1,
+                stats.wins() + (won ? 1 : 0), Math.max(stats.bestScore(), score));
+        dirty = true;
+    }
+
+    /** Current stats if changed since the last call (then clean), else null. */
+    synchronized Stats takeDirty() {
+        if (!dirty) return null;
+        dirty = false;
+        return stats;
+    }
+
+    /** A write-back failed: keep the profile dirty so the next flush retries. */
+    synchronized void markDirty() { dirty = true; }
+}
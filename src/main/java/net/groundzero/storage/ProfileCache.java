@@ -0,0 +1,242 @@
+package net.groundzero.storage;
+
+import net.groundzero.app.Core;
+import net.groundzero.metrics.Counter;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * In-memory PlayerProfiles in front of StatsRepository, so joins never wait on storage.
+ *
+ * Loading:
+ * - preload() starts the load on AsyncPlayerPreLoginEvent and returns at once; by the time
+ *   PlayerJoinEvent fires the profile is usually there. Calling it again is a no-op.
+ * - getIfLoaded() never blocks (null while loading); whenLoaded() runs an action on the main
+ *   thread as soon as the profile is there, loading it first if needed.
+ *
+ * I/O lanes:
+ * - statsIoThreads single-thread executors; a player always maps to the same lane, so
+ *   their load and saves run in order while different players load in parallel
+ *   (a cold cache after a restart spreads the login burst over every lane).
+ *
+ * Memory and write-back:
+ * - LRU bounded to statsCacheSize entries (size it above the player cap). Online players,
+ *   loads still running and profiles with whenLoaded actions queued are never evicted, so the
+ *   cache may run over until they are gone. Trimming runs on the main thread only (it asks
+ *   Bukkit who is online): on main-thread loads and with every flush.
+ * - Dirty profiles are written on quit, on eviction, every statsFlushSeconds and on disable.
+ *   A failed write keeps the profile dirty for the next flush. If it was evicted, it goes back
+ *   into the cache (or completes a pending reload of that player, which would read the stale file).
+ * - The flush timer is a plain Bukkit task: it must survive Schedulers.cancelAll between matches.
+ */
+public final class ProfileCache {
+
+    private final StatsRepository repo;
+    private final ExecutorService[] lanes;
+    private final int capacity;
+    private final Map<UUID, CompletableFuture<PlayerProfile>> entries; // access order, guarded by itself
+    private final Map<UUID, Integer> pendingActions = new HashMap<>(); // whenLoaded actions not run yet, guarded by entries
+    private BukkitTask flushTask;
+
+    private final Counter loads = Core.metrics.counter(
+            "groundzero_profile_io", "Profile store operations", "op", "load");
+    private final Counter saves = Core.metrics.counter(
+            "groundzero_profile_io", "Profile store operations", "op", "save");
+    private final Counter failures = Core.metrics.counter(
+            "groundzero_profile_io", "Profile store operations", "op", "failed");
+
+    public ProfileCache(StatsRepository repo, int capacity, int ioThreads) {
+        this.repo = repo;
+        this.capacity = capacity;
+        this.lanes = new ExecutorService[ioThreads];
+        for (int i = 0; i < ioThreads; i++) {
+            final String name = "GroundZero-stats-" + i;
+            lanes[i] = Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, name);
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /* ===================== Lifecycle ===================== */
+
+    public void start() {
+        if (flushTask != null) return;
+        long period = Core.gameConfig.statsFlushSeconds * 20L;
+        flushTask = Bukkit.getScheduler().runTaskTimer(Core.plugin, this::flushAll, period, period);
+    }
+
+    /** Writes every dirty profile and waits for the lanes to drain (plugin disable). */
+    public void shutdown() {
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+        flushAll();
+        for (ExecutorService lane : lanes) lane.shutdown();
+        try {
+            for (ExecutorService lane : lanes) {
+                if (!lane.awaitTermination(10, TimeUnit.SECONDS)) {
+                    Core.plugin.getLogger().warning("[Stats] profile writes still pending at shutdown");
+                    return;
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /* ===================== Access ===================== */
+
+    /** Any thread. Starts the load unless the profile is cached or already loading. */
+    public CompletableFuture<PlayerProfile> preload(UUID id) {
+        synchronized (entries) {
+            CompletableFuture<PlayerProfile> f = entries.get(id);
+            if (f != null) return f;
+
+            CompletableFuture<PlayerProfile> load = CompletableFuture.supplyAsync(() -> {
+                try {
+                    PlayerProfile p = new PlayerProfile(id, repo.load(id));
+                    loads.inc();
+                    return p;
+                } catch (Exception ex) {
+                    throw new IllegalStateException(ex.getMessage(), ex);
+                }
+            }, lane(id));
+            entries.put(id, load);
+            load.exceptionally(ex -> {
+                failures.inc();
+                Core.plugin.getLogger().warning("[Stats] cannot load profile " + id + ": " + ex.getMessage());
+                synchronized (entries) { entries.remove(id, load); } // next access retries
+                return null;
+            });
+            if (Bukkit.isPrimaryThread()) trim();
+            return load;
+        }
+    }
+
+    /** Non-blocking: the profile if loaded, else null. */
+    public PlayerProfile getIfLoaded(UUID id) {
+        CompletableFuture<PlayerProfile> f;
+        synchronized (entries) { f = entries.get(id); }
+        if (f == null || !f.isDone() || f.isCompletedExceptionally()) return null;
+        return f.join();
+    }
+
+    /** Main thread. Runs now if loaded, otherwise on the main thread once the load completes. */
+    public void whenLoaded(UUID id, Consumer<PlayerProfile> action) {
+        PlayerProfile p = getIfLoaded(id);
+        if (p != null) {
+            action.accept(p);
+            return;
+        }
+        synchronized (entries) { pendingActions.merge(id, 1, Integer::sum); }
+        preload(id).whenComplete((loaded, ex) -> {
+            if (loaded == null || !Core.plugin.isEnabled()) {
+                actionDone(id);
+                return;
+            }
+            Bukkit.getScheduler().runTask(Core.plugin, () -> {
+                try {
+                    action.accept(loaded);
+                } finally {
+                    actionDone(id);
+                }
+            });
+        });
+    }
+
+    private void actionDone(UUID id) {
+        synchronized (entries) { pendingActions.computeIfPresent(id, (k, n) -> n > 1 ? n - 1 : null); }
+    }
+
+    public int size() {
+        synchronized (entries) { return entries.size(); }
+    }
+
+    /* ===================== Write-back ===================== */
+
+    /** Queue a write of this player's profile if dirty (quit). */
+    public void flush(UUID id) {
+        PlayerProfile p = getIfLoaded(id);
+        if (p != null) writeBack(p);
+    }
+
+    public void flushAll() {
+        trim();
+        List<CompletableFuture<PlayerProfile>> all;
+        synchronized (entries) { all = new ArrayList<>(entries.values()); }
+        for (CompletableFuture<PlayerProfile> f : all) {
+            if (f.isDone() && !f.isCompletedExceptionally()) writeBack(f.join());
+        }
+    }
+
+    /** Main thread. Evicts least recently used profiles down to capacity, skipping those still in use. */
+    private void trim() {
+        List<PlayerProfile> evicted = new ArrayList<>();
+        synchronized (entries) {
+            int over = entries.size() - capacity;
+            Iterator<Map.Entry<UUID, CompletableFuture<PlayerProfile>>> it = entries.entrySet().iterator();
+            while (over > 0 && it.hasNext()) {
+                Map.Entry<UUID, CompletableFuture<PlayerProfile>> e = it.next();
+                CompletableFuture<PlayerProfile> f = e.getValue();
+                if (!f.isDone() || f.isCompletedExceptionally()) continue;
+                if (pendingActions.containsKey(e.getKey()) || Bukkit.getPlayer(e.getKey()) != null) continue;
+                it.remove();
+                evicted.add(f.join());
+                over--;
+            }
+        }
+        for (PlayerProfile p : evicted) writeBack(p);
+    }
+
+    private void writeBack(PlayerProfile p) {
+        if (p == null) return;
+        PlayerProfile.Stats s = p.takeDirty();
+        if (s == null) return;
+        lane(p.id()).execute(() -> {
+            try {
+                repo.save(p.id(), s);
+                saves.inc();
+            } catch (IOException ex) {
+                p.markDirty();
+                failures.inc();
+                Core.plugin.getLogger().warning("[Stats] cannot save profile " + p.id() + ": " + ex.getMessage());
+                recache(p);
+            }
+        });
+    }
+
+    /**
+     * I/O lane, after a failed save: make sure the next flush sees the profile again.
+     * A reload of the same player queued since its eviction runs after this on the lane,
+     * so it has not read the file yet: it is completed with this profile instead.
+     */
+    private void recache(PlayerProfile p) {
+        synchronized (entries) {
+            CompletableFuture<PlayerProfile> f = entries.get(p.id());
+            if (f == null) entries.put(p.id(), CompletableFuture.completedFuture(p));
+            else f.complete(p);
+        }
+    }
+
+    private ExecutorService lane(UUID id) {
+        return lanes[Math.floorMod(id.hashCode(), lanes.length)];
+    }
+}
@@ -1,4 +1,63 @@
 package net.groundzero.storage;
 
-public class StatsRepository {
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+
+/**
+ * Blocking file store for PlayerProfile.Stats: one small YAML file per player under
+ * dataFolder/players/<uuid>.yml.
+ * - Never call on the main thread; ProfileCache runs it on its I/O lanes.
+ * - Calls for different players may run concurrently; calls for one player must not
+ *   (ProfileCache keeps each player on one lane).
+ * - Saves go to a temp file first and are moved over the old one, so a crash mid-write
+ *   never leaves a truncated profile.
+ */
+public final class StatsRepository {
+
+    private final File dir;
+
+    public StatsRepository(File dir) {
+        this.dir = dir;
+    }
+
+    /** Stored stats, or Stats.EMPTY for a player never saved. */
+    public PlayerProfile.Stats load(UUID id) throws IOException, InvalidConfigurationException {
+        File file = file(id);
+        if (!file.exists()) return PlayerProfile.Stats.EMPTY;
+
+        YamlConfiguration y = new YamlConfiguration();
+        y.load(file);
+        return new PlayerProfile.Stats(
+                y.getInt("kills"),
+                y.getInt("deaths"),
+                y.getInt("matches-played"),
+                y.getInt("wins"),
+                y.getDouble("best-score"));
+    }
+
+    public void save(UUID id, PlayerProfile.Stats s) throws IOException {
+        YamlConfiguration y = new YamlConfiguration();
+        y.set("kills", s.kills());
+        y.set("deaths", s.deaths());
+        y.set("matches-played", s.matchesPlayed());
+        y.set("wins", s.wins());
+        y.set("best-score", s.bestScore());
+
+        Files.createDirectories(dir.toPath());
+        Path target = file(id).toPath();
+        Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+        Files.writeString(tmp, y.saveToString());
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private File file(UUID id) {
+        return new File(dir, id + ".yml");
+    }
 }
@@ -0,0 +1,9 @@
+package net.groundzero.ui;
+
+import org.bukkit.entity.Player;
+
+/** Click handler bound to one GUI slot (see GroundZeroMenuHolder.action). */
+@FunctionalInterface
+public interface MenuAction {
+    void onClick(Player p);
+}
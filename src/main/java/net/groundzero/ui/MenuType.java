@@ -1,8 +1,6 @@
 package net.groundzero.ui;
 
 public enum MenuType {
-    MAP_SIZE,
-    INCOME_MULTIPLIER,
-    GAME_MODE,
+    VOTE,
     SHOP
 }
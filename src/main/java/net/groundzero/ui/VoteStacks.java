@@ -0,0 +1,93 @@
+package net.groundzero.ui;
+
+import net.groundzero.ui.options.VoteOption;
+import org.bukkit.inventory.ItemFlag;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Prebuilt, never-mutated ItemStack variants for one vote option enum:
+ * - votes(opt, n): normal item showing n votes (built lazily once per count, then reused)
+ * - highlighted(opt): the selected option
+ *
+ * Inventory.setItem copies the stack, so the same instance can be placed in any number of slots.
+ */
+public final class VoteStacks<T extends Enum<T> & VoteOption> {
+
+    private static final int INITIAL_COUNTS = 16;
+
+    private final T[] options;
+    private final ItemStack[][] byVotes;    // [ordinal][count]
+    private final ItemStack[] highlighted;  // [ordinal]
+
+    public VoteStacks(Class<T> type) {
+        this.options = type.getEnumConstants();
+        this.byVotes = new ItemStack[options.length][INITIAL_COUNTS];
+        this.highlighted = new ItemStack[options.length];
+        for (T opt : options) {
+            for (int n = 0; n < INITIAL_COUNTS; n++) byVotes[opt.ordinal()][n] = build(opt, n);
+            highlighted[opt.ordinal()] = buildHighlighted(opt);
+        }
+    }
+
+    public T[] options() { return options; }
+
+    public ItemStack votes(T opt, int count) {
+        int n = Math.max(0, count);
+        ItemStack[] row = byVotes[opt.ordinal()];
+        if (n >= row.length) {
+            row = Arrays.copyOf(row, Math.max(n + 1, row.length * 2));
+            byVotes[opt.ordinal()] = row;
+        }
+        if (row[n] == null) row[n] = build(opt, n);
+        return row[n];
+    }
+
+    public ItemStack highlighted(T opt) { return highlighted[opt.ordinal()]; }
+
+    /* ----------------------- builders ----------------------- */
+
+    private ItemStack build(T opt, int count) {
+        ItemStack it = new ItemStack(opt.material());
+        ItemMeta meta = it.getItemMeta();
+        meta.setDisplayName("§b" + opt.label());
+        meta.setLore(votesLore(opt.label(), count));
+        it.setItemMeta(meta);
+        return it;
+    }
+
+    private ItemStack buildHighlighted(T opt) {
+        ItemStack it = new ItemStack(opt.material());
+        ItemMeta meta = it.getItemMeta();
+        meta.setDisplayName("§d" + opt.label());
+        meta.setLore(Arrays.asList("", "§dSelected"));
+        meta.addEnchant(org.bukkit.enchantments.Enchantment.UNBREAKING, 1, true);
+        meta.addItemFlags(ItemFlag.HIDE_ENCHANTS);
+        it.setItemMeta(meta);
+        return it;
+    }
+
+    private static List<String> votesLore(String label, int count) {
+        String click = "§fClick to vote §b" + label;
+        if (count <= 0) {
+            return Arrays.asList(
+                    "",
+                    click,
+                    "§fVotes : §a- §f(§e0§f)"
+            );
+        }
+        StringBuilder bar = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) bar.append(' ');
+            bar.append('■');
+        }
+        return Arrays.asList(
+                "",
+                click,
+                "§fVotes : §a" + bar + " §f(§e" + count + "§f)"
+        );
+    }
+}
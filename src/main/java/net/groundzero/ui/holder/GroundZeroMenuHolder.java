@@ -1,16 +1,34 @@
 package net.groundzero.ui.holder;
 
+import net.groundzero.ui.MenuAction;
 import net.groundzero.ui.MenuType;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.InventoryHolder;
 
-/** Custom holder to reliably identify our menus. */
+/**
+ * Custom holder to reliably identify our menus.
+ * Carries a precomputed slot → action table (built once per menu, shared, never mutated),
+ * so a click is a single array index.
+ */
 public final class GroundZeroMenuHolder implements InventoryHolder {
+    private static final MenuAction[] NO_ACTIONS = new MenuAction[0];
+
     private final MenuType type;
+    private final MenuAction[] actions;
+
+    public GroundZeroMenuHolder(MenuType type) { this(type, NO_ACTIONS); }
 
-    public GroundZeroMenuHolder(MenuType type) { this.type = type; }
+    public GroundZeroMenuHolder(MenuType type, MenuAction[] actions) {
+        this.type = type;
+        this.actions = (actions != null ? actions : NO_ACTIONS);
+    }
 
     public MenuType type() { return type; }
 
+    /** Action bound to a raw top-inventory slot; null if the slot is inert. */
+    public MenuAction action(int rawSlot) {
+        return (rawSlot >= 0 && rawSlot < actions.length) ? actions[rawSlot] : null;
+    }
+
     @Override public Inventory getInventory() { return null; } // not used
 }
@@ -3,7 +3,7 @@ package net.groundzero.ui.options;
 import org.bukkit.Material;
 
 /** Game modes: [index, label, material, slot] */
-public enum GameModeOption {
+public enum GameModeOption implements VoteOption {
     STANDARD(0, "STANDARD", Material.GRASS_BLOCK, 13);
     // Add more: HARDCORE(...), SNIPER_ONLY(...), etc.
 
@@ -18,4 +18,8 @@ public enum GameModeOption {
         this.material = material;
         this.slot = slot;
     }
+
+    @Override public String label() { return label; }
+    @Override public Material material() { return material; }
+    @Override public int slot() { return slot; }
 }
@@ -3,7 +3,7 @@ package net.groundzero.ui.options;
 import org.bukkit.Material;
 
 /** Income multiplier choices: [multiplier, label, material, slot] */
-public enum IncomeOption {
+public enum IncomeOption implements VoteOption {
     X0_5(0.5, "×0.5", Material.RED_WOOL,   10),
     X1_0(1.0, "×1.0", Material.YELLOW_WOOL,12),
     X2_0(2.0, "×2.0", Material.LIME_WOOL,  14),
@@ -20,4 +20,8 @@ public enum IncomeOption {
         this.material = material;
         this.slot = slot;
     }
+
+    @Override public String label() { return label; }
+    @Override public Material material() { return material; }
+    @Override public int slot() { return slot; }
 }
@@ -3,7 +3,7 @@ package net.groundzero.ui.options;
 import org.bukkit.Material;
 
 /** Map size choices: [size, label, material, slot] */
-public enum MapSizeOption {
+public enum MapSizeOption implements VoteOption {
     SIZE_50( 50,  "50×50",   Material.RED_WOOL,   10),
     SIZE_100(100, "100×100", Material.YELLOW_WOOL,12),
     SIZE_200(200, "200×200", Material.LIME_WOOL,  14),
@@ -20,4 +20,8 @@ public enum MapSizeOption {
         this.material = material;
         this.slot = slot;
     }
+
+    @Override public String label() { return label; }
+    @Override public Material material() { return material; }
+    @Override public int slot() { return slot; }
 }
@@ -0,0 +1,10 @@
+package net.groundzero.ui.options;
+
+import org.bukkit.Material;
+
+/** Common view of a votable option enum: [label, material, slot]. */
+public interface VoteOption {
+    String label();
+    Material material();
+    int slot();
+}
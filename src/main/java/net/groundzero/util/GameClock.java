@@ -0,0 +1,40 @@
+package net.groundzero.util;
+
+import org.bukkit.Bukkit;
+
+import java.util.function.IntSupplier;
+
+/**
+ * The one time base of the plugin, in ticks.
+ *
+ * - matchTick(): ticks since the match's TickBus started (0 while stopped). All game logic
+ *   (cooldowns, last hits, respawns, DoT, arrow spawn stamps) uses this. TickBus advances it.
+ * - serverTick(): server tick counter, for things that also run outside a match
+ *   (notification rate limits). Injected, so headless runs and replays drive it themselves.
+ *
+ * Game code never reads wall-clock time; a match replays the same at any speed.
+ */
+public final class GameClock {
+
+    private final IntSupplier serverTicks;
+    private int matchTick = 0;
+
+    /** Server clock from Bukkit. */
+    public GameClock() {
+        this(Bukkit::getCurrentTick);
+    }
+
+    public GameClock(IntSupplier serverTicks) {
+        this.serverTicks = serverTicks;
+    }
+
+    public int matchTick() { return matchTick; }
+
+    public int serverTick() { return serverTicks.getAsInt(); }
+
+    /** TickBus only: one match tick passed. */
+    public int advanceMatch() { return ++matchTick; }
+
+    /** TickBus only: match clock back to 0. */
+    public void resetMatch() { matchTick = 0; }
+}
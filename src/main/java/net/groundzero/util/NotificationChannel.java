@@ -0,0 +1,258 @@
+package net.groundzero.util;
+
+import net.groundzero.app.Core;
+import net.groundzero.metrics.Counter;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import net.kyori.adventure.title.Title;
+import org.bukkit.Bukkit;
+import org.bukkit.Sound;
+import org.bukkit.entity.Player;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Per-player notification channel for gameplay feedback that can burst
+ * (penalties, warnings, status lines). Plain replies to commands still use Notifier.message.
+ *
+ * - MessageClass decides route (chat / action bar / title) and priority.
+ * - Messages with the same key merge while pending: count goes up, amounts are summed.
+ *   A key that was sent less than MERGE_WINDOW_TICKS ago is held back and merged,
+ *   then sent once the window has passed.
+ * - Chat is limited by a token bucket per player; CRITICAL bypasses it.
+ *   Action bar and title send at most one (the newest) per player per tick.
+ * - At most one feedback sound per player per flush.
+ * - Flushing runs on a plain Bukkit task, once per tick while anything is pending.
+ */
+public final class NotificationChannel {
+
+    public enum Priority { LOW, NORMAL, HIGH, CRITICAL }
+
+    public enum Route { CHAT, ACTION_BAR, TITLE }
+
+    /** Message class → (route, priority). */
+    public enum MessageClass {
+        INFO(Route.CHAT, Priority.NORMAL),
+        PENALTY(Route.CHAT, Priority.HIGH),
+        STATUS(Route.ACTION_BAR, Priority.LOW),
+        ALERT(Route.TITLE, Priority.CRITICAL);
+
+        public final Route route;
+        public final Priority priority;
+
+        MessageClass(Route route, Priority priority) {
+            this.route = route;
+            this.priority = priority;
+        }
+    }
+
+    private static final int MERGE_WINDOW_TICKS = 40;
+    private static final double BUCKET_CAPACITY = 3.0;       // chat burst
+    private static final double REFILL_PER_TICK = 1.0 / 20;  // 1 chat line per second sustained
+    private static final int MAX_PENDING = 16;               // per player; lowest priority dropped first
+    private static final int LOW_TTL_TICKS = 5 * 20;         // stale LOW lines are dropped, not delayed
+
+    private static final LegacyComponentSerializer LEGACY = LegacyComponentSerializer.legacySection();
+    private static final Title.Times TITLE_TIMES =
+            Title.Times.times(Duration.ofMillis(100), Duration.ofMillis(1500), Duration.ofMillis(250));
+
+    private static final class Pending {
+        final String key;
+        final MessageClass cls;
+        final String format;       // may contain one %s for the summed amount
+        final int createdTick;
+        double amount;
+        int count = 1;
+
+        Pending(String key, MessageClass cls, String format, double amount, int createdTick) {
+            this.key = key;
+            this.cls = cls;
+            this.format = format;
+            this.amount = amount;
+            this.createdTick = createdTick;
+        }
+
+        String text() {
+            String s = format.contains("%s") ? format.replace("%s", String.format("%.2f", amount)) : format;
+            return count > 1 && !format.contains("%s") ? s + " &7(x" + count + ")" : s;
+        }
+    }
+
+    private static final class State {
+        double tokens = BUCKET_CAPACITY;
+        int refillTick;
+        final List<Pending> pending = new ArrayList<>();
+        final Map<String, Integer> lastSent = new HashMap<>();
+        State(int now) { this.refillTick = now; }
+    }
+
+    private final Map<UUID, State> states = new HashMap<>();
+
+    /** Queued messages by MessageClass ordinal (before merging and rate limits). */
+    private final Counter[] queued = new Counter[MessageClass.values().length];
+
+    public NotificationChannel() {
+        for (MessageClass cls : MessageClass.values()) {
+            queued[cls.ordinal()] = Core.metrics.counter("groundzero_notifications_queued",
+                    "Per-player notifications queued", "class", cls.name().toLowerCase(Locale.ROOT));
+        }
+    }
+    private boolean flushScheduled = false;
+
+    /* ===================== API ===================== */
+
+    public void send(UUID id, MessageClass cls, String key, String text) {
+        send(id, cls, key, text, 0.0);
+    }
+
+    /**
+     * Queue a message. format may contain "%s", replaced by the amount summed over merged messages.
+     */
+    public void send(UUID id, MessageClass cls, String key, String format, double amount) {
+        if (id == null || cls == null || key == null || format == null) return;
+        final int now = Core.clock.serverTick();
+        queued[cls.ordinal()].inc();
+        State st = states.computeIfAbsent(id, k -> new State(now));
+
+        for (Pending p : st.pending) {
+            if (p.key.equals(key)) {
+                p.amount += amount;
+                p.count++;
+                scheduleFlush();
+                return;
+            }
+        }
+
+        if (st.pending.size() >= MAX_PENDING && !dropLowest(st, cls.priority)) return;
+        st.pending.add(new Pending(key, cls, format, amount, now));
+        scheduleFlush();
+    }
+
+    /** Forget a player's channel (quit). */
+    public void forget(UUID id) {
+        if (id != null) states.remove(id);
+    }
+
+    /* ===================== flush ===================== */
+
+    private void scheduleFlush() {
+        if (flushScheduled || Core.plugin == null || !Core.plugin.isEnabled()) return;
+        flushScheduled = true;
+        Bukkit.getScheduler().runTask(Core.plugin, this::flush);
+    }
+
+    private void flush() {
+        flushScheduled = false;
+        final int now = Core.clock.serverTick();
+        boolean more = false;
+
+        Iterator<Map.Entry<UUID, State>> it = states.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<UUID, State> e = it.next();
+            State st = e.getValue();
+            if (st.pending.isEmpty()) continue;
+
+            Player p = Bukkit.getPlayer(e.getKey());
+            if (p == null || !p.isOnline()) {
+                it.remove();
+                continue;
+            }
+
+            refill(st, now);
+            flushPlayer(p, st, now);
+            if (!st.pending.isEmpty()) more = true;
+        }
+
+        if (more) scheduleFlush();
+    }
+
+    private void flushPlayer(Player p, State st, int now) {
+        // highest priority first, oldest first within a priority
+        st.pending.sort((a, b) -> a.cls.priority != b.cls.priority
+                ? b.cls.priority.compareTo(a.cls.priority)
+                : Integer.compare(a.createdTick, b.createdTick));
+
+        Pending actionBar = null;
+        Pending title = null;
+        List<Component> chat = null;
+        Priority soundFor = null;
+
+        Iterator<Pending> it = st.pending.iterator();
+        while (it.hasNext()) {
+            Pending m = it.next();
+
+            if (m.cls.priority == Priority.LOW && now - m.createdTick > LOW_TTL_TICKS) {
+                it.remove();
+                continue;
+            }
+            Integer last = st.lastSent.get(m.key);
+            if (last != null && now - last < MERGE_WINDOW_TICKS) continue; // hold and keep merging
+
+            switch (m.cls.route) {
+                case ACTION_BAR -> {
+                    if (actionBar != null) continue;
+                    actionBar = m;
+                }
+                case TITLE -> {
+                    if (title != null) continue;
+                    title = m;
+                }
+                case CHAT -> {
+                    if (m.cls.priority != Priority.CRITICAL) {
+                        if (st.tokens < 1.0) continue;
+                        st.tokens -= 1.0;
+                    }
+                    if (chat == null) chat = new ArrayList<>(2);
+                    chat.add(Core.notifier.line(m.cls.priority.compareTo(Priority.HIGH) >= 0, m.text()));
+                }
+            }
+            if (soundFor == null || m.cls.priority.compareTo(soundFor) > 0) soundFor = m.cls.priority;
+            st.lastSent.put(m.key, now);
+            it.remove();
+        }
+
+        if (chat != null) {
+            for (Component c : chat) p.sendMessage(c);
+        }
+        if (actionBar != null) p.sendActionBar(LEGACY.deserialize(c(actionBar.text())));
+        if (title != null) {
+            p.showTitle(Title.title(Component.empty(), LEGACY.deserialize(c(title.text())), TITLE_TIMES));
+        }
+        if (soundFor != null && soundFor != Priority.LOW) {
+            Core.notifier.sound(p, Sound.BLOCK_NOTE_BLOCK_BELL,
+                    soundFor.compareTo(Priority.HIGH) >= 0 ? Notifier.PitchLevel.ERR : Notifier.PitchLevel.OK);
+        }
+    }
+
+    /* ===================== helpers ===================== */
+
+    private void refill(State st, int now) {
+        int dt = now - st.refillTick;
+        if (dt <= 0) return;
+        st.tokens = Math.min(BUCKET_CAPACITY, st.tokens + dt * REFILL_PER_TICK);
+        st.refillTick = now;
+    }
+
+    /** Make room for a message of priority pr; false if everything pending outranks it. */
+    private boolean dropLowest(State st, Priority pr) {
+        int idx = -1;
+        for (int i = 0; i < st.pending.size(); i++) {
+            Pending p = st.pending.get(i);
+            if (idx < 0 || p.cls.priority.compareTo(st.pending.get(idx).cls.priority) < 0) idx = i;
+        }
+        if (idx < 0 || st.pending.get(idx).cls.priority.compareTo(pr) > 0) return false;
+        st.pending.remove(idx);
+        return true;
+    }
+
+    private static String c(String s) {
+        return s == null ? "" : s.replace('&', '§');
+    }
+}
@@ -1,11 +1,21 @@
 package net.groundzero.util;
 
 import net.groundzero.app.Core;
+import net.groundzero.metrics.Counter;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.sound.Sound.Source;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.JoinConfiguration;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.bukkit.Bukkit;
 import org.bukkit.Sound;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -19,6 +29,14 @@ import java.util.UUID;
  *   passed in by the caller.
  * - Old style broadcastToAll(...) / broadcast(...) are kept but now delegate
  *   to the new iterable-based methods so other files don't break.
+ *
+ * Sending:
+ * - Each message is rendered once into an immutable Component (prefix + '&' codes),
+ *   recurring lines come from a small LRU template cache.
+ * - Broadcasts resolve targets into one Audience and forward the same Component / Sound
+ *   to every member (one render, one sound object, no per-player string work).
+ * - feed(...) queues kill-feed style lines; everything queued in a tick goes out as one
+ *   batched message + one sound on the next tick.
  */
 public final class Notifier {
 
@@ -39,10 +57,62 @@ public final class Notifier {
     private static final String PFX_BC_OK  = "&bGroundZero &f| &f";
     private static final String PFX_BC_ERR = "&bGroundZero &f| &c";
 
+    private static final int TEMPLATE_CACHE_SIZE = 256;
+    private static final LegacyComponentSerializer LEGACY = LegacyComponentSerializer.legacySection();
+
+    // raw prefixed line → rendered component (access-ordered LRU)
+    private final Map<String, Component> templates = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override protected boolean removeEldestEntry(Map.Entry<String, Component> e) {
+            return size() > TEMPLATE_CACHE_SIZE;
+        }
+    };
+
+    // kill feed: lines queued this tick, flushed once on the next
+    private final List<Component> feedLines = new ArrayList<>();
+    private Sound feedSound;
+    private PitchLevel feedPitch;
+    private boolean feedScheduled = false;
+
+    private final Counter sentMessages = Core.metrics.counter("groundzero_notifier_sends", "Notifier sends", "kind", "message");
+    private final Counter sentBroadcasts = Core.metrics.counter("groundzero_notifier_sends", "Notifier sends", "kind", "broadcast");
+    private final Counter sentFeeds = Core.metrics.counter("groundzero_notifier_sends", "Notifier sends", "kind", "feed");
+
     private String c(String s) {
         return s == null ? "" : s.replace('&', '§');
     }
 
+    /** Render (or reuse) one prefixed line. */
+    private Component render(String pfx, String line) {
+        String raw = pfx + (line == null ? "" : line);
+        Component cached = templates.get(raw);
+        if (cached != null) return cached;
+        Component out = LEGACY.deserialize(c(raw));
+        templates.put(raw, out);
+        return out;
+    }
+
+    /** All lines as one Component (one chat packet per recipient). */
+    private Component render(String pfx, String... lines) {
+        if (lines.length == 1) return render(pfx, lines[0]);
+        List<Component> parts = new ArrayList<>(lines.length);
+        for (String line : lines) parts.add(render(pfx, line));
+        return Component.join(JoinConfiguration.newlines(), parts);
+    }
+
+    private static net.kyori.adventure.sound.Sound adventure(Sound sound, float pitch) {
+        return net.kyori.adventure.sound.Sound.sound(sound, Source.MASTER, 1.0f, pitch);
+    }
+
+    /** Online players among targets as one forwarding Audience. */
+    private Audience audience(Iterable<?> targets) {
+        List<Player> out = new ArrayList<>();
+        for (Object o : targets) {
+            Player p = asPlayer(o);
+            if (p != null) out.add(p);
+        }
+        return Audience.audience(out);
+    }
+
     /* ----------------------- player message (keep varargs) ----------------------- */
 
     public void message(Player p, boolean isError, String... lines) {
@@ -52,22 +122,24 @@ public final class Notifier {
         final String pfx  = isError ? PFX_MSG_ERR : PFX_MSG_OK;
 
         // sound feedback
-        p.playSound(p.getLocation(), Sound.BLOCK_NOTE_BLOCK_BELL, 1.0f, pitch);
+        p.playSound(adventure(Sound.BLOCK_NOTE_BLOCK_BELL, pitch), net.kyori.adventure.sound.Sound.Emitter.self());
 
         // text lines
-        for (String s : lines) {
-            p.sendMessage(c(pfx + (s == null ? "" : s)));
-        }
+        p.sendMessage(render(pfx, lines));
+        sentMessages.inc();
+    }
+
+    /** One prefixed chat line as a Component (used by NotificationChannel). */
+    public Component line(boolean isError, String text) {
+        return render(isError ? PFX_MSG_ERR : PFX_MSG_OK, text);
     }
 
     public void message(CommandSender sender, boolean isError, String... lines) {
         if (sender == null || lines == null || lines.length == 0) return;
 
         final String pfx = isError ? PFX_MSG_ERR : PFX_MSG_OK;
-
-        for (String s : lines) {
-            sender.sendMessage(c(pfx + (s == null ? "" : s)));
-        }
+        sender.sendMessage(render(pfx, lines));
+        sentMessages.inc();
     }
 
     /* ===================== NEW: iterable-based core ===================== */
@@ -87,17 +159,50 @@ public final class Notifier {
         final float pv = (pitch == null ? PitchLevel.MID.v : pitch.v);
         final String pfx = isError ? PFX_BC_ERR : PFX_BC_OK;
 
-        for (Object o : targets) {
-            Player p = asPlayer(o);
-            if (p == null) continue;
-
-            if (playSound) {
-                p.playSound(p.getLocation(), snd, 1.0f, pv);
-            }
-            for (String line : lines) {
-                p.sendMessage(c(pfx + (line == null ? "" : line)));
-            }
+        send(audience(targets), render(pfx, lines), playSound ? adventure(snd, pv) : null);
+        sentBroadcasts.inc();
+    }
+
+    private void send(Audience aud, Component msg, net.kyori.adventure.sound.Sound snd) {
+        if (snd != null) aud.playSound(snd, net.kyori.adventure.sound.Sound.Emitter.self());
+        aud.sendMessage(msg);
+    }
+
+    /* ===================== kill feed (per-tick batch) ===================== */
+
+    /**
+     * Queue a kill-feed line for every online player.
+     * Lines queued within one tick are sent together on the next tick with a single sound
+     * (the first queued sound wins).
+     */
+    public void feed(Sound sound, PitchLevel pitch, String line) {
+        feedLines.add(LEGACY.deserialize(c(PFX_BC_OK + (line == null ? "" : line)))); // one-off lines: not cached
+        if (feedSound == null && sound != null) {
+            feedSound = sound;
+            feedPitch = pitch;
         }
+        if (feedScheduled) return;
+        feedScheduled = true;
+        // Plain Bukkit task, not Core.schedulers: the match-ending kill is fed in the same tick
+        // as GameManager's cleanup, whose Schedulers.cancelAll would drop this flush. The last
+        // lines would never be sent, and feedScheduled would stay true, silencing the feed for good.
+        Bukkit.getScheduler().runTask(Core.plugin, this::flushFeed);
+    }
+
+    private void flushFeed() {
+        feedScheduled = false;
+        if (feedLines.isEmpty()) return;
+
+        Component msg = Component.join(JoinConfiguration.newlines(), feedLines);
+        net.kyori.adventure.sound.Sound snd = (feedSound != null)
+                ? adventure(feedSound, (feedPitch == null ? PitchLevel.MID.v : feedPitch.v))
+                : null;
+        feedLines.clear();
+        feedSound = null;
+        feedPitch = null;
+
+        send(Audience.audience(Bukkit.getOnlinePlayers()), msg, snd);
+        sentFeeds.inc();
     }
 
     /**
@@ -107,11 +212,7 @@ public final class Notifier {
                                Sound sound,
                                PitchLevel pitch) {
         if (targets == null || sound == null || pitch == null) return;
-        for (Object o : targets) {
-            Player p = asPlayer(o);
-            if (p == null) continue;
-            p.playSound(p.getLocation(), sound, 1.0f, pitch.get());
-        }
+        audience(targets).playSound(adventure(sound, pitch.get()), net.kyori.adventure.sound.Sound.Emitter.self());
     }
 
     private Player asPlayer(Object o) {
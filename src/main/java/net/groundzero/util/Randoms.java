@@ -0,0 +1,48 @@
+package net.groundzero.util;
+
+import java.util.Random;
+
+/**
+ * Seedable random streams, one per consumer.
+ *
+ * - reseed(seed) at match start makes every stream reproducible from that one seed
+ *   (logged by GameManager), so a match can be re-simulated from its inputs.
+ * - Streams are independent: extra draws in one service do not shift the others.
+ * - Stream instances are stable across reseeds; callers may keep references.
+ */
+public final class Randoms {
+
+    public enum Stream {
+        SPAWN,       // initial participant spawns (GameManager)
+        VOTE,        // tie-break order (VoteService)
+        PROJECTILE,  // arrow spread (ProjectileService)
+        RESPAWN,     // spawn pool candidates (RespawnService)
+        ZONE         // zone centers (ZoneService)
+    }
+
+    private static final Stream[] STREAMS = Stream.values();
+
+    private final Random[] streams = new Random[STREAMS.length];
+    private long seed;
+
+    public Randoms(long seed) {
+        for (int i = 0; i < streams.length; i++) streams[i] = new Random();
+        reseed(seed);
+    }
+
+    public void reseed(long seed) {
+        this.seed = seed;
+        for (int i = 0; i < streams.length; i++) streams[i].setSeed(mix(seed + 0x9E3779B97F4A7C15L * (i + 1)));
+    }
+
+    public long seed() { return seed; }
+
+    public Random get(Stream s) { return streams[s.ordinal()]; }
+
+    /** splitmix64 finalizer: nearby seeds give unrelated streams. */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,204 @@
+package net.groundzero.sim;
+
+import net.groundzero.app.Core;
+import net.groundzero.fake.Fakes;
+import net.groundzero.game.GameConfig;
+import net.groundzero.game.GameState;
+import net.groundzero.listener.combat.CombatListener;
+import net.groundzero.service.ProjectileService;
+import org.bukkit.GameMode;
+import org.bukkit.damage.DamageSource;
+import org.bukkit.entity.Arrow;
+import org.bukkit.entity.Player;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.entity.EntityDamageEvent.DamageCause;
+import org.bukkit.event.entity.ProjectileHitEvent;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Headless load simulator: boots Core.init against Fakes, adds N synthetic players and runs
+ * whole matches through GameManager (countdown → vote → running → end) on the fake scheduler.
+ *
+ * While RUNNING, every tick:
+ * - players random-walk inside the border;
+ * - melee hits and arrow hits (ProjectileHitEvent + EntityDamageByEntityEvent with our payload)
+ *   are fired into CombatListener at the configured per-player rates;
+ * - deaths go through PlayerService like PlayerDeathEvent would.
+ *
+ * Reported per game phase: MSPT (mean / p50 / p99 / max), allocation rate per simulated second
+ * (thread allocation counter) and event count / throughput. Ticks run back to back, so MSPT is
+ * pure plugin cost; there is no network or world simulation behind it.
+ *
+ * Usage: LoadSimulator [--players N] [--matches M] [--match-seconds S]
+ *                      [--hits-per-sec H] [--arrow-share A] [--kills-per-min K] [--seed X]
+ */
+public final class LoadSimulator {
+
+    private int players = 50;
+    private int matches = 1;
+    private int matchSeconds = 300;
+    private double hitsPerSec = 0.5;     // per player
+    private double arrowShare = 0.5;     // share of hits that are our arrows
+    private double killsPerMin = 0.5;    // per player
+    private long seed = 1L;
+
+    private final Map<GameState, PhaseStats> stats = new EnumMap<>(GameState.class);
+    private final List<Player> all = new ArrayList<>();
+    private final CombatListener combat = new CombatListener();
+    private final DamageSource damageSource = Fakes.stub(DamageSource.class, Map.of());
+    private Random rng;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public static void main(String[] args) throws Exception {
+        LoadSimulator sim = new LoadSimulator();
+        sim.parse(args);
+        sim.run();
+    }
+
+    private void parse(String[] args) {
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String v = args[i + 1];
+            switch (args[i]) {
+                case "--players" -> players = Integer.parseInt(v);
+                case "--matches" -> matches = Integer.parseInt(v);
+                case "--match-seconds" -> matchSeconds = Integer.parseInt(v);
+                case "--hits-per-sec" -> hitsPerSec = Double.parseDouble(v);
+                case "--arrow-share" -> arrowShare = Double.parseDouble(v);
+                case "--kills-per-min" -> killsPerMin = Double.parseDouble(v);
+                case "--seed" -> seed = Long.parseLong(v);
+                default -> throw new IllegalArgumentException("unknown option " + args[i]);
+            }
+        }
+    }
+
+    private void run() throws Exception {
+        rng = new Random(seed);
+        for (GameState st : GameState.values()) stats.put(st, new PhaseStats());
+
+        File data = Files.createTempDirectory("groundzero-sim").toFile();
+        Fakes.installServer();
+        Core.init(Fakes.plugin(true, data));
+        GameConfig.Builder cfg = Core.gameConfig.toBuilder();
+        cfg.matchDurationTicks = matchSeconds * 20;
+        cfg.randomSeed = seed; // same seed → same spawns, votes, spread and zone
+        Core.gameConfig = cfg.build();
+
+        for (int i = 0; i < players; i++) {
+            Player p = Fakes.addPlayer("sim" + i);
+            Fakes.PlayerState st = Fakes.state(p.getUniqueId());
+            st.x = rng.nextDouble() * 200 - 100;
+            st.z = rng.nextDouble() * 200 - 100;
+            all.add(p);
+        }
+
+        long wall = System.nanoTime();
+        for (int m = 0; m < matches; m++) runMatch(m);
+        wall = System.nanoTime() - wall;
+
+        System.out.printf("%nGroundZero load simulation: %d players, %d match(es) of %ds, %.2f hits/s/player, %.2f kills/min/player%n",
+                players, matches, matchSeconds, hitsPerSec, killsPerMin);
+        System.out.println(PhaseStats.header());
+        for (Map.Entry<GameState, PhaseStats> e : stats.entrySet()) {
+            if (e.getValue().ticks() > 0) System.out.println(e.getValue().row(e.getKey().name()));
+        }
+        System.out.printf("wall time %.1f s%n", wall / 1e9);
+    }
+
+    private void runMatch(int index) {
+        Core.session.resetToAllSpectators();
+        for (Player p : all) Fakes.state(p.getUniqueId()).mode = GameMode.SURVIVAL;
+
+        Core.game.start(all.get(0));
+        if (Core.session.state() == GameState.IDLE) {
+            throw new IllegalStateException("match " + index + " did not start");
+        }
+
+        boolean ran = false;
+        long guard = (long) matchSeconds * 20 + 20 * 60; // pre-game + end + slack
+        while (guard-- > 0) {
+            GameState st = Core.session.state();
+            if (st == GameState.RUNNING) ran = true;
+            if (st == GameState.IDLE && ran) return;
+
+            long a0 = THREADS.getCurrentThreadAllocatedBytes();
+            long t0 = System.nanoTime();
+            if (st == GameState.RUNNING) inputs(stats.get(st));
+            Fakes.advanceTick();
+            long dt = System.nanoTime() - t0;
+            stats.get(st).add(dt, THREADS.getCurrentThreadAllocatedBytes() - a0);
+        }
+        throw new IllegalStateException("match " + index + " did not finish (state " + Core.session.state() + ")");
+    }
+
+    /* ===================== synthetic input ===================== */
+
+    private void inputs(PhaseStats ps) {
+        List<Player> alive = new ArrayList<>(all.size());
+        for (Player p : all) {
+            Fakes.PlayerState st = Fakes.state(p.getUniqueId());
+            if (st.mode == GameMode.SPECTATOR) continue;
+            if (!Core.session.getParticipantsView().contains(p.getUniqueId())) continue;
+            st.x += rng.nextGaussian() * 0.3;
+            st.z += rng.nextGaussian() * 0.3;
+            alive.add(p);
+        }
+        if (alive.size() < 2) return;
+
+        long t0 = System.nanoTime();
+        int fired = 0;
+
+        int hits = draws(alive.size() * hitsPerSec / 20.0);
+        for (int i = 0; i < hits; i++) {
+            Player a = alive.get(rng.nextInt(alive.size()));
+            Player v = alive.get(rng.nextInt(alive.size()));
+            if (a == v) continue;
+            if (rng.nextDouble() < arrowShare) {
+                Arrow arrow = ourArrow(a);
+                combat.onProjectileHit(new ProjectileHitEvent(arrow, v));
+                combat.onEntityDamageByEntity(new EntityDamageByEntityEvent(arrow, v, DamageCause.PROJECTILE, damageSource, 4.0));
+                fired += 2;
+            } else {
+                combat.onEntityDamageByEntity(new EntityDamageByEntityEvent(a, v, DamageCause.ENTITY_ATTACK, damageSource, 3.0));
+                fired++;
+            }
+        }
+
+        int kills = draws(alive.size() * killsPerMin / (60.0 * 20.0));
+        for (int i = 0; i < kills; i++) {
+            Player v = alive.get(rng.nextInt(alive.size()));
+            if (Fakes.state(v.getUniqueId()).mode == GameMode.SPECTATOR) continue;
+            Core.playerService.onDeathIngame(v);
+            fired++;
+        }
+
+        ps.addEvents(fired, System.nanoTime() - t0);
+    }
+
+    /** Integer draw with expectation mean (whole part + one Bernoulli for the rest). */
+    private int draws(double mean) {
+        int n = (int) mean;
+        return n + (rng.nextDouble() < mean - n ? 1 : 0);
+    }
+
+    private Arrow ourArrow(Player shooter) {
+        Map<Object, Object> pdc = new HashMap<>();
+        pdc.put(ProjectileService.KEY_IS_GZ, (byte) 1);
+        pdc.put(ProjectileService.KEY_WEAPON_ID, 0); // first weapon of the bundled weapons.yml
+        pdc.put(ProjectileService.KEY_OWNER_MSB, shooter.getUniqueId().getMostSignificantBits());
+        pdc.put(ProjectileService.KEY_OWNER_LSB, shooter.getUniqueId().getLeastSignificantBits());
+        pdc.put(ProjectileService.KEY_BASE_DMG, 4.0);
+        pdc.put(ProjectileService.KEY_FLAGS, 0);
+        return Fakes.arrow(pdc, shooter);
+    }
+}
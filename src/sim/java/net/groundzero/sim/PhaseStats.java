@@ -0,0 +1,53 @@
+package net.groundzero.sim;
+
+import java.util.Arrays;
+
+/**
+ * Tick cost samples for one game phase: MSPT percentiles, allocation, event counts.
+ */
+final class PhaseStats {
+
+    private long[] nanos = new long[1024];
+    private int ticks = 0;
+    private long allocated = 0;
+    private long events = 0;
+    private long eventNanos = 0;
+
+    void add(long tickNanos, long allocatedBytes) {
+        if (ticks == nanos.length) nanos = Arrays.copyOf(nanos, ticks * 2);
+        nanos[ticks++] = tickNanos;
+        allocated += allocatedBytes;
+    }
+
+    void addEvents(int n, long spentNanos) {
+        events += n;
+        eventNanos += spentNanos;
+    }
+
+    int ticks() { return ticks; }
+
+    /** One report row; alloc rate is per simulated second (20 ticks). */
+    String row(String name) {
+        if (ticks == 0) return String.format("%-24s %8d", name, 0);
+        long[] sorted = Arrays.copyOf(nanos, ticks);
+        Arrays.sort(sorted);
+        long sum = 0;
+        for (long v : sorted) sum += v;
+
+        double simSeconds = ticks / 20.0;
+        return String.format("%-24s %8d %9.3f %9.3f %9.3f %9.3f %11.2f %10d %12.0f",
+                name, ticks,
+                sum / 1e6 / ticks,
+                sorted[(int) (ticks * 0.50)] / 1e6,
+                sorted[Math.min(ticks - 1, (int) (ticks * 0.99))] / 1e6,
+                sorted[ticks - 1] / 1e6,
+                allocated / simSeconds / (1024.0 * 1024.0),
+                events,
+                eventNanos == 0 ? 0.0 : events / (eventNanos / 1e9));
+    }
+
+    static String header() {
+        return String.format("%-24s %8s %9s %9s %9s %9s %11s %10s %12s",
+                "phase", "ticks", "mspt", "p50", "p99", "max", "alloc MB/s", "events", "events/s");
+    }
+}
@@ -0,0 +1,18 @@
+package net.groundzero.sim.tune;
+
+/**
+ * Synthetic input stream for one simulated match: who fights how often, how lethal hits are,
+ * how the income vote goes. Shared read-only by every run of a sweep.
+ */
+final class MatchInputs {
+
+    int players = 16;
+    int matchSeconds = 20 * 60;
+    double hitsPerSec = 0.5;          // per average player
+    double lethalShare = 0.03;        // share of hits that kill (credited, inside the window)
+    double envDeathsPerMin = 0.05;    // per player, uncredited (fall, zone, ...)
+    double camperShare = 0.15;        // players who avoid fights
+    double camperActivity = 0.05;     // their hit rate relative to an average player
+    double activitySpread = 0.5;      // sigma of the log-normal activity of everyone else
+    int incomeVote = -1;              // IncomeOption ordinal everyone votes, -1 = random votes
+}
@@ -0,0 +1,140 @@
+package net.groundzero.sim.tune;
+
+import net.groundzero.game.GameConfig;
+import net.groundzero.game.ScoringRules;
+import net.groundzero.ui.options.IncomeOption;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * One match on plain arrays: the income vote, GameRuntimeService income, CombatIdleService
+ * camping steps and CombatOutcomeService kill scoring, all through ScoringRules.
+ * No Core, no session, no server; a 20-minute match runs in a few milliseconds.
+ *
+ * Tick order follows the live TickBus: runtime (income every 20 ticks), camping, then the
+ * combat input of the tick. Dead players sit out respawnDelayTicks.
+ */
+final class MatchModel {
+
+    /** What one run leaves behind. */
+    static final class Result {
+        double[] score;
+        double[] plasma;
+        boolean[] camper;
+        int creditedKills;
+        int uncreditedDeaths;
+        double stolen;
+        double campBurned;
+        int incomeChoice;
+    }
+
+    private static final IncomeOption[] INCOME = IncomeOption.values();
+
+    private final GameConfig cfg;
+    private final MatchInputs in;
+    private final SplittableRandom rng;
+
+    MatchModel(GameConfig cfg, MatchInputs in, long seed) {
+        this.cfg = cfg;
+        this.in = in;
+        this.rng = new SplittableRandom(seed);
+    }
+
+    Result run() {
+        final int n = in.players;
+        final Result r = new Result();
+        r.score = new double[n];
+        r.plasma = new double[n];
+        r.camper = new boolean[n];
+        Arrays.fill(r.score, cfg.baseScore);
+        Arrays.fill(r.plasma, cfg.basePlasma);
+
+        // traits: cumulative activity weights pick attackers (and victims: who fights gets hit)
+        double[] cum = new double[n];
+        double total = 0.0;
+        for (int i = 0; i < n; i++) {
+            r.camper[i] = rng.nextDouble() < in.camperShare;
+            double a = r.camper[i] ? in.camperActivity : Math.exp(rng.nextGaussian() * in.activitySpread);
+            total += a;
+            cum[i] = total;
+        }
+
+        // vote (same tie-break as VotePhase)
+        int[] counts = new int[INCOME.length];
+        for (int i = 0; i < n; i++) counts[in.incomeVote >= 0 ? in.incomeVote : rng.nextInt(INCOME.length)]++;
+        int[] rank = new int[INCOME.length];
+        ScoringRules.shuffleTieRank(rank, rng);
+        r.incomeChoice = ScoringRules.pickWinner(counts, rank);
+        final double income = ScoringRules.incomePerSecond(INCOME[r.incomeChoice].multiplier, cfg);
+
+        final int grace = ScoringRules.campGraceTicks(cfg);
+        final int ticks = in.matchSeconds * 20;
+        final double hitsPerTick = n * in.hitsPerSec / 20.0;
+        final double envPerTick = n * in.envDeathsPerMin / 1200.0;
+
+        int[] idle = new int[n];
+        int[] applied = new int[n];
+        int[] deadUntil = new int[n];
+
+        for (int t = 1; t <= ticks; t++) {
+            // runtime: income
+            if (t % 20 == 0) {
+                for (int i = 0; i < n; i++) r.plasma[i] += income;
+            }
+
+            // camping
+            for (int i = 0; i < n; i++) {
+                int step = ScoringRules.campStep(++idle[i], cfg);
+                for (int s = applied[i] + 1; s <= step; s++) {
+                    double burn = ScoringRules.campBurn(r.score[i], s, cfg);
+                    r.score[i] = Math.max(0.0, r.score[i] - burn);
+                    r.campBurned += burn;
+                }
+                if (step > applied[i]) applied[i] = step;
+            }
+
+            // combat input
+            int hits = draws(hitsPerTick);
+            for (int h = 0; h < hits; h++) {
+                int a = pick(cum, total);
+                int v = pick(cum, total);
+                if (a == v || deadUntil[a] > t || deadUntil[v] > t) continue;
+                idle[a] = grace;
+                idle[v] = grace;
+                if (rng.nextDouble() < in.lethalShare) {
+                    double vs = r.score[v];
+                    double loss = ScoringRules.killLoss(vs, cfg);
+                    double gain = ScoringRules.killGain(vs, cfg);
+                    r.score[v] = Math.max(0.0, vs - loss);
+                    r.score[a] = Math.max(0.0, r.score[a] + gain);
+                    r.stolen += gain;
+                    r.creditedKills++;
+                    deadUntil[v] = t + cfg.respawnDelayTicks;
+                }
+            }
+
+            int env = draws(envPerTick);
+            for (int e = 0; e < env; e++) {
+                int v = rng.nextInt(n);
+                if (deadUntil[v] > t) continue;
+                r.score[v] = Math.max(0.0, r.score[v] - ScoringRules.uncreditedLoss(r.score[v], cfg));
+                r.uncreditedDeaths++;
+                deadUntil[v] = t + cfg.respawnDelayTicks;
+            }
+        }
+        return r;
+    }
+
+    /** Index whose activity interval holds a uniform draw. */
+    private int pick(double[] cum, double total) {
+        int i = Arrays.binarySearch(cum, rng.nextDouble() * total);
+        return i >= 0 ? i : Math.min(cum.length - 1, -i - 1);
+    }
+
+    /** Integer draw with expectation mean (whole part + one Bernoulli for the rest). */
+    private int draws(double mean) {
+        int k = (int) mean;
+        return k + (rng.nextDouble() < mean - k ? 1 : 0);
+    }
+}
@@ -0,0 +1,103 @@
+package net.groundzero.sim.tune;
+
+import java.util.Arrays;
+
+/**
+ * Score distribution over many runs of one config. Mergeable, so fork-join batches each
+ * fill their own and the results are combined up the task tree.
+ */
+final class ScoreStats {
+
+    private double[] scores = new double[256];
+    private int count = 0;
+    private int runs = 0;
+    private double giniSum = 0.0;
+    private double topShareSum = 0.0;
+    private double camperSum = 0.0, activeSum = 0.0;
+    private int camperN = 0, activeN = 0;
+    private double plasmaSum = 0.0;
+    private long credited = 0, uncredited = 0;
+    private double stolen = 0.0, burned = 0.0;
+
+    void add(MatchModel.Result r) {
+        runs++;
+        double total = 0.0, top = 0.0;
+        for (int i = 0; i < r.score.length; i++) {
+            double s = r.score[i];
+            push(s);
+            total += s;
+            top = Math.max(top, s);
+            plasmaSum += r.plasma[i];
+            if (r.camper[i]) { camperSum += s; camperN++; }
+            else { activeSum += s; activeN++; }
+        }
+        giniSum += gini(r.score);
+        topShareSum += total > 0 ? top / total : 0.0;
+        credited += r.creditedKills;
+        uncredited += r.uncreditedDeaths;
+        stolen += r.stolen;
+        burned += r.campBurned;
+    }
+
+    ScoreStats merge(ScoreStats o) {
+        for (int i = 0; i < o.count; i++) push(o.scores[i]);
+        runs += o.runs;
+        giniSum += o.giniSum;
+        topShareSum += o.topShareSum;
+        camperSum += o.camperSum; camperN += o.camperN;
+        activeSum += o.activeSum; activeN += o.activeN;
+        plasmaSum += o.plasmaSum;
+        credited += o.credited;
+        uncredited += o.uncredited;
+        stolen += o.stolen;
+        burned += o.burned;
+        return this;
+    }
+
+    private void push(double v) {
+        if (count == scores.length) scores = Arrays.copyOf(scores, count * 2);
+        scores[count++] = v;
+    }
+
+    /** Gini coefficient of one match's final scores (0 = all equal). */
+    private static double gini(double[] v) {
+        double[] s = v.clone();
+        Arrays.sort(s);
+        double cum = 0.0, weighted = 0.0;
+        for (int i = 0; i < s.length; i++) {
+            cum += s[i];
+            weighted += (i + 1) * s[i];
+        }
+        if (cum <= 0.0) return 0.0;
+        int n = s.length;
+        return (2.0 * weighted) / (n * cum) - (n + 1.0) / n;
+    }
+
+    /** One report row (final score over all players of all runs). */
+    String row() {
+        if (count == 0) return "";
+        double[] s = Arrays.copyOf(scores, count);
+        Arrays.sort(s);
+        double sum = 0.0, sq = 0.0;
+        for (double v : s) { sum += v; sq += v * v; }
+        double mean = sum / count;
+        double sd = Math.sqrt(Math.max(0.0, sq / count - mean * mean));
+        double camper = camperN == 0 ? 0.0 : camperSum / camperN;
+        double active = activeN == 0 ? 0.0 : activeSum / activeN;
+        return String.format("%6d %8.1f %7.1f %7.1f %7.1f %7.1f %8.1f %6.3f %6.1f%% %7.1f %7.1f %6.1f%% %9.0f",
+                runs, mean, sd, pct(s, 0.10), pct(s, 0.50), pct(s, 0.90), s[count - 1],
+                giniSum / runs, 100.0 * topShareSum / runs,
+                camper, active,
+                (credited + uncredited) == 0 ? 0.0 : 100.0 * credited / (credited + uncredited),
+                plasmaSum / count);
+    }
+
+    static String header() {
+        return String.format("%6s %8s %7s %7s %7s %7s %8s %6s %7s %7s %7s %7s %9s",
+                "runs", "mean", "sd", "p10", "p50", "p90", "max", "gini", "top", "camper", "active", "kills", "plasma");
+    }
+
+    private static double pct(double[] sorted, double q) {
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * q))];
+    }
+}
@@ -0,0 +1,152 @@
+package net.groundzero.sim.tune;
+
+import net.groundzero.game.GameConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Offline GameConfig tuner: sweeps a grid of scoring values and, for each point, runs
+ * thousands of synthetic matches (MatchModel) in parallel on a fork-join pool, then prints
+ * the final score distribution.
+ *
+ * Sweepable (comma lists, cartesian product; unset = GameConfig default):
+ *   --kill-steal 0.05,0.1,0.2   --death-penalty 0.1   --camp-first-seconds 90,120
+ *   --camp-interval-seconds 60  --camp-percent 0.05   --income 5,10
+ * Match inputs:
+ *   --runs R --players N --match-seconds S --hits-per-sec H --lethal-share L
+ *   --env-deaths-per-min E --camper-share C --income-vote ORDINAL --seed X --parallelism P
+ *
+ * Run i of every grid point uses seed + i, so points are compared on the same inputs.
+ */
+public final class TuningRunner {
+
+    private static final int BATCH = 16;
+
+    private final MatchInputs in = new MatchInputs();
+    private int runs = 2000;
+    private long seed = 1L;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    private double[] killSteal, deathPenalty, campFirst, campInterval, campPercent, income;
+
+    public static void main(String[] args) {
+        TuningRunner t = new TuningRunner();
+        t.parse(args);
+        t.run();
+    }
+
+    private void parse(String[] args) {
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String v = args[i + 1];
+            switch (args[i]) {
+                case "--kill-steal" -> killSteal = list(v);
+                case "--death-penalty" -> deathPenalty = list(v);
+                case "--camp-first-seconds" -> campFirst = list(v);
+                case "--camp-interval-seconds" -> campInterval = list(v);
+                case "--camp-percent" -> campPercent = list(v);
+                case "--income" -> income = list(v);
+                case "--runs" -> runs = Integer.parseInt(v);
+                case "--players" -> in.players = Integer.parseInt(v);
+                case "--match-seconds" -> in.matchSeconds = Integer.parseInt(v);
+                case "--hits-per-sec" -> in.hitsPerSec = Double.parseDouble(v);
+                case "--lethal-share" -> in.lethalShare = Double.parseDouble(v);
+                case "--env-deaths-per-min" -> in.envDeathsPerMin = Double.parseDouble(v);
+                case "--camper-share" -> in.camperShare = Double.parseDouble(v);
+                case "--income-vote" -> in.incomeVote = Integer.parseInt(v);
+                case "--seed" -> seed = Long.parseLong(v);
+                case "--parallelism" -> parallelism = Integer.parseInt(v);
+                default -> throw new IllegalArgumentException("unknown option " + args[i]);
+            }
+        }
+    }
+
+    private void run() {
+        List<GameConfig> grid = grid();
+        System.out.printf("%nGroundZero tuning: %d config(s) × %d runs, %d players, %ds matches, %d threads%n",
+                grid.size(), runs, in.players, in.matchSeconds, parallelism);
+        System.out.printf("%-32s %s%n", "kill/death/campFirst/campInt/camp%/income", ScoreStats.header());
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            long wall = System.nanoTime();
+            for (GameConfig cfg : grid) {
+                ScoreStats st = pool.invoke(new Batch(cfg, 0, runs));
+                System.out.printf("%-32s %s%n", label(cfg), st.row());
+            }
+            wall = System.nanoTime() - wall;
+            System.out.printf("%d matches in %.1f s%n", (long) grid.size() * runs, wall / 1e9);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /** Runs [lo, hi) of one config; splits until BATCH runs, merges on the way up. */
+    private final class Batch extends RecursiveTask<ScoreStats> {
+        private final GameConfig cfg;
+        private final int lo, hi;
+
+        Batch(GameConfig cfg, int lo, int hi) {
+            this.cfg = cfg;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected ScoreStats compute() {
+            if (hi - lo <= BATCH) {
+                ScoreStats st = new ScoreStats();
+                for (int i = lo; i < hi; i++) st.add(new MatchModel(cfg, in, seed + i).run());
+                return st;
+            }
+            int mid = (lo + hi) >>> 1;
+            Batch left = new Batch(cfg, lo, mid);
+            left.fork();
+            ScoreStats right = new Batch(cfg, mid, hi).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    /* ===================== grid ===================== */
+
+    private List<GameConfig> grid() {
+        GameConfig d = GameConfig.defaults();
+        List<GameConfig> out = new ArrayList<>();
+        for (double ks : or(killSteal, d.killStealPercent))
+            for (double dp : or(deathPenalty, d.deathPenaltyPercent))
+                for (double cf : or(campFirst, d.campFirstPenaltyTicks / 20.0))
+                    for (double ci : or(campInterval, d.campPenaltyIntervalTicks / 20.0))
+                        for (double cp : or(campPercent, d.campPenaltyPercent))
+                            for (double inc : or(income, d.baseIncomePerSecond)) {
+                                GameConfig.Builder c = d.toBuilder(); // build() rejects out-of-range grid values
+                                c.killStealPercent = ks;
+                                c.deathPenaltyPercent = dp;
+                                c.campFirstPenaltyTicks = (int) (cf * 20);
+                                c.campPenaltyIntervalTicks = (int) (ci * 20);
+                                c.campPenaltyPercent = cp;
+                                c.baseIncomePerSecond = inc;
+                                out.add(c.build());
+                            }
+        return out;
+    }
+
+    private static String label(GameConfig c) {
+        return String.format("%.2f/%.2f/%ds/%ds/%.2f/%.0f",
+                c.killStealPercent, c.deathPenaltyPercent,
+                c.campFirstPenaltyTicks / 20, c.campPenaltyIntervalTicks / 20,
+                c.campPenaltyPercent, c.baseIncomePerSecond);
+    }
+
+    private static double[] or(double[] values, double dflt) {
+        return values != null ? values : new double[]{ dflt };
+    }
+
+    private static double[] list(String v) {
+        String[] parts = v.split(",");
+        double[] out = new double[parts.length];
+        for (int i = 0; i < parts.length; i++) out[i] = Double.parseDouble(parts[i].trim());
+        return out;
+    }
+}
@@ -0,0 +1,95 @@
+package net.groundzero.game;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoringRulesTest {
+
+    private static GameConfig config() {
+        GameConfig.Builder b = GameConfig.builder();
+        b.combatWindowTicks = 200;
+        b.killStealPercent = 0.10;
+        b.deathPenaltyPercent = 0.20;
+        b.nonPlayerDeathPenaltyPercent = 0.05;
+        b.campFirstPenaltyTicks = 2400;
+        b.campPenaltyIntervalTicks = 1200;
+        b.campPenaltyPercent = 0.05;
+        b.campMaxStacks = 3;
+        b.baseIncomePerSecond = 10.0;
+        return b.build();
+    }
+
+    @Test
+    void killIsCreditedOnlyInsideTheWindow() {
+        GameConfig cfg = config();
+        assertTrue(ScoringRules.creditsKill(0, cfg));
+        assertTrue(ScoringRules.creditsKill(199, cfg));
+        assertFalse(ScoringRules.creditsKill(200, cfg));
+        assertFalse(ScoringRules.creditsKill(-1, cfg));
+    }
+
+    @Test
+    void killMovesScoreByTheConfiguredShares() {
+        GameConfig cfg = config();
+        assertEquals(20.0, ScoringRules.killLoss(100.0, cfg), 1e-9);
+        assertEquals(10.0, ScoringRules.killGain(100.0, cfg), 1e-9);
+        assertEquals(5.0, ScoringRules.uncreditedLoss(100.0, cfg), 1e-9);
+        assertEquals(0.0, ScoringRules.killLoss(0.0, cfg), 1e-9);
+        assertEquals(15.0, ScoringRules.incomePerSecond(1.5, cfg), 1e-9);
+    }
+
+    @Test
+    void campStepsStartAtTheFirstPenaltyAndAdvancePerInterval() {
+        GameConfig cfg = config();
+        assertEquals(-200, ScoringRules.campGraceTicks(cfg));
+        assertEquals(0, ScoringRules.campStep(-200, cfg));
+        assertEquals(0, ScoringRules.campStep(2399, cfg));
+        assertEquals(1, ScoringRules.campStep(2400, cfg));
+        assertEquals(1, ScoringRules.campStep(3599, cfg));
+        assertEquals(2, ScoringRules.campStep(3600, cfg));
+        assertEquals(10, ScoringRules.campStep(2400 + 9 * 1200, cfg));
+    }
+
+    @Test
+    void campBurnIsCappedAtMaxStacks() {
+        GameConfig cfg = config();
+        assertEquals(0.0, ScoringRules.campBurn(100.0, 0, cfg), 1e-9);
+        assertEquals(5.0, ScoringRules.campBurn(100.0, 1, cfg), 1e-9);
+        assertEquals(15.0, ScoringRules.campBurn(100.0, 3, cfg), 1e-9);
+        assertEquals(15.0, ScoringRules.campBurn(100.0, 10, cfg), 1e-9);
+    }
+
+    @Test
+    void tieRankIsAPermutationAndRepeatsPerSeed() {
+        int[] a = new int[7], b = new int[7];
+        ScoringRules.shuffleTieRank(a, new SplittableRandom(42));
+        ScoringRules.shuffleTieRank(b, new SplittableRandom(42));
+        assertArrayEquals(a, b);
+
+        int[] sorted = a.clone();
+        Arrays.sort(sorted);
+        assertArrayEquals(new int[]{ 0, 1, 2, 3, 4, 5, 6 }, sorted);
+
+        boolean moved = false;
+        for (long seed = 0; seed < 32 && !moved; seed++) {
+            ScoringRules.shuffleTieRank(a, new SplittableRandom(seed));
+            for (int i = 0; i < a.length; i++) moved |= a[i] != i;
+        }
+        assertTrue(moved, "shuffle never moved anything");
+    }
+
+    @Test
+    void mostVotesWinAndTiesGoToTheLowerRank() {
+        int[] rank = { 2, 0, 1 };
+        assertEquals(2, ScoringRules.pickWinner(new int[]{ 1, 2, 3 }, rank));
+        assertEquals(1, ScoringRules.pickWinner(new int[]{ 3, 3, 1 }, rank));
+        assertEquals(2, ScoringRules.pickWinner(new int[]{ 4, 1, 4 }, rank));
+        // no votes at all: pure tie, decided by rank alone
+        assertEquals(1, ScoringRules.pickWinner(new int[]{ 0, 0, 0 }, rank));
+        assertEquals(0, ScoringRules.pickWinner(new int[]{ 0 }, new int[]{ 0 }));
+    }
+}
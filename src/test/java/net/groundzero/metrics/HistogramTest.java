@@ -0,0 +1,91 @@
+package net.groundzero.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HistogramTest {
+
+    private static final int MAX_INDEX = Histogram.index(Long.MAX_VALUE);
+
+    @Test
+    void smallValuesGetExactBuckets() {
+        for (int v = 0; v < 16; v++) {
+            assertEquals(v, Histogram.index(v));
+            assertEquals(v, Histogram.lowerBound(v));
+        }
+        assertEquals(16, Histogram.index(16));
+        assertEquals(16, Histogram.index(17)); // first power with 2-wide buckets
+    }
+
+    @Test
+    void lowerBoundInvertsIndex() {
+        long prev = -1;
+        for (int i = 0; i <= MAX_INDEX; i++) {
+            long lb = Histogram.lowerBound(i);
+            assertTrue(lb > prev, "bounds not increasing at " + i);
+            assertEquals(i, Histogram.index(lb));
+            prev = lb;
+        }
+        assertTrue(MAX_INDEX < (64 - 3 + 1) * 8, "Long.MAX_VALUE outside the bucket array");
+    }
+
+    @Test
+    void everyValueFallsInsideItsBucket() {
+        SplittableRandom rng = new SplittableRandom(1);
+        for (int n = 0; n < 100_000; n++) {
+            long v = rng.nextLong() >>> (1 + rng.nextInt(63));
+            check(v);
+        }
+        for (int e = 0; e < 63; e++) {
+            long p = 1L << e;
+            check(p - 1);
+            check(p);
+            check(p + 1);
+        }
+        check(Long.MAX_VALUE);
+    }
+
+    private static void check(long v) {
+        int i = Histogram.index(v);
+        long lb = Histogram.lowerBound(i);
+        assertTrue(lb <= v, v + " below its bucket");
+        if (i < MAX_INDEX) assertTrue(v < Histogram.lowerBound(i + 1), v + " above its bucket");
+        if (v >= 8) assertTrue((v - lb) <= v / 8, v + " outside the 1/8 relative error");
+    }
+
+    @Test
+    void snapshotCountsAndQuantiles() {
+        Histogram h = new Histogram(1e-9, 0, 20);
+        for (long v = 1; v <= 1000; v++) h.record(v);
+        h.record(-5); // clamped to 0
+
+        Histogram.Snapshot s = h.snapshot();
+        assertEquals(1001, s.count());
+        assertEquals(500_500, s.sum());
+        assertEquals(2, s.countAtMostPow2(0));      // 0 and 1
+        assertEquals(257, s.countAtMostPow2(8));    // le is inclusive: 256 itself counts
+        assertEquals(1001, s.countAtMostPow2(10));
+
+        long median = s.quantile(0.5);
+        assertTrue(median <= 500 && median > 500 - 500 / 8, "median " + median);
+        assertEquals(0, s.quantile(0.0));
+        assertEquals(Histogram.lowerBound(Histogram.index(999)) + 1, s.quantile(1.0));
+        assertEquals(0, new Histogram(1, 0, 1).snapshot().quantile(0.99));
+    }
+
+    @Test
+    void powerOfTwoEdgesAreInclusive() {
+        for (int e = 0; e < 62; e++) {
+            Histogram h = new Histogram(1, 0, 62);
+            h.record(1L << e);
+            h.record((1L << e) + 1);
+            Histogram.Snapshot s = h.snapshot();
+            assertEquals(1, s.countAtMostPow2(e), "le=2^" + e);
+            assertEquals(2, s.countAtMostPow2(e + 1), "le=2^" + (e + 1));
+            if (e > 0) assertEquals(0, s.countAtMostPow2(e - 1), "le=2^" + (e - 1));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package net.groundzero.service.arena;
+
+import org.bukkit.block.data.BlockData;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlockJournalTest {
+
+    private static final int[] COORDS = { 0, 1, 15, 16, 17, -1, -15, -16, -17, -4096, 29_999_999, -30_000_000 };
+    private static final int[] YS = { -2047, -64, -1, 0, 63, 319, 2047 };
+
+    /** BlockData stand-in: the journal and the snapshot overlay only read getAsString. */
+    static BlockData block(String s) {
+        return (BlockData) Proxy.newProxyInstance(BlockJournalTest.class.getClassLoader(), new Class<?>[]{ BlockData.class },
+                (proxy, m, args) -> switch (m.getName()) {
+                    case "getAsString" -> s;
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "toString" -> "BlockData[" + s + "]";
+                    default -> null;
+                });
+    }
+
+    @Test
+    void packRoundTripsNegativeCoordinatesAndYBounds() {
+        for (int x : COORDS) {
+            for (int z : COORDS) {
+                for (int y : YS) {
+                    long k = BlockJournal.pack(x, y, z);
+                    assertNotEquals(0L, k, "key 0 is the empty marker");
+                    assertEquals(x, BlockJournal.x(k));
+                    assertEquals(y, BlockJournal.y(k));
+                    assertEquals(z, BlockJournal.z(k));
+                    assertEquals(x >> 4, BlockJournal.chunkX(k));
+                    assertEquals(z >> 4, BlockJournal.chunkZ(k));
+                }
+            }
+        }
+    }
+
+    @Test
+    void sortedKeysAreGroupedByChunk() {
+        BlockJournal j = new BlockJournal();
+        BlockData stone = block("minecraft:stone");
+        for (int i = 0; i < 64; i++) {
+            // interleave four chunks around the origin, on both sides of zero
+            j.recordOriginal((i % 2 == 0) ? i : -i - 1, i - 64, (i % 3 == 0) ? i : -i - 1, stone);
+        }
+
+        long[] keys = j.sortedKeys();
+        assertEquals(64, keys.length);
+        Set<Long> done = new HashSet<>();
+        long current = Long.MIN_VALUE;
+        for (long k : keys) {
+            long chunk = ((long) BlockJournal.chunkX(k) << 32) | (BlockJournal.chunkZ(k) & 0xFFFFFFFFL);
+            if (chunk == current) continue;
+            assertTrue(done.add(chunk), "chunk appears in two separate runs");
+            current = chunk;
+        }
+    }
+
+    @Test
+    void firstOriginalWinsAndPaletteIsShared() {
+        BlockJournal j = new BlockJournal();
+        BlockData stone = block("minecraft:stone");
+        BlockData dirt = block("minecraft:dirt");
+
+        assertTrue(j.recordOriginal(-5, -64, -5, stone));
+        assertFalse(j.recordOriginal(-5, -64, -5, dirt));
+        assertTrue(j.recordOriginal(5, 319, 5, stone));
+
+        assertSame(stone, j.originalAt(BlockJournal.pack(-5, -64, -5)));
+        assertNull(j.originalAt(BlockJournal.pack(-5, -63, -5)));
+        assertEquals(2, j.size());
+        assertEquals(1, j.paletteSize());
+    }
+
+    @Test
+    void growKeepsEveryEntry() {
+        BlockJournal j = new BlockJournal();
+        BlockData[] data = { block("a"), block("b"), block("c") };
+        int n = 0;
+        for (int x = -40; x < 40; x++) {
+            for (int z = -40; z < 40; z++) {
+                j.recordOriginal(x, (x * z) % 300, z, data[Math.floorMod(x + z, 3)]);
+                n++;
+            }
+        }
+        assertEquals(n, j.size());
+        assertEquals(3, j.paletteSize());
+        for (int x = -40; x < 40; x++) {
+            for (int z = -40; z < 40; z++) {
+                assertSame(data[Math.floorMod(x + z, 3)], j.originalAt(BlockJournal.pack(x, (x * z) % 300, z)));
+            }
+        }
+
+        j.clear();
+        assertEquals(0, j.size());
+        assertEquals(0, j.sortedKeys().length);
+    }
+}
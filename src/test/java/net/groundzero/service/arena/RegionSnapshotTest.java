@@ -0,0 +1,169 @@
+package net.groundzero.service.arena;
+
+import net.groundzero.service.arena.RegionSnapshot.Section;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static net.groundzero.service.arena.BlockJournalTest.block;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RegionSnapshotTest {
+
+    private static final String AIR = "minecraft:air";
+    private static final int MIN_Y = -64;
+    private static final int SECTIONS = 24;
+
+    private static List<String> palette(int n) {
+        List<String> pal = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) pal.add("minecraft:block_" + i);
+        return pal;
+    }
+
+    private static int index(int x, int y, int z) {
+        return (((y - MIN_Y) & 15) << 8) | ((z & 15) << 4) | (x & 15);
+    }
+
+    private static RegionSnapshot airRegion(int minCx, int minCz, int maxCx, int maxCz) {
+        RegionSnapshot snap = new RegionSnapshot("test", minCx, minCz, maxCx, maxCz, MIN_Y, SECTIONS);
+        for (int c = 0; c < snap.chunkCount(); c++) {
+            Section[] secs = new Section[SECTIONS];
+            for (int sy = 0; sy < SECTIONS; sy++) secs[sy] = Section.pack(List.of(AIR), new int[4096]);
+            snap.put(c, secs);
+        }
+        return snap;
+    }
+
+    @Test
+    void singleEntryPaletteStoresNoData() {
+        Section s = Section.pack(List.of(AIR), new int[4096]);
+        assertEquals(0, s.bits);
+        assertNull(s.data);
+        assertTrue(s.isAir());
+        assertEquals(AIR, s.at(0));
+        assertEquals(AIR, s.at(4095));
+    }
+
+    @Test
+    void packUnpackRoundTripsAcrossBitWidths() {
+        // 1, 2, 2, 3, 4, 5 (12 per long), 6 (10 per long), 9 (7 per long) bits
+        for (int n : new int[]{ 2, 3, 4, 5, 16, 17, 33, 300 }) {
+            List<String> pal = palette(n);
+            int[] idx = new int[4096];
+            Random rng = new Random(n);
+            for (int i = 0; i < idx.length; i++) idx[i] = rng.nextInt(n);
+            idx[4095] = n - 1; // highest id in the last slot of the last long
+
+            Section s = Section.pack(pal, idx);
+            assertEquals(Math.max(1, 32 - Integer.numberOfLeadingZeros(n - 1)), s.bits, "bits for " + n);
+            assertEquals((4096 + (64 / s.bits) - 1) / (64 / s.bits), s.data.length);
+            for (int i = 0; i < idx.length; i++) assertEquals(pal.get(idx[i]), s.at(i));
+
+            List<String> out = new ArrayList<>();
+            int[] back = s.unpack(new HashMap<>(), out);
+            for (int i = 0; i < idx.length; i++) assertEquals(pal.get(idx[i]), out.get(back[i]));
+        }
+    }
+
+    @Test
+    void unpackRemapsIntoAnExistingPalette() {
+        int[] idx = new int[4096];
+        idx[7] = 1;
+        Section s = Section.pack(List.of("minecraft:stone", "minecraft:dirt"), idx);
+
+        Map<String, Integer> ids = new HashMap<>();
+        List<String> pal = new ArrayList<>(List.of("minecraft:dirt"));
+        ids.put("minecraft:dirt", 0);
+
+        int[] back = s.unpack(ids, pal);
+        assertEquals(List.of("minecraft:dirt", "minecraft:stone"), pal);
+        assertEquals(1, back[0]);
+        assertEquals(0, back[7]);
+    }
+
+    @Test
+    void overlayWritesOriginalsAtNegativeCoordinatesAndYBounds() {
+        RegionSnapshot snap = airRegion(-2, -2, -1, -1);
+        int ci = snap.indexOf(-1, -2);
+        assertEquals(-1, snap.chunkX(ci));
+        assertEquals(-2, snap.chunkZ(ci));
+
+        BlockJournal j = new BlockJournal();
+        j.recordOriginal(-1, -64, -17, block("minecraft:stone"));     // lowest section
+        j.recordOriginal(-16, 319, -32, block("minecraft:glass"));    // highest section
+        j.recordOriginal(-5, 100, -20, block("minecraft:dirt"));
+        j.recordOriginal(-6, 100, -20, block("minecraft:oak_log[axis=x]"));
+        j.recordOriginal(-7, 100, -20, block("minecraft:sand"));
+        j.recordOriginal(-8, 100, -20, block("minecraft:gravel"));    // section 10: air + 4 originals
+        j.recordOriginal(-1, 320, -17, block("minecraft:bedrock"));   // above the region: ignored
+        j.recordOriginal(-1, -65, -17, block("minecraft:bedrock"));   // below the region: ignored
+
+        long[] keys = j.sortedKeys();
+        snap.overlay(ci, keys, 0, keys.length, j);
+
+        Section bottom = snap.section(ci, 0);
+        assertEquals(1, bottom.bits);
+        assertEquals("minecraft:stone", bottom.at(index(-1, -64, -17)));
+        assertEquals(AIR, bottom.at(index(-2, -64, -17)));
+
+        assertEquals("minecraft:glass", snap.section(ci, SECTIONS - 1).at(index(-16, 319, -32)));
+
+        Section mid = snap.section(ci, (100 - MIN_Y) >> 4);
+        assertEquals(3, mid.bits); // palette grew from 1 entry (no data) to 5
+        assertEquals("minecraft:dirt", mid.at(index(-5, 100, -20)));
+        assertEquals("minecraft:oak_log[axis=x]", mid.at(index(-6, 100, -20)));
+        assertEquals("minecraft:sand", mid.at(index(-7, 100, -20)));
+        assertEquals("minecraft:gravel", mid.at(index(-8, 100, -20)));
+        assertEquals(AIR, mid.at(index(-9, 100, -20)));
+
+        for (int sy = 1; sy < SECTIONS - 1; sy++) {
+            if (sy != (100 - MIN_Y) >> 4) assertTrue(snap.section(ci, sy).isAir(), "section " + sy);
+        }
+        for (int c = 0; c < snap.chunkCount(); c++) {
+            if (c == ci) continue;
+            for (int sy = 0; sy < SECTIONS; sy++) assertTrue(snap.section(c, sy).isAir());
+        }
+    }
+
+    @Test
+    void writeReadRoundTrips() throws Exception {
+        RegionSnapshot snap = airRegion(-3, 2, -2, 3);
+        int[] idx = new int[4096];
+        Random rng = new Random(7);
+        for (int i = 0; i < idx.length; i++) idx[i] = rng.nextInt(20);
+        Section[] secs = new Section[SECTIONS];
+        for (int sy = 0; sy < SECTIONS; sy++) {
+            secs[sy] = (sy % 2 == 0) ? Section.pack(palette(20), idx) : Section.pack(List.of(AIR), new int[4096]);
+        }
+        snap.put(snap.indexOf(-2, 3), secs);
+
+        File file = Files.createTempFile("gz-snapshot", ".gzar").toFile();
+        try {
+            snap.write(file);
+            RegionSnapshot back = RegionSnapshot.read(file);
+
+            assertEquals("test", back.key());
+            assertEquals(MIN_Y, back.minY());
+            assertEquals(SECTIONS, back.sections());
+            assertEquals(snap.chunkCount(), back.chunkCount());
+            assertTrue(back.isComplete());
+            for (int c = 0; c < snap.chunkCount(); c++) {
+                assertEquals(snap.chunkX(c), back.chunkX(c));
+                assertEquals(snap.chunkZ(c), back.chunkZ(c));
+                for (int sy = 0; sy < SECTIONS; sy++) {
+                    Section a = snap.section(c, sy), b = back.section(c, sy);
+                    assertEquals(a.bits, b.bits);
+                    for (int i = 0; i < 4096; i++) assertEquals(a.at(i), b.at(i));
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file.toPath());
+        }
+    }
+}